@@ -1,9 +1,13 @@
 package com.lender.mortgage.config;
 
+import com.lender.mortgage.security.BoundedPasswordEncoder;
 import com.lender.mortgage.security.CustomUserDetailsService;
 import com.lender.mortgage.security.JwtAuthenticationEntryPoint;
 import com.lender.mortgage.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -35,20 +39,37 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // Raising the strength rehashes each user's password at their next successful login
+    @Value("${app.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+    
+    // 0 uses one thread per available core
+    @Value("${app.security.bcrypt.threads:0}")
+    private int bcryptThreads;
+    
+    @Value("${app.security.bcrypt.queue-limit:64}")
+    private int bcryptQueueLimit;
+    
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter();
     }
     
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = bcryptThreads > 0 ? bcryptThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads, bcryptQueueLimit,
+                meterRegistry);
     }
     
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
         return authProvider;
     }
@@ -65,6 +86,9 @@ public class SecurityConfig {
             .exceptionHandling(exception -> exception.authenticationEntryPoint(jwtAuthenticationEntryPoint))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Async re-dispatches (dashboard event stream completion) were authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
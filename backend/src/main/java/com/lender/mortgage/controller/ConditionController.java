@@ -4,6 +4,7 @@ import com.lender.mortgage.dto.request.CreateConditionRequest;
 import com.lender.mortgage.dto.request.UpdateConditionRequest;
 import com.lender.mortgage.dto.response.ApiResponse;
 import com.lender.mortgage.dto.response.ConditionResponse;
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.entity.enums.ConditionStatus;
 import com.lender.mortgage.entity.enums.Priority;
 import com.lender.mortgage.service.ConditionService;
@@ -64,9 +65,14 @@ public class ConditionController {
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Get conditions by user", description = "Get conditions assigned to specific user")
-    public ResponseEntity<ApiResponse<Page<ConditionResponse>>> getConditionsByUser(
+    public ResponseEntity<ApiResponse<?>> getConditionsByUser(
             @PathVariable @Parameter(description = "User ID") Long userId,
+            @RequestParam(required = false) @Parameter(description = "Keyset cursor; send it empty for the first page") String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            CursorPageResponse<ConditionResponse> conditions = conditionService.getConditionsByUser(userId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success("Conditions retrieved successfully", conditions));
+        }
         Page<ConditionResponse> conditions = conditionService.getConditionsByUser(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success("Conditions retrieved successfully", conditions));
     }
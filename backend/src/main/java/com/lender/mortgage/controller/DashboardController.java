@@ -1,15 +1,32 @@
 package com.lender.mortgage.controller;
 
+import com.lender.mortgage.dto.response.ActivityResponse;
 import com.lender.mortgage.dto.response.ApiResponse;
+import com.lender.mortgage.dto.response.DashboardAlertResponse;
 import com.lender.mortgage.dto.response.DashboardStatsResponse;
-import com.lender.mortgage.service.LoanService;
-import com.lender.mortgage.service.ConditionService;
+import com.lender.mortgage.dto.response.StageDurationsResponse;
+import com.lender.mortgage.entity.enums.DashboardScope;
+import com.lender.mortgage.service.DashboardAlertService;
+import com.lender.mortgage.service.DashboardSnapshotService;
+import com.lender.mortgage.service.DashboardStreamService;
+import com.lender.mortgage.service.RecentActivityService;
+import com.lender.mortgage.service.StageDurationService;
+import com.lender.mortgage.utils.VersionedSnapshotCache.Snapshot;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -18,59 +35,81 @@ import org.springframework.web.bind.annotation.*;
 public class DashboardController {
     
     @Autowired
-    private LoanService loanService;
+    private DashboardSnapshotService dashboardSnapshotService;
+    
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+    
+    @Autowired
+    private DashboardAlertService dashboardAlertService;
     
     @Autowired
-    private ConditionService conditionService;
+    private RecentActivityService recentActivityService;
+    
+    @Autowired
+    private StageDurationService stageDurationService;
     
     @GetMapping("/stats")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
-    @Operation(summary = "Get dashboard statistics", description = "Get comprehensive dashboard statistics")
-    public ResponseEntity<ApiResponse<DashboardStatsResponse>> getDashboardStats() {
-        
-        // In a real implementation, you would create a DashboardService
-        // that aggregates data from multiple sources to build the stats response
-        // For now, this is a simplified example structure
-        
-        DashboardStatsResponse stats = new DashboardStatsResponse();
-        
-        // Example: You would populate these from your services
-        // stats.setTotalLoans(loanRepository.count());
-        // stats.setActiveLoans(loanRepository.countActiveLoans());
-        // stats.setOverdueLoans((long) loanService.getOverdueLoans().size());
-        // stats.setOverdueConditions((long) conditionService.getOverdueConditions().size());
-        // ... etc
+    @Operation(summary = "Get dashboard statistics",
+               description = "Get comprehensive dashboard statistics; scope=mine or scope=team limits the pipeline to the caller's loans")
+    public ResponseEntity<ApiResponse<DashboardStatsResponse>> getDashboardStats(
+            @RequestParam(required = false) @Parameter(description = "all, mine or team") String scope,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
         
-        // For demo purposes, setting some mock values
-        stats.setTotalLoans(150L);
-        stats.setActiveLoans(45L);
-        stats.setClosedLoans(95L);
-        stats.setDeniedLoans(10L);
+        Snapshot<ApiResponse<DashboardStatsResponse>> snapshot = dashboardSnapshotService.getDashboardStats(
+                DashboardScope.fromParameter(scope), authentication.getName());
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
         
-        return ResponseEntity.ok(ApiResponse.success("Dashboard statistics retrieved", stats));
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getETag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(cacheControl)
+                .body(snapshot.getValue());
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
+    @Operation(summary = "Stream dashboard updates",
+               description = "Server-Sent Events stream: a 'snapshot' event on connect, then 'delta' events with changed statistics")
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
     }
     
     @GetMapping("/alerts")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Get dashboard alerts", description = "Get important alerts and notifications")
-    public ResponseEntity<ApiResponse<Object>> getDashboardAlerts() {
+    public ResponseEntity<ApiResponse<List<DashboardAlertResponse>>> getDashboardAlerts() {
         
-        // In a real implementation, you would aggregate alerts from various sources
-        // such as overdue loans, high priority conditions, etc.
-        
-        Object alerts = new Object(); // Placeholder
+        List<DashboardAlertResponse> alerts = dashboardAlertService.getActiveAlerts();
         
         return ResponseEntity.ok(ApiResponse.success("Dashboard alerts retrieved", alerts));
     }
     
-    @GetMapping("/recent-activity")
+    @GetMapping("/stage-durations")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
-    @Operation(summary = "Get recent activity", description = "Get recent loans and condition updates")
-    public ResponseEntity<ApiResponse<Object>> getRecentActivity() {
+    @Operation(summary = "Get stage durations", description = "Get time-in-status and days-to-close percentiles by status and loan type")
+    public ResponseEntity<ApiResponse<StageDurationsResponse>> getStageDurations() {
         
-        // In a real implementation, you would get recent loans, conditions, documents, etc.
+        StageDurationsResponse durations = stageDurationService.getStageDurations();
+        
+        return ResponseEntity.ok(ApiResponse.success("Stage durations retrieved", durations));
+    }
+    
+    @GetMapping("/recent-activity")
+    @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
+    @Operation(summary = "Get recent activity", description = "Get recent loan, condition and document activity")
+    public ResponseEntity<ApiResponse<List<ActivityResponse>>> getRecentActivity(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Long userId) {
         
-        Object recentActivity = new Object(); // Placeholder
+        List<ActivityResponse> recentActivity = recentActivityService.getRecentActivity(limit, userId);
         
         return ResponseEntity.ok(ApiResponse.success("Recent activity retrieved", recentActivity));
     }
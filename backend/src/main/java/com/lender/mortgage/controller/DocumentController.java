@@ -1,8 +1,10 @@
 package com.lender.mortgage.controller;
 
 import com.lender.mortgage.dto.response.ApiResponse;
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.dto.response.DocumentResponse;
 import com.lender.mortgage.entity.enums.DocumentType;
+import com.lender.mortgage.service.DocumentSearchIndexService;
 import com.lender.mortgage.service.DocumentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,6 +34,9 @@ public class DocumentController {
     @Autowired
     private DocumentService documentService;
     
+    @Autowired
+    private DocumentSearchIndexService documentSearchIndexService;
+    
     @PostMapping("/upload")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER') or hasRole('BORROWER')")
     @Operation(summary = "Upload document", description = "Upload a document for a loan")
@@ -81,23 +86,38 @@ public class DocumentController {
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Get documents by user", description = "Get documents uploaded by specific user")
-    public ResponseEntity<ApiResponse<Page<DocumentResponse>>> getDocumentsByUser(
+    public ResponseEntity<ApiResponse<?>> getDocumentsByUser(
             @PathVariable @Parameter(description = "User ID") Long userId,
+            @RequestParam(required = false) @Parameter(description = "Keyset cursor; send it empty for the first page") String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            CursorPageResponse<DocumentResponse> documents = documentService.getDocumentsByUser(userId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success("Documents retrieved successfully", documents));
+        }
         Page<DocumentResponse> documents = documentService.getDocumentsByUser(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success("Documents retrieved successfully", documents));
     }
     
     @GetMapping("/search")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
-    @Operation(summary = "Search documents", description = "Search documents by filename")
+    @Operation(summary = "Search documents", description = "Search documents by filename or description")
     public ResponseEntity<ApiResponse<Page<DocumentResponse>>> searchDocuments(
             @RequestParam @Parameter(description = "Search term") String q,
+            @RequestParam(required = false) @Parameter(description = "Limit to one loan") Long loanId,
+            @RequestParam(required = false) @Parameter(description = "Limit to one document type") DocumentType documentType,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<DocumentResponse> documents = documentService.searchDocuments(q, pageable);
+        Page<DocumentResponse> documents = documentService.searchDocuments(q, loanId, documentType, pageable);
         return ResponseEntity.ok(ApiResponse.success("Search results", documents));
     }
     
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Rebuild document search index", description = "Rebuild the document search index from the database")
+    public ResponseEntity<ApiResponse<String>> rebuildSearchIndex() {
+        documentSearchIndexService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("Document search index rebuilt", null));
+    }
+    
     @GetMapping("/{id}/download")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER') or hasRole('BORROWER')")
     @Operation(summary = "Download document", description = "Download document file")
@@ -1,14 +1,21 @@
 package com.lender.mortgage.controller;
 
 import com.lender.mortgage.dto.request.CreateLoanRequest;
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.dto.request.SavedLoanFilterRequest;
 import com.lender.mortgage.dto.request.UpdateLoanRequest;
 import com.lender.mortgage.dto.request.UpdateLoanStatusRequest;
 import com.lender.mortgage.dto.response.ApiResponse;
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.dto.response.LoanResponse;
 import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.dto.response.SavedLoanFilterResponse;
+import com.lender.mortgage.dto.response.SliceResponse;
+import com.lender.mortgage.entity.enums.CreditScoreBand;
 import com.lender.mortgage.entity.enums.LoanStatus;
 import com.lender.mortgage.entity.enums.LoanType;
 import com.lender.mortgage.service.LoanService;
+import com.lender.mortgage.service.SavedLoanFilterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,6 +44,9 @@ public class LoanController {
     @Autowired
     private LoanService loanService;
     
+    @Autowired
+    private SavedLoanFilterService savedLoanFilterService;
+    
     @PostMapping
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Create loan", description = "Create a new loan application")
@@ -51,8 +61,13 @@ public class LoanController {
     @GetMapping
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Get all loans", description = "Get all loans with pagination")
-    public ResponseEntity<ApiResponse<Page<LoanSummaryResponse>>> getAllLoans(
+    public ResponseEntity<ApiResponse<?>> getAllLoans(
+            @RequestParam(required = false) @Parameter(description = "Keyset cursor; send it empty for the first page") String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            CursorPageResponse<LoanSummaryResponse> loans = loanService.getAllLoans(cursor, pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
+        }
         Page<LoanSummaryResponse> loans = loanService.getAllLoans(pageable);
         return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
     }
@@ -60,9 +75,14 @@ public class LoanController {
     @GetMapping("/search")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Search loans", description = "Search loans by borrower name, loan number, or property address")
-    public ResponseEntity<ApiResponse<Page<LoanSummaryResponse>>> searchLoans(
+    public ResponseEntity<ApiResponse<?>> searchLoans(
             @RequestParam String q,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Skip the exact count and return an approximate total") boolean approximate,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (approximate) {
+            SliceResponse<LoanSummaryResponse> loans = loanService.searchLoansSlice(q, pageable);
+            return ResponseEntity.ok(ApiResponse.success("Search results", loans));
+        }
         Page<LoanSummaryResponse> loans = loanService.searchLoans(q, pageable);
         return ResponseEntity.ok(ApiResponse.success("Search results", loans));
     }
@@ -88,9 +108,14 @@ public class LoanController {
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Get loans by status", description = "Get loans with specific status")
-    public ResponseEntity<ApiResponse<Page<LoanSummaryResponse>>> getLoansByStatus(
+    public ResponseEntity<ApiResponse<?>> getLoansByStatus(
             @PathVariable @Parameter(description = "Loan status") LoanStatus status,
+            @RequestParam(required = false) @Parameter(description = "Keyset cursor; send it empty for the first page") String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            CursorPageResponse<LoanSummaryResponse> loans = loanService.getLoansByStatus(status, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
+        }
         Page<LoanSummaryResponse> loans = loanService.getLoansByStatus(status, pageable);
         return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
     }
@@ -98,9 +123,14 @@ public class LoanController {
     @GetMapping("/officer/{officerId}")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Get loans by officer", description = "Get loans assigned to specific loan officer")
-    public ResponseEntity<ApiResponse<Page<LoanSummaryResponse>>> getLoansByOfficer(
+    public ResponseEntity<ApiResponse<?>> getLoansByOfficer(
             @PathVariable @Parameter(description = "Officer ID") Long officerId,
+            @RequestParam(required = false) @Parameter(description = "Keyset cursor; send it empty for the first page") String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            CursorPageResponse<LoanSummaryResponse> loans = loanService.getLoansByOfficer(officerId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
+        }
         Page<LoanSummaryResponse> loans = loanService.getLoansByOfficer(officerId, pageable);
         return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
     }
@@ -108,9 +138,14 @@ public class LoanController {
     @GetMapping("/processor/{processorId}")
     @PreAuthorize("hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Get loans by processor", description = "Get loans assigned to specific processor")
-    public ResponseEntity<ApiResponse<Page<LoanSummaryResponse>>> getLoansByProcessor(
+    public ResponseEntity<ApiResponse<?>> getLoansByProcessor(
             @PathVariable @Parameter(description = "Processor ID") Long processorId,
+            @RequestParam(required = false) @Parameter(description = "Keyset cursor; send it empty for the first page") String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            CursorPageResponse<LoanSummaryResponse> loans = loanService.getLoansByProcessor(processorId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
+        }
         Page<LoanSummaryResponse> loans = loanService.getLoansByProcessor(processorId, pageable);
         return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
     }
@@ -118,9 +153,14 @@ public class LoanController {
     @GetMapping("/underwriter/{underwriterId}")
     @PreAuthorize("hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Get loans by underwriter", description = "Get loans assigned to specific underwriter")
-    public ResponseEntity<ApiResponse<Page<LoanSummaryResponse>>> getLoansByUnderwriter(
+    public ResponseEntity<ApiResponse<?>> getLoansByUnderwriter(
             @PathVariable @Parameter(description = "Underwriter ID") Long underwriterId,
+            @RequestParam(required = false) @Parameter(description = "Keyset cursor; send it empty for the first page") String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            CursorPageResponse<LoanSummaryResponse> loans = loanService.getLoansByUnderwriter(underwriterId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
+        }
         Page<LoanSummaryResponse> loans = loanService.getLoansByUnderwriter(underwriterId, pageable);
         return ResponseEntity.ok(ApiResponse.success("Loans retrieved successfully", loans));
     }
@@ -137,33 +177,86 @@ public class LoanController {
     
     @GetMapping("/filter")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
-    @Operation(summary = "Filter loans", description = "Filter loans by various criteria")
-    public ResponseEntity<ApiResponse<Page<LoanSummaryResponse>>> filterLoans(
+    @Operation(summary = "Filter loans", description = "Filter loans by any combination of criteria")
+    public ResponseEntity<ApiResponse<?>> filterLoans(
             @RequestParam(required = false) List<LoanStatus> statuses,
             @RequestParam(required = false) List<LoanType> types,
             @RequestParam(required = false) BigDecimal minAmount,
             @RequestParam(required = false) BigDecimal maxAmount,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) @Parameter(description = "Loan officer ID") Long officerId,
+            @RequestParam(required = false) @Parameter(description = "Processor ID") Long processorId,
+            @RequestParam(required = false) @Parameter(description = "Underwriter ID") Long underwriterId,
+            @RequestParam(required = false) @Parameter(description = "Property state code") String state,
+            @RequestParam(required = false) @Parameter(description = "Credit score bands") List<CreditScoreBand> creditBands,
+            @RequestParam(required = false) @Parameter(description = "Expected closing within this many days") Integer closingWithinDays,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Skip the exact count and return an approximate total") boolean approximate,
             @PageableDefault(size = 20) Pageable pageable) {
         
-        Page<LoanSummaryResponse> loans;
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setStatuses(statuses);
+        filter.setTypes(types);
+        filter.setMinAmount(minAmount);
+        filter.setMaxAmount(maxAmount);
+        filter.setStartDate(startDate);
+        filter.setEndDate(endDate);
+        filter.setLoanOfficerId(officerId);
+        filter.setProcessorId(processorId);
+        filter.setUnderwriterId(underwriterId);
+        filter.setState(state);
+        filter.setCreditBands(creditBands);
+        filter.setClosingWithinDays(closingWithinDays);
         
-        if (statuses != null && !statuses.isEmpty()) {
-            loans = loanService.getLoansByStatuses(statuses, pageable);
-        } else if (types != null && !types.isEmpty()) {
-            loans = loanService.getLoansByType(types, pageable);
-        } else if (minAmount != null && maxAmount != null) {
-            loans = loanService.getLoansByAmountRange(minAmount, maxAmount, pageable);
-        } else if (startDate != null && endDate != null) {
-            loans = loanService.getLoansByDateRange(startDate, endDate, pageable);
-        } else {
-            loans = loanService.getAllLoans(pageable);
+        if (approximate) {
+            SliceResponse<LoanSummaryResponse> loans = loanService.filterLoansSlice(filter, pageable);
+            return ResponseEntity.ok(ApiResponse.success("Filtered loans retrieved", loans));
         }
-        
+        Page<LoanSummaryResponse> loans = loanService.filterLoans(filter, pageable);
         return ResponseEntity.ok(ApiResponse.success("Filtered loans retrieved", loans));
     }
     
+    @PostMapping("/saved-filters")
+    @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
+    @Operation(summary = "Save filter", description = "Save a named loan filter for the current user")
+    public ResponseEntity<ApiResponse<SavedLoanFilterResponse>> createSavedFilter(
+            @Valid @RequestBody SavedLoanFilterRequest request,
+            Authentication authentication) {
+        SavedLoanFilterResponse filter = savedLoanFilterService.createFilter(request, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Filter saved successfully", filter));
+    }
+    
+    @GetMapping("/saved-filters")
+    @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
+    @Operation(summary = "Get saved filters", description = "Get the current user's saved loan filters")
+    public ResponseEntity<ApiResponse<List<SavedLoanFilterResponse>>> getSavedFilters(Authentication authentication) {
+        List<SavedLoanFilterResponse> filters = savedLoanFilterService.getFilters(authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success("Saved filters retrieved", filters));
+    }
+    
+    @GetMapping("/saved-filters/{filterId}/loans")
+    @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
+    @Operation(summary = "Open saved filter", description = "Get loans currently matching a saved filter, newest first")
+    public ResponseEntity<ApiResponse<Page<LoanSummaryResponse>>> getSavedFilterLoans(
+            @PathVariable @Parameter(description = "Saved filter ID") Long filterId,
+            Authentication authentication,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<LoanSummaryResponse> loans = savedLoanFilterService.getFilterLoans(filterId, authentication.getName(),
+                pageable);
+        return ResponseEntity.ok(ApiResponse.success("Filtered loans retrieved", loans));
+    }
+    
+    @DeleteMapping("/saved-filters/{filterId}")
+    @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
+    @Operation(summary = "Delete saved filter", description = "Delete one of the current user's saved filters")
+    public ResponseEntity<ApiResponse<String>> deleteSavedFilter(
+            @PathVariable @Parameter(description = "Saved filter ID") Long filterId,
+            Authentication authentication) {
+        savedLoanFilterService.deleteFilter(filterId, authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success("Saved filter deleted successfully", null));
+    }
+    
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
     @Operation(summary = "Update loan", description = "Update loan details")
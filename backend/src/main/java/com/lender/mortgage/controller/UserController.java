@@ -6,6 +6,7 @@ import com.lender.mortgage.dto.response.ApiResponse;
 import com.lender.mortgage.dto.response.UserResponse;
 import com.lender.mortgage.entity.enums.UserRole;
 import com.lender.mortgage.service.UserService;
+import com.lender.mortgage.service.UserSuggestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -30,6 +31,9 @@ public class UserController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private UserSuggestionService userSuggestionService;
+    
     @PostMapping
     @PreAuthorize("hasRole('MANAGER') or hasRole('UNDERWRITER')")
     @Operation(summary = "Create user", description = "Create a new user (Manager/Underwriter only)")
@@ -58,6 +62,17 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("Search results", users));
     }
     
+    @GetMapping("/suggest")
+    @PreAuthorize("hasRole('LOAN_OFFICER') or hasRole('PROCESSOR') or hasRole('UNDERWRITER') or hasRole('MANAGER')")
+    @Operation(summary = "Suggest users", description = "Active users whose name or email starts with the query, for assignment lookups")
+    public ResponseEntity<ApiResponse<List<UserResponse>>> suggestUsers(
+            @RequestParam(defaultValue = "") @Parameter(description = "Name or email prefix") String q,
+            @RequestParam(required = false) @Parameter(description = "Limit to one role") UserRole role,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Maximum suggestions (up to 50)") int limit) {
+        List<UserResponse> users = userSuggestionService.suggest(q, role, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", users));
+    }
+    
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('MANAGER') or hasRole('UNDERWRITER') or hasRole('PROCESSOR')")
     @Operation(summary = "Get user by ID", description = "Get user details by ID")
@@ -0,0 +1,75 @@
+package com.lender.mortgage.dto.request;
+
+import com.lender.mortgage.entity.enums.CreditScoreBand;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Loan list criteria; every non-empty criterion narrows the result (they are ANDed),
+ * while values inside one list criterion are alternatives (ORed).
+ */
+public class LoanFilterRequest {
+    
+    private List<LoanStatus> statuses;
+    private List<LoanType> types;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    
+    // Bounds on the loan's creation time
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    
+    private Long loanOfficerId;
+    private Long processorId;
+    private Long underwriterId;
+    
+    // Two-letter property state code
+    private String state;
+    private List<CreditScoreBand> creditBands;
+    
+    // Expected closing between now and this many days ahead
+    private Integer closingWithinDays;
+    
+    public LoanFilterRequest() {}
+    
+    // Getters and setters
+    public List<LoanStatus> getStatuses() { return statuses; }
+    public void setStatuses(List<LoanStatus> statuses) { this.statuses = statuses; }
+    
+    public List<LoanType> getTypes() { return types; }
+    public void setTypes(List<LoanType> types) { this.types = types; }
+    
+    public BigDecimal getMinAmount() { return minAmount; }
+    public void setMinAmount(BigDecimal minAmount) { this.minAmount = minAmount; }
+    
+    public BigDecimal getMaxAmount() { return maxAmount; }
+    public void setMaxAmount(BigDecimal maxAmount) { this.maxAmount = maxAmount; }
+    
+    public LocalDateTime getStartDate() { return startDate; }
+    public void setStartDate(LocalDateTime startDate) { this.startDate = startDate; }
+    
+    public LocalDateTime getEndDate() { return endDate; }
+    public void setEndDate(LocalDateTime endDate) { this.endDate = endDate; }
+    
+    public Long getLoanOfficerId() { return loanOfficerId; }
+    public void setLoanOfficerId(Long loanOfficerId) { this.loanOfficerId = loanOfficerId; }
+    
+    public Long getProcessorId() { return processorId; }
+    public void setProcessorId(Long processorId) { this.processorId = processorId; }
+    
+    public Long getUnderwriterId() { return underwriterId; }
+    public void setUnderwriterId(Long underwriterId) { this.underwriterId = underwriterId; }
+    
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    
+    public List<CreditScoreBand> getCreditBands() { return creditBands; }
+    public void setCreditBands(List<CreditScoreBand> creditBands) { this.creditBands = creditBands; }
+    
+    public Integer getClosingWithinDays() { return closingWithinDays; }
+    public void setClosingWithinDays(Integer closingWithinDays) { this.closingWithinDays = closingWithinDays; }
+}
@@ -0,0 +1,23 @@
+package com.lender.mortgage.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class SavedLoanFilterRequest {
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must be at most 100 characters")
+    private String name;
+
+    @NotNull(message = "Filter is required")
+    private LoanFilterRequest filter;
+
+    public SavedLoanFilterRequest() {}
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public LoanFilterRequest getFilter() { return filter; }
+    public void setFilter(LoanFilterRequest filter) { this.filter = filter; }
+}
@@ -0,0 +1,58 @@
+package com.lender.mortgage.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lender.mortgage.entity.enums.ActivityType;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ActivityResponse {
+    
+    private ActivityType activityType;
+    private String activityTypeDisplayName;
+    private Long loanId;
+    private String loanNumber;
+    private Long entityId;
+    private String description;
+    private String performedBy;
+    private LocalDateTime occurredAt;
+    
+    public ActivityResponse() {}
+    
+    public ActivityResponse(ActivityType activityType, Long loanId, String loanNumber, Long entityId,
+                            String description, String performedBy, LocalDateTime occurredAt) {
+        this.activityType = activityType;
+        this.activityTypeDisplayName = activityType.getDisplayName();
+        this.loanId = loanId;
+        this.loanNumber = loanNumber;
+        this.entityId = entityId;
+        this.description = description;
+        this.performedBy = performedBy;
+        this.occurredAt = occurredAt;
+    }
+    
+    // Getters and setters
+    public ActivityType getActivityType() { return activityType; }
+    public void setActivityType(ActivityType activityType) { this.activityType = activityType; }
+    
+    public String getActivityTypeDisplayName() { return activityTypeDisplayName; }
+    public void setActivityTypeDisplayName(String activityTypeDisplayName) { this.activityTypeDisplayName = activityTypeDisplayName; }
+    
+    public Long getLoanId() { return loanId; }
+    public void setLoanId(Long loanId) { this.loanId = loanId; }
+    
+    public String getLoanNumber() { return loanNumber; }
+    public void setLoanNumber(String loanNumber) { this.loanNumber = loanNumber; }
+    
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public String getPerformedBy() { return performedBy; }
+    public void setPerformedBy(String performedBy) { this.performedBy = performedBy; }
+    
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,64 @@
+package com.lender.mortgage.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lender.mortgage.entity.enums.AlertType;
+import com.lender.mortgage.entity.enums.Priority;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardAlertResponse {
+    
+    private AlertType alertType;
+    private String alertTypeDisplayName;
+    private Priority severity;
+    private Long loanId;
+    private String loanNumber;
+    private Long conditionId;
+    private String message;
+    private LocalDateTime dueDate;
+    private LocalDateTime triggeredAt;
+    
+    public DashboardAlertResponse() {}
+    
+    public DashboardAlertResponse(AlertType alertType, Priority severity, Long loanId, String loanNumber,
+                                  Long conditionId, String message, LocalDateTime dueDate, LocalDateTime triggeredAt) {
+        this.alertType = alertType;
+        this.alertTypeDisplayName = alertType.getDisplayName();
+        this.severity = severity;
+        this.loanId = loanId;
+        this.loanNumber = loanNumber;
+        this.conditionId = conditionId;
+        this.message = message;
+        this.dueDate = dueDate;
+        this.triggeredAt = triggeredAt;
+    }
+    
+    // Getters and setters
+    public AlertType getAlertType() { return alertType; }
+    public void setAlertType(AlertType alertType) { this.alertType = alertType; }
+    
+    public String getAlertTypeDisplayName() { return alertTypeDisplayName; }
+    public void setAlertTypeDisplayName(String alertTypeDisplayName) { this.alertTypeDisplayName = alertTypeDisplayName; }
+    
+    public Priority getSeverity() { return severity; }
+    public void setSeverity(Priority severity) { this.severity = severity; }
+    
+    public Long getLoanId() { return loanId; }
+    public void setLoanId(Long loanId) { this.loanId = loanId; }
+    
+    public String getLoanNumber() { return loanNumber; }
+    public void setLoanNumber(String loanNumber) { this.loanNumber = loanNumber; }
+    
+    public Long getConditionId() { return conditionId; }
+    public void setConditionId(Long conditionId) { this.conditionId = conditionId; }
+    
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    
+    public LocalDateTime getDueDate() { return dueDate; }
+    public void setDueDate(LocalDateTime dueDate) { this.dueDate = dueDate; }
+    
+    public LocalDateTime getTriggeredAt() { return triggeredAt; }
+    public void setTriggeredAt(LocalDateTime triggeredAt) { this.triggeredAt = triggeredAt; }
+}
@@ -1,6 +1,7 @@
 package com.lender.mortgage.dto.response;
 
 import com.lender.mortgage.entity.Document;
+import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.DocumentType;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
@@ -59,6 +60,36 @@ public class DocumentResponse {
         this.downloadUrl = "/api/documents/" + document.getId() + "/download";
     }
     
+    /**
+     * Projection constructor for JPQL {@code SELECT new}: takes the loan's id and number
+     * instead of the loan, so search results never load loan rows.
+     */
+    public DocumentResponse(Long id, Long loanId, String loanNumber, DocumentType documentType, String fileName,
+                            String originalFileName, String mimeType, Long fileSize, String description,
+                            User uploadedBy, Boolean active, LocalDateTime uploadedAt) {
+        this.id = id;
+        this.loanId = loanId;
+        this.loanNumber = loanNumber;
+        this.documentType = documentType;
+        this.fileName = fileName;
+        this.originalFileName = originalFileName;
+        this.mimeType = mimeType;
+        this.fileSize = fileSize;
+        this.formattedFileSize = Document.formatFileSize(fileSize);
+        this.fileExtension = Document.fileExtensionOf(originalFileName);
+        this.description = description;
+        
+        if (uploadedBy != null) {
+            this.uploadedBy = new UserResponse(uploadedBy);
+        }
+        
+        this.active = active;
+        this.uploadedAt = uploadedAt;
+        this.isPdf = Document.isPdf(mimeType, fileExtension);
+        this.isImage = Document.isImage(mimeType);
+        this.downloadUrl = "/api/documents/" + id + "/download";
+    }
+    
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -0,0 +1,50 @@
+package com.lender.mortgage.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DurationStatsResponse {
+    
+    private LoanStatus status;
+    private LoanType loanType;
+    private Long sampleCount;
+    private Double meanDays;
+    private Double p50Days;
+    private Double p90Days;
+    private Double p99Days;
+    private Double maxDays;
+    
+    public DurationStatsResponse() {}
+    
+    public DurationStatsResponse(LoanStatus status, LoanType loanType) {
+        this.status = status;
+        this.loanType = loanType;
+    }
+    
+    // Getters and setters
+    public LoanStatus getStatus() { return status; }
+    public void setStatus(LoanStatus status) { this.status = status; }
+    
+    public LoanType getLoanType() { return loanType; }
+    public void setLoanType(LoanType loanType) { this.loanType = loanType; }
+    
+    public Long getSampleCount() { return sampleCount; }
+    public void setSampleCount(Long sampleCount) { this.sampleCount = sampleCount; }
+    
+    public Double getMeanDays() { return meanDays; }
+    public void setMeanDays(Double meanDays) { this.meanDays = meanDays; }
+    
+    public Double getP50Days() { return p50Days; }
+    public void setP50Days(Double p50Days) { this.p50Days = p50Days; }
+    
+    public Double getP90Days() { return p90Days; }
+    public void setP90Days(Double p90Days) { this.p90Days = p90Days; }
+    
+    public Double getP99Days() { return p99Days; }
+    public void setP99Days(Double p99Days) { this.p99Days = p99Days; }
+    
+    public Double getMaxDays() { return maxDays; }
+    public void setMaxDays(Double maxDays) { this.maxDays = maxDays; }
+}
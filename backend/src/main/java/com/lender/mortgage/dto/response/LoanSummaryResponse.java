@@ -1,12 +1,14 @@
 package com.lender.mortgage.dto.response;
 
 import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.LoanStatus;
 import com.lender.mortgage.entity.enums.LoanType;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.function.Function;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class LoanSummaryResponse {
@@ -49,6 +51,14 @@ public class LoanSummaryResponse {
     
     // Constructor that takes Loan entity - THIS WAS MISSING!
     public LoanSummaryResponse(Loan loan) {
+        this(loan, User::getFullName);
+    }
+    
+    /**
+     * Entity constructor with staff names supplied by the caller, e.g. from the staff
+     * directory by id, so the lazy user proxies are never initialized.
+     */
+    public LoanSummaryResponse(Loan loan, Function<User, String> staffName) {
         this.id = loan.getId();
         this.loanNumber = loan.getLoanNumber();
         this.loanType = loan.getLoanType();
@@ -67,13 +77,13 @@ public class LoanSummaryResponse {
         
         // Staff summary - safely get names
         if (loan.getLoanOfficer() != null) {
-            this.loanOfficerName = loan.getLoanOfficer().getFullName();
+            this.loanOfficerName = staffName.apply(loan.getLoanOfficer());
         }
         if (loan.getProcessor() != null) {
-            this.processorName = loan.getProcessor().getFullName();
+            this.processorName = staffName.apply(loan.getProcessor());
         }
         if (loan.getUnderwriter() != null) {
-            this.underwriterName = loan.getUnderwriter().getFullName();
+            this.underwriterName = staffName.apply(loan.getUnderwriter());
         }
         
         // Key dates
@@ -94,6 +104,62 @@ public class LoanSummaryResponse {
         }
     }
     
+    /**
+     * Projection constructor for the summary list queries in LoanRepository, which select
+     * only these columns (plus the staff names through joins) instead of whole Loan rows.
+     * Produces the same values as the entity constructor.
+     */
+    public LoanSummaryResponse(Long id, String loanNumber, LoanType loanType, BigDecimal loanAmount,
+                               LoanStatus status, LocalDateTime applicationDate,
+                               String borrowerFirstName, String borrowerLastName, String borrowerEmail,
+                               String propertyCity, String propertyState, BigDecimal purchasePrice,
+                               BigDecimal propertyValue, BigDecimal borrowerAnnualIncome,
+                               String loanOfficerFirstName, String loanOfficerLastName,
+                               String processorFirstName, String processorLastName,
+                               String underwriterFirstName, String underwriterLastName,
+                               LocalDateTime preApprovalDate, LocalDateTime approvalDate, LocalDateTime closingDate,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.loanNumber = loanNumber;
+        this.loanType = loanType;
+        this.loanAmount = loanAmount;
+        this.status = status;
+        this.applicationDate = applicationDate;
+        
+        this.borrowerFullName = borrowerFirstName + " " + borrowerLastName;
+        this.borrowerEmail = borrowerEmail;
+        
+        this.propertyCity = propertyCity;
+        this.propertyState = propertyState;
+        this.purchasePrice = purchasePrice;
+        
+        // Unassigned roles come back from the left joins as null names
+        this.loanOfficerName = staffName(loanOfficerFirstName, loanOfficerLastName);
+        this.processorName = staffName(processorFirstName, processorLastName);
+        this.underwriterName = staffName(underwriterFirstName, underwriterLastName);
+        
+        this.preApprovalDate = preApprovalDate;
+        this.approvalDate = approvalDate;
+        this.closingDate = closingDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        
+        this.loanToValueRatio = Loan.calculateLoanToValueRatio(loanAmount, propertyValue);
+        this.debtToIncomeRatio = Loan.calculateDebtToIncomeRatio(loanAmount, borrowerAnnualIncome);
+        
+        if (applicationDate != null) {
+            this.daysSinceApplication = (int) java.time.temporal.ChronoUnit.DAYS
+                .between(applicationDate.toLocalDate(), java.time.LocalDate.now());
+        }
+    }
+    
+    private static String staffName(String firstName, String lastName) {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        return firstName + " " + lastName;
+    }
+    
     // All getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
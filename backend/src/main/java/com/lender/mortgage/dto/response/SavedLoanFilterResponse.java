@@ -0,0 +1,43 @@
+package com.lender.mortgage.dto.response;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SavedLoanFilterResponse {
+    
+    private Long id;
+    private String name;
+    private LoanFilterRequest filter;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    public SavedLoanFilterResponse() {}
+    
+    public SavedLoanFilterResponse(Long id, String name, LoanFilterRequest filter,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.filter = filter;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public LoanFilterRequest getFilter() { return filter; }
+    public void setFilter(LoanFilterRequest filter) { this.filter = filter; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,56 @@
+package com.lender.mortgage.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * One page of a list fetched without a COUNT query. {@code hasNext} is exact; the total,
+ * when one can be estimated cheaply, is approximate and flagged as such.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceResponse<T> {
+    
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long totalElements;
+    private Boolean totalApproximate;
+    
+    public SliceResponse() {}
+    
+    public SliceResponse(Slice<T> slice, Long approximateTotal) {
+        this.content = slice.getContent();
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+        if (approximateTotal != null) {
+            // Never report fewer than the rows already seen
+            long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements()
+                    + (slice.hasNext() ? 1 : 0);
+            this.totalElements = Math.max(approximateTotal, seen);
+            this.totalApproximate = true;
+        }
+    }
+    
+    // Getters and setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+    
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+    
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    
+    public Long getTotalElements() { return totalElements; }
+    public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
+    
+    public Boolean getTotalApproximate() { return totalApproximate; }
+    public void setTotalApproximate(Boolean totalApproximate) { this.totalApproximate = totalApproximate; }
+}
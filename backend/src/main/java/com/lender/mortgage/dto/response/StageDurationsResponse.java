@@ -0,0 +1,38 @@
+package com.lender.mortgage.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StageDurationsResponse {
+    
+    // Time spent in each status before the next transition
+    private List<DurationStatsResponse> byStatus;
+    private List<DurationStatsResponse> byStatusAndLoanType;
+    
+    // First recorded transition to CLOSED, overall (no loan type) and per loan type
+    private List<DurationStatsResponse> daysToClose;
+    
+    private Long transitionsScanned;
+    private LocalDateTime computedAt;
+    
+    public StageDurationsResponse() {}
+    
+    // Getters and setters
+    public List<DurationStatsResponse> getByStatus() { return byStatus; }
+    public void setByStatus(List<DurationStatsResponse> byStatus) { this.byStatus = byStatus; }
+    
+    public List<DurationStatsResponse> getByStatusAndLoanType() { return byStatusAndLoanType; }
+    public void setByStatusAndLoanType(List<DurationStatsResponse> byStatusAndLoanType) { this.byStatusAndLoanType = byStatusAndLoanType; }
+    
+    public List<DurationStatsResponse> getDaysToClose() { return daysToClose; }
+    public void setDaysToClose(List<DurationStatsResponse> daysToClose) { this.daysToClose = daysToClose; }
+    
+    public Long getTransitionsScanned() { return transitionsScanned; }
+    public void setTransitionsScanned(Long transitionsScanned) { this.transitionsScanned = transitionsScanned; }
+    
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+}
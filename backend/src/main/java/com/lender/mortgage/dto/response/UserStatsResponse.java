@@ -12,6 +12,9 @@ public class UserStatsResponse {
     private BigDecimal closedLoanAmount;
     private Double avgDaysToClose;
     private Double closingRatePercent;
+    private Long openConditions;
+    private Long overdueConditions;
+    private Long resolvedConditions;
     
     public UserStatsResponse() {}
     
@@ -43,4 +46,13 @@ public class UserStatsResponse {
     
     public Double getClosingRatePercent() { return closingRatePercent; }
     public void setClosingRatePercent(Double closingRatePercent) { this.closingRatePercent = closingRatePercent; }
-}
\ No newline at end of file
+    
+    public Long getOpenConditions() { return openConditions; }
+    public void setOpenConditions(Long openConditions) { this.openConditions = openConditions; }
+    
+    public Long getOverdueConditions() { return overdueConditions; }
+    public void setOverdueConditions(Long overdueConditions) { this.overdueConditions = overdueConditions; }
+    
+    public Long getResolvedConditions() { return resolvedConditions; }
+    public void setResolvedConditions(Long resolvedConditions) { this.resolvedConditions = resolvedConditions; }
+}
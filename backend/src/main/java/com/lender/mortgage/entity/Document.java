@@ -79,22 +79,39 @@ public class Document {
     
     // Business methods
     public String getFormattedFileSize() {
+        return formatFileSize(fileSize);
+    }
+    
+    public String getFileExtension() {
+        return fileExtensionOf(originalFileName);
+    }
+    
+    public boolean isPdf() {
+        return isPdf(mimeType, getFileExtension());
+    }
+    
+    public boolean isImage() {
+        return isImage(mimeType);
+    }
+    
+    // Shared with the search projection, which selects the inputs instead of the entity
+    public static String formatFileSize(Long fileSize) {
         if (fileSize < 1024) return fileSize + " B";
         if (fileSize < 1024 * 1024) return String.format("%.1f KB", fileSize / 1024.0);
         if (fileSize < 1024 * 1024 * 1024) return String.format("%.1f MB", fileSize / (1024.0 * 1024.0));
         return String.format("%.1f GB", fileSize / (1024.0 * 1024.0 * 1024.0));
     }
     
-    public String getFileExtension() {
+    public static String fileExtensionOf(String originalFileName) {
         int lastDot = originalFileName.lastIndexOf('.');
         return lastDot > 0 ? originalFileName.substring(lastDot + 1).toLowerCase() : "";
     }
     
-    public boolean isPdf() {
-        return "application/pdf".equals(mimeType) || "pdf".equals(getFileExtension());
+    public static boolean isPdf(String mimeType, String fileExtension) {
+        return "application/pdf".equals(mimeType) || "pdf".equals(fileExtension);
     }
     
-    public boolean isImage() {
+    public static boolean isImage(String mimeType) {
         return mimeType != null && mimeType.startsWith("image/");
     }
     
@@ -12,7 +12,25 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "loans")
+@Table(name = "loans", indexes = {
+    // Status equality first (lists, counts, ready-to-clear), ordered by deadline
+    @Index(name = "idx_loan_status_closing", columnList = "status, expected_closing_date"),
+    // Overdue and closing-soon filter with status NOT IN, which cannot seek on a leading status
+    @Index(name = "idx_loan_closing_status", columnList = "expected_closing_date, status"),
+    // Staff lists, filters and keyset seeks on (created_at, id)
+    @Index(name = "idx_loan_officer_created", columnList = "loan_officer_id, created_at"),
+    @Index(name = "idx_loan_processor_created", columnList = "processor_id, created_at"),
+    @Index(name = "idx_loan_underwriter_created", columnList = "underwriter_id, created_at"),
+    @Index(name = "idx_loan_borrower_email", columnList = "borrower_email"),
+    @Index(name = "idx_loan_created", columnList = "created_at")
+})
+// Staff users needed by LoanResponse, fetched with the loan in one join
+@NamedEntityGraph(name = "Loan.staff", attributeNodes = {
+    @NamedAttributeNode("loanOfficer"),
+    @NamedAttributeNode("processor"),
+    @NamedAttributeNode("underwriter"),
+    @NamedAttributeNode("createdBy")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -258,13 +276,22 @@ public class Loan {
     }
 
     public BigDecimal getLoanToValueRatio() {
+        return calculateLoanToValueRatio(loanAmount, propertyValue);
+    }
+
+    public BigDecimal getDebtToIncomeRatio() {
+        return calculateDebtToIncomeRatio(loanAmount, borrowerAnnualIncome);
+    }
+
+    // Shared with the summary projection, which selects the inputs instead of the entity
+    public static BigDecimal calculateLoanToValueRatio(BigDecimal loanAmount, BigDecimal propertyValue) {
         if (loanAmount != null && propertyValue != null && propertyValue.compareTo(BigDecimal.ZERO) > 0) {
             return loanAmount.divide(propertyValue, 4, java.math.RoundingMode.HALF_UP);
         }
         return null;
     }
 
-    public BigDecimal getDebtToIncomeRatio() {
+    public static BigDecimal calculateDebtToIncomeRatio(BigDecimal loanAmount, BigDecimal borrowerAnnualIncome) {
         if (loanAmount != null && borrowerAnnualIncome != null && borrowerAnnualIncome.compareTo(BigDecimal.ZERO) > 0) {
             BigDecimal monthlyPayment = loanAmount.multiply(BigDecimal.valueOf(0.007)); // Rough estimate
             BigDecimal monthlyIncome = borrowerAnnualIncome.divide(BigDecimal.valueOf(12), 2,
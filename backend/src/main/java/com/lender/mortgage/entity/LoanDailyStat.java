@@ -0,0 +1,93 @@
+package com.lender.mortgage.entity;
+
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Daily rollup of loan status transitions, folded from loan_status_history.
+ * One row per day, status entered, loan type and loan officer.
+ */
+@Entity
+@Table(name = "loan_daily_stats", indexes = {
+    @Index(name = "idx_daily_stats_key", columnList = "stat_date, status, loan_type, loan_officer_id"),
+    @Index(name = "idx_daily_stats_status_date", columnList = "status, stat_date")
+})
+public class LoanDailyStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_stats_seq")
+    @SequenceGenerator(name = "daily_stats_seq", sequenceName = "daily_stats_sequence", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+    
+    // Status the loans moved into on this day
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LoanStatus status;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "loan_type", nullable = false)
+    private LoanType loanType;
+    
+    // Null when the loan had no officer assigned
+    @Column(name = "loan_officer_id")
+    private Long loanOfficerId;
+    
+    @Column(name = "transition_count", nullable = false)
+    private Long transitionCount = 0L;
+    
+    @Column(name = "total_amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    
+    // Sum of days from application to this transition, for average cycle times
+    @Column(name = "total_days_from_application", nullable = false)
+    private Long totalDaysFromApplication = 0L;
+    
+    // Constructors
+    public LoanDailyStat() {}
+    
+    public LoanDailyStat(LocalDate statDate, LoanStatus status, LoanType loanType, Long loanOfficerId) {
+        this.statDate = statDate;
+        this.status = status;
+        this.loanType = loanType;
+        this.loanOfficerId = loanOfficerId;
+    }
+    
+    // Business methods
+    public void add(long count, BigDecimal amount, long daysFromApplication) {
+        this.transitionCount += count;
+        this.totalAmount = this.totalAmount.add(amount != null ? amount : BigDecimal.ZERO);
+        this.totalDaysFromApplication += daysFromApplication;
+    }
+    
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public LocalDate getStatDate() { return statDate; }
+    public void setStatDate(LocalDate statDate) { this.statDate = statDate; }
+    
+    public LoanStatus getStatus() { return status; }
+    public void setStatus(LoanStatus status) { this.status = status; }
+    
+    public LoanType getLoanType() { return loanType; }
+    public void setLoanType(LoanType loanType) { this.loanType = loanType; }
+    
+    public Long getLoanOfficerId() { return loanOfficerId; }
+    public void setLoanOfficerId(Long loanOfficerId) { this.loanOfficerId = loanOfficerId; }
+    
+    public Long getTransitionCount() { return transitionCount; }
+    public void setTransitionCount(Long transitionCount) { this.transitionCount = transitionCount; }
+    
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+    
+    public Long getTotalDaysFromApplication() { return totalDaysFromApplication; }
+    public void setTotalDaysFromApplication(Long totalDaysFromApplication) { this.totalDaysFromApplication = totalDaysFromApplication; }
+}
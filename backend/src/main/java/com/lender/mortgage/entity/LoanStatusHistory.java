@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @Table(name = "loan_status_history", indexes = {
     @Index(name = "idx_status_history_loan", columnList = "loan_id"),
     @Index(name = "idx_status_history_date", columnList = "changedAt"),
-    @Index(name = "idx_status_history_user", columnList = "changed_by_id")
+    @Index(name = "idx_status_history_user", columnList = "changed_by_id"),
+    @Index(name = "idx_status_history_loan_date", columnList = "loan_id, changedAt")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class LoanStatusHistory {
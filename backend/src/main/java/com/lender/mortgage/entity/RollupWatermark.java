@@ -0,0 +1,40 @@
+package com.lender.mortgage.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress marker for incremental rollup jobs: the highest source row id already folded in.
+ */
+@Entity
+@Table(name = "rollup_watermarks")
+public class RollupWatermark {
+    
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+    
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId = 0L;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public RollupWatermark() {}
+    
+    public RollupWatermark(String jobName) {
+        this.jobName = jobName;
+    }
+    
+    // Getters and setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+    
+    public Long getLastProcessedId() { return lastProcessedId; }
+    public void setLastProcessedId(Long lastProcessedId) { this.lastProcessedId = lastProcessedId; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,75 @@
+package com.lender.mortgage.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user's named loan filter. The criteria are a LoanFilterRequest stored as JSON, so
+ * new filter criteria need no schema change.
+ */
+@Entity
+@Table(name = "saved_loan_filters", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_saved_filter_owner_name", columnNames = {"owner_id", "name"})
+})
+public class SavedLoanFilter {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_filter_seq")
+    @SequenceGenerator(name = "saved_filter_seq", sequenceName = "saved_filter_sequence", allocationSize = 1)
+    private Long id;
+    
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+    
+    @Column(nullable = false, length = 100)
+    private String name;
+    
+    @Column(nullable = false, length = 4000)
+    private String criteria;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public SavedLoanFilter() {}
+    
+    public SavedLoanFilter(Long ownerId, String name, String criteria) {
+        this.ownerId = ownerId;
+        this.name = name;
+        this.criteria = criteria;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getOwnerId() { return ownerId; }
+    public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public String getCriteria() { return criteria; }
+    public void setCriteria(String criteria) { this.criteria = criteria; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
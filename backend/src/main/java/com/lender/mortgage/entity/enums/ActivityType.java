@@ -0,0 +1,20 @@
+package com.lender.mortgage.entity.enums;
+
+public enum ActivityType {
+    LOAN_CREATED("Loan Created", "A new loan application was started"),
+    LOAN_STATUS_CHANGED("Loan Status Changed", "A loan moved to a new status"),
+    CONDITION_COMPLETED("Condition Completed", "A loan condition was satisfied"),
+    CONDITION_WAIVED("Condition Waived", "A loan condition was waived"),
+    DOCUMENT_UPLOADED("Document Uploaded", "A document was uploaded to a loan");
+
+    private final String displayName;
+    private final String description;
+
+    ActivityType(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getDescription() { return description; }
+}
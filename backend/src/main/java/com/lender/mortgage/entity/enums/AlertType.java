@@ -0,0 +1,23 @@
+package com.lender.mortgage.entity.enums;
+
+public enum AlertType {
+    LOAN_OVERDUE("Loan Overdue", "Expected closing date has passed"),
+    LOAN_CLOSING_SOON("Loan Closing Soon", "Expected closing date is approaching"),
+    CONDITION_OVERDUE("Condition Overdue", "Condition due date has passed"),
+    CONDITION_DUE_SOON("Condition Due Soon", "Condition due date is approaching");
+
+    private final String displayName;
+    private final String description;
+
+    AlertType(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getDescription() { return description; }
+    
+    public boolean isOverdue() {
+        return this == LOAN_OVERDUE || this == CONDITION_OVERDUE;
+    }
+}
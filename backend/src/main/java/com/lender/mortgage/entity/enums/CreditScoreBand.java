@@ -0,0 +1,23 @@
+package com.lender.mortgage.entity.enums;
+
+public enum CreditScoreBand {
+    POOR("Poor", 300, 579),
+    FAIR("Fair", 580, 669),
+    GOOD("Good", 670, 739),
+    VERY_GOOD("Very Good", 740, 799),
+    EXCEPTIONAL("Exceptional", 800, 850);
+
+    private final String displayName;
+    private final int minScore;
+    private final int maxScore;
+
+    CreditScoreBand(String displayName, int minScore, int maxScore) {
+        this.displayName = displayName;
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public int getMinScore() { return minScore; }
+    public int getMaxScore() { return maxScore; }
+}
@@ -0,0 +1,32 @@
+package com.lender.mortgage.entity.enums;
+
+import com.lender.mortgage.exception.BadRequestException;
+
+public enum DashboardScope {
+    ALL("All", "The whole portfolio"),
+    MINE("Mine", "Loans the caller is assigned to"),
+    TEAM("Team", "Loans assigned to anyone on the caller's team");
+
+    private final String displayName;
+    private final String description;
+
+    DashboardScope(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getDescription() { return description; }
+
+    public static DashboardScope fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        for (DashboardScope scope : values()) {
+            if (scope.name().equalsIgnoreCase(value.trim())) {
+                return scope;
+            }
+        }
+        throw new BadRequestException("Unknown dashboard scope: " + value);
+    }
+}
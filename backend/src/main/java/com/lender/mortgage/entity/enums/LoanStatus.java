@@ -50,6 +50,11 @@ public enum LoanStatus {
         return this == CLOSED || this == DENIED || this == WITHDRAWN || this == CANCELLED || this == FUNDED;
     }
 
+    // Helper method to check if loan is still in the pipeline (matches repository "active" queries)
+    public boolean isActive() {
+        return !isTerminal();
+    }
+
     // Helper method to check valid transitions
     public boolean canTransitionTo(LoanStatus newStatus) {
         if (isTerminal()) {
@@ -0,0 +1,39 @@
+package com.lender.mortgage.event;
+
+/**
+ * Published by ConditionServiceImpl whenever a condition is written or deleted.
+ */
+public class ConditionChangedEvent {
+    
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        COMPLETED,
+        WAIVED,
+        ASSIGNED,
+        DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final ConditionSnapshot before;
+    private final ConditionSnapshot after;
+    private final String changedBy;
+    
+    public ConditionChangedEvent(ChangeType changeType, ConditionSnapshot before, ConditionSnapshot after,
+                                 String changedBy) {
+        this.changeType = changeType;
+        this.before = before;
+        this.after = after;
+        this.changedBy = changedBy;
+    }
+    
+    public ChangeType getChangeType() { return changeType; }
+    
+    // Null for CREATED
+    public ConditionSnapshot getBefore() { return before; }
+    
+    // Null for DELETED
+    public ConditionSnapshot getAfter() { return after; }
+    
+    public String getChangedBy() { return changedBy; }
+}
@@ -0,0 +1,46 @@
+package com.lender.mortgage.event;
+
+import com.lender.mortgage.entity.LoanCondition;
+import com.lender.mortgage.entity.enums.ConditionStatus;
+import com.lender.mortgage.entity.enums.ConditionType;
+import com.lender.mortgage.entity.enums.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the condition fields that in-memory dashboard structures track.
+ */
+public class ConditionSnapshot {
+    
+    private final Long id;
+    private final Long loanId;
+    private final String loanNumber;
+    private final String title;
+    private final ConditionType type;
+    private final ConditionStatus status;
+    private final Priority priority;
+    private final Long assignedToId;
+    private final LocalDateTime dueDate;
+    
+    public ConditionSnapshot(LoanCondition condition) {
+        this.id = condition.getId();
+        this.loanId = condition.getLoan() != null ? condition.getLoan().getId() : null;
+        this.loanNumber = condition.getLoan() != null ? condition.getLoan().getLoanNumber() : null;
+        this.title = condition.getTitle();
+        this.type = condition.getType();
+        this.status = condition.getStatus();
+        this.priority = condition.getPriority();
+        this.assignedToId = condition.getAssignedTo() != null ? condition.getAssignedTo().getId() : null;
+        this.dueDate = condition.getDueDate();
+    }
+    
+    public Long getId() { return id; }
+    public Long getLoanId() { return loanId; }
+    public String getLoanNumber() { return loanNumber; }
+    public String getTitle() { return title; }
+    public ConditionType getType() { return type; }
+    public ConditionStatus getStatus() { return status; }
+    public Priority getPriority() { return priority; }
+    public Long getAssignedToId() { return assignedToId; }
+    public LocalDateTime getDueDate() { return dueDate; }
+}
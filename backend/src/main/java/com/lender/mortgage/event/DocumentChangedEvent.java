@@ -0,0 +1,35 @@
+package com.lender.mortgage.event;
+
+/**
+ * Published by DocumentServiceImpl whenever a document is uploaded, edited or removed.
+ */
+public class DocumentChangedEvent {
+    
+    public enum ChangeType {
+        UPLOADED,
+        UPDATED,
+        DELETED
+    }
+    
+    private final ChangeType changeType;
+    private final DocumentSnapshot before;
+    private final DocumentSnapshot after;
+    private final String changedBy;
+    
+    public DocumentChangedEvent(ChangeType changeType, DocumentSnapshot before, DocumentSnapshot after,
+                                String changedBy) {
+        this.changeType = changeType;
+        this.before = before;
+        this.after = after;
+        this.changedBy = changedBy;
+    }
+    
+    public ChangeType getChangeType() { return changeType; }
+    
+    // Null for UPLOADED
+    public DocumentSnapshot getBefore() { return before; }
+    
+    public DocumentSnapshot getAfter() { return after; }
+    
+    public String getChangedBy() { return changedBy; }
+}
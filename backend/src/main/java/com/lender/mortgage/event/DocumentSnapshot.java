@@ -0,0 +1,44 @@
+package com.lender.mortgage.event;
+
+import com.lender.mortgage.entity.Document;
+import com.lender.mortgage.entity.enums.DocumentType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the document fields that in-memory dashboard structures track.
+ */
+public class DocumentSnapshot {
+    
+    private final Long id;
+    private final Long loanId;
+    private final String loanNumber;
+    private final DocumentType documentType;
+    private final String originalFileName;
+    private final String description;
+    private final boolean active;
+    private final Long uploadedById;
+    private final LocalDateTime uploadedAt;
+    
+    public DocumentSnapshot(Document document) {
+        this.id = document.getId();
+        this.loanId = document.getLoan() != null ? document.getLoan().getId() : null;
+        this.loanNumber = document.getLoan() != null ? document.getLoan().getLoanNumber() : null;
+        this.documentType = document.getDocumentType();
+        this.originalFileName = document.getOriginalFileName();
+        this.description = document.getDescription();
+        this.active = Boolean.TRUE.equals(document.getActive());
+        this.uploadedById = document.getUploadedBy() != null ? document.getUploadedBy().getId() : null;
+        this.uploadedAt = document.getUploadedAt();
+    }
+    
+    public Long getId() { return id; }
+    public Long getLoanId() { return loanId; }
+    public String getLoanNumber() { return loanNumber; }
+    public DocumentType getDocumentType() { return documentType; }
+    public String getOriginalFileName() { return originalFileName; }
+    public String getDescription() { return description; }
+    public boolean isActive() { return active; }
+    public Long getUploadedById() { return uploadedById; }
+    public LocalDateTime getUploadedAt() { return uploadedAt; }
+}
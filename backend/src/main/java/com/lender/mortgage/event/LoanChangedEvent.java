@@ -0,0 +1,36 @@
+package com.lender.mortgage.event;
+
+/**
+ * Published by LoanServiceImpl whenever a loan is written. Carries the loan state
+ * before and after the change so listeners can apply deltas without reloading.
+ */
+public class LoanChangedEvent {
+    
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        ASSIGNED
+    }
+    
+    private final ChangeType changeType;
+    private final LoanSnapshot before;
+    private final LoanSnapshot after;
+    private final String changedBy;
+    
+    public LoanChangedEvent(ChangeType changeType, LoanSnapshot before, LoanSnapshot after, String changedBy) {
+        this.changeType = changeType;
+        this.before = before;
+        this.after = after;
+        this.changedBy = changedBy;
+    }
+    
+    public ChangeType getChangeType() { return changeType; }
+    
+    // Null for CREATED
+    public LoanSnapshot getBefore() { return before; }
+    
+    public LoanSnapshot getAfter() { return after; }
+    
+    public String getChangedBy() { return changedBy; }
+}
@@ -0,0 +1,71 @@
+package com.lender.mortgage.event;
+
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the loan fields that in-memory dashboard and search structures track.
+ * Taken while the persistence context is open so listeners running after commit
+ * never touch lazy associations.
+ */
+public class LoanSnapshot {
+    
+    private final Long id;
+    private final String loanNumber;
+    private final LoanStatus status;
+    private final LoanType loanType;
+    private final BigDecimal loanAmount;
+    private final Long loanOfficerId;
+    private final Long processorId;
+    private final Long underwriterId;
+    private final LocalDateTime expectedClosingDate;
+    private final String borrowerFirstName;
+    private final String borrowerLastName;
+    private final String propertyAddress;
+    private final String propertyState;
+    private final Integer creditScore;
+    private final LocalDateTime createdAt;
+    
+    public LoanSnapshot(Loan loan) {
+        this.id = loan.getId();
+        this.loanNumber = loan.getLoanNumber();
+        this.status = loan.getStatus();
+        this.loanType = loan.getLoanType();
+        this.loanAmount = loan.getLoanAmount();
+        this.loanOfficerId = idOf(loan.getLoanOfficer());
+        this.processorId = idOf(loan.getProcessor());
+        this.underwriterId = idOf(loan.getUnderwriter());
+        this.expectedClosingDate = loan.getExpectedClosingDate();
+        this.borrowerFirstName = loan.getBorrowerFirstName();
+        this.borrowerLastName = loan.getBorrowerLastName();
+        this.propertyAddress = loan.getPropertyAddress();
+        this.propertyState = loan.getPropertyState();
+        this.creditScore = loan.getCreditScore();
+        this.createdAt = loan.getCreatedAt();
+    }
+    
+    private static Long idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+    
+    public Long getId() { return id; }
+    public String getLoanNumber() { return loanNumber; }
+    public LoanStatus getStatus() { return status; }
+    public LoanType getLoanType() { return loanType; }
+    public BigDecimal getLoanAmount() { return loanAmount; }
+    public Long getLoanOfficerId() { return loanOfficerId; }
+    public Long getProcessorId() { return processorId; }
+    public Long getUnderwriterId() { return underwriterId; }
+    public LocalDateTime getExpectedClosingDate() { return expectedClosingDate; }
+    public String getBorrowerFirstName() { return borrowerFirstName; }
+    public String getBorrowerLastName() { return borrowerLastName; }
+    public String getPropertyAddress() { return propertyAddress; }
+    public String getPropertyState() { return propertyState; }
+    public Integer getCreditScore() { return creditScore; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
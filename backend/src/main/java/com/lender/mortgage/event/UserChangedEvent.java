@@ -0,0 +1,31 @@
+package com.lender.mortgage.event;
+
+/**
+ * Published by UserServiceImpl whenever a user's profile, role or active flag changes.
+ */
+public class UserChangedEvent {
+    
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DEACTIVATED,
+        ACTIVATED
+    }
+    
+    private final ChangeType changeType;
+    private final UserSnapshot before;
+    private final UserSnapshot after;
+    
+    public UserChangedEvent(ChangeType changeType, UserSnapshot before, UserSnapshot after) {
+        this.changeType = changeType;
+        this.before = before;
+        this.after = after;
+    }
+    
+    public ChangeType getChangeType() { return changeType; }
+    
+    // Null for CREATED
+    public UserSnapshot getBefore() { return before; }
+    
+    public UserSnapshot getAfter() { return after; }
+}
@@ -0,0 +1,37 @@
+package com.lender.mortgage.event;
+
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.UserRole;
+
+/**
+ * Immutable copy of the user fields that in-memory directories and caches track.
+ */
+public class UserSnapshot {
+    
+    private final Long id;
+    private final String email;
+    private final String firstName;
+    private final String lastName;
+    private final UserRole role;
+    private final boolean active;
+    
+    public UserSnapshot(User user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.firstName = user.getFirstName();
+        this.lastName = user.getLastName();
+        this.role = user.getRole();
+        this.active = Boolean.TRUE.equals(user.getActive());
+    }
+    
+    public Long getId() { return id; }
+    public String getEmail() { return email; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public UserRole getRole() { return role; }
+    public boolean isActive() { return active; }
+    
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -1,21 +1,28 @@
 package com.lender.mortgage.repository;
 
+import com.lender.mortgage.dto.response.DocumentResponse;
 import com.lender.mortgage.entity.Document;
 import com.lender.mortgage.entity.Loan;
 import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.DocumentType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface DocumentRepository extends JpaRepository<Document, Long> {
+public interface DocumentRepository extends JpaRepository<Document, Long>, JpaSpecificationExecutor<Document> {
     
     List<Document> findByLoan(Loan loan);
     
@@ -44,6 +51,32 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     @Query("SELECT d FROM Document d WHERE LOWER(d.originalFileName) LIKE LOWER(CONCAT('%', :search, '%')) AND d.active = true")
     Page<Document> findByFileNameContaining(@Param("search") String search, Pageable pageable);
     
+    // Fallback while the search index is unavailable, with the index's matching rules and scope
+    @Query(value = "SELECT new com.lender.mortgage.dto.response.DocumentResponse(d.id, l.id, l.loanNumber, " +
+           "d.documentType, d.fileName, d.originalFileName, d.mimeType, d.fileSize, d.description, u, d.active, " +
+           "d.uploadedAt) FROM Document d JOIN d.loan l LEFT JOIN d.uploadedBy u WHERE d.active = true " +
+           "AND (LOWER(d.originalFileName) LIKE LOWER(CONCAT('%', :search, '%')) " +
+           "OR LOWER(d.description) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "AND (:loanId IS NULL OR l.id = :loanId) AND (:type IS NULL OR d.documentType = :type)",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.active = true " +
+           "AND (LOWER(d.originalFileName) LIKE LOWER(CONCAT('%', :search, '%')) " +
+           "OR LOWER(d.description) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "AND (:loanId IS NULL OR d.loan.id = :loanId) AND (:type IS NULL OR d.documentType = :type)")
+    Page<DocumentResponse> searchResponses(@Param("search") String search, @Param("loanId") Long loanId,
+                                           @Param("type") DocumentType type, Pageable pageable);
+    
+    // Forward-only scroll used to build the in-memory search index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT d.id, l.id, d.documentType, d.originalFileName, d.description " +
+           "FROM Document d JOIN d.loan l WHERE d.active = true")
+    Stream<Object[]> streamSearchFields();
+    
+    // Hydrates search hits; the caller restores the index's ranking
+    @Query("SELECT new com.lender.mortgage.dto.response.DocumentResponse(d.id, l.id, l.loanNumber, d.documentType, " +
+           "d.fileName, d.originalFileName, d.mimeType, d.fileSize, d.description, u, d.active, d.uploadedAt) " +
+           "FROM Document d JOIN d.loan l LEFT JOIN d.uploadedBy u WHERE d.id IN :ids AND d.active = true")
+    List<DocumentResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+    
     @Query("SELECT COUNT(d) FROM Document d WHERE d.loan = :loan AND d.active = true")
     long countActiveDocumentsByLoan(@Param("loan") Loan loan);
     
@@ -53,6 +86,15 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     @Query("SELECT SUM(d.fileSize) FROM Document d WHERE d.active = true")
     Long getTotalFileSize();
     
+    @Query("SELECT COUNT(d), SUM(CASE WHEN d.uploadedAt >= :dayStart THEN 1 ELSE 0 END) FROM Document d WHERE d.active = true")
+    List<Object[]> summarizeActiveDocuments(@Param("dayStart") LocalDateTime dayStart);
+    
+    // Newest uploads for seeding the recent-activity buffer
+    @Query("SELECT d.id, l.id, l.loanNumber, d.originalFileName, u.email, d.uploadedAt " +
+           "FROM Document d JOIN d.loan l LEFT JOIN d.uploadedBy u " +
+           "WHERE d.active = true AND d.uploadedAt IS NOT NULL ORDER BY d.uploadedAt DESC")
+    List<Object[]> findRecentUploads(Pageable pageable);
+    
     @Query("SELECT d FROM Document d WHERE d.checksum = :checksum AND d.active = true")
     List<Document> findByChecksum(@Param("checksum") String checksum);
 }
\ No newline at end of file
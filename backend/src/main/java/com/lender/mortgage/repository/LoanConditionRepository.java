@@ -9,6 +9,7 @@ import com.lender.mortgage.entity.enums.Priority;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,7 +18,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface LoanConditionRepository extends JpaRepository<LoanCondition, Long> {
+public interface LoanConditionRepository extends JpaRepository<LoanCondition, Long>, JpaSpecificationExecutor<LoanCondition> {
     
     List<LoanCondition> findByLoan(Loan loan);
     
@@ -47,6 +48,17 @@ public interface LoanConditionRepository extends JpaRepository<LoanCondition, Lo
     @Query("SELECT c FROM LoanCondition c WHERE c.assignedTo = :user AND c.status IN ('PENDING', 'IN_PROGRESS')")
     Page<LoanCondition> findActiveConditionsByUser(@Param("user") User user, Pageable pageable);
     
+    // Deadline projection for the in-memory alert engine
+    @Query("SELECT c.id, l.id, l.loanNumber, c.title, c.status, c.priority, c.dueDate " +
+           "FROM LoanCondition c JOIN c.loan l WHERE c.dueDate IS NOT NULL AND c.status IN ('PENDING', 'IN_PROGRESS')")
+    List<Object[]> findActiveConditionDeadlines();
+    
+    // Newest completed/waived conditions for seeding the recent-activity buffer
+    @Query("SELECT c.id, l.id, l.loanNumber, c.title, c.status, c.lastModifiedBy, c.completedDate " +
+           "FROM LoanCondition c JOIN c.loan l " +
+           "WHERE c.status IN ('COMPLETED', 'WAIVED') AND c.completedDate IS NOT NULL ORDER BY c.completedDate DESC")
+    List<Object[]> findRecentResolutions(Pageable pageable);
+    
     @Query("SELECT c FROM LoanCondition c WHERE c.dueDate < :date AND c.status IN ('PENDING', 'IN_PROGRESS')")
     List<LoanCondition> findOverdueConditions(@Param("date") LocalDateTime date);
     
@@ -68,4 +80,16 @@ public interface LoanConditionRepository extends JpaRepository<LoanCondition, Lo
     
     @Query("SELECT c.type, COUNT(c) FROM LoanCondition c WHERE c.status IN ('PENDING', 'IN_PROGRESS') GROUP BY c.type")
     List<Object[]> countActiveConditionsByType();
-}
\ No newline at end of file
+    
+    @Query("SELECT c.status, c.type, c.priority, COUNT(c), " +
+           "SUM(CASE WHEN c.dueDate < :now THEN 1 ELSE 0 END) " +
+           "FROM LoanCondition c GROUP BY c.status, c.type, c.priority")
+    List<Object[]> summarizeConditions(@Param("now") LocalDateTime now);
+    
+    @Query("SELECT c.assignedTo.id, " +
+           "SUM(CASE WHEN c.status IN ('PENDING', 'IN_PROGRESS') THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.status IN ('PENDING', 'IN_PROGRESS') AND c.dueDate < :now THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.status IN ('COMPLETED', 'WAIVED') THEN 1 ELSE 0 END) " +
+           "FROM LoanCondition c WHERE c.assignedTo IS NOT NULL GROUP BY c.assignedTo.id")
+    List<Object[]> summarizeByAssignee(@Param("now") LocalDateTime now);
+}
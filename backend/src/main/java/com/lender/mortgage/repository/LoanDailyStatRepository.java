@@ -0,0 +1,28 @@
+package com.lender.mortgage.repository;
+
+import com.lender.mortgage.entity.LoanDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LoanDailyStatRepository extends JpaRepository<LoanDailyStat, Long> {
+    
+    List<LoanDailyStat> findByStatDateIn(Collection<LocalDate> statDates);
+    
+    // Closings this week/month, closed amount this month, cycle time and closing rate
+    @Query("SELECT " +
+           "SUM(CASE WHEN s.status = 'CLOSED' AND s.statDate >= :monthStart THEN s.transitionCount ELSE 0 END), " +
+           "SUM(CASE WHEN s.status = 'CLOSED' AND s.statDate >= :weekStart THEN s.transitionCount ELSE 0 END), " +
+           "SUM(CASE WHEN s.status = 'CLOSED' AND s.statDate >= :monthStart THEN s.totalAmount ELSE 0 END), " +
+           "SUM(CASE WHEN s.status = 'CLOSED' THEN s.transitionCount ELSE 0 END), " +
+           "SUM(CASE WHEN s.status = 'CLOSED' THEN s.totalDaysFromApplication ELSE 0 END), " +
+           "SUM(CASE WHEN s.status IN ('DENIED', 'WITHDRAWN', 'CANCELLED') THEN s.transitionCount ELSE 0 END) " +
+           "FROM LoanDailyStat s WHERE s.status IN ('CLOSED', 'DENIED', 'WITHDRAWN', 'CANCELLED')")
+    List<Object[]> summarizeClosings(@Param("weekStart") LocalDate weekStart, @Param("monthStart") LocalDate monthStart);
+}
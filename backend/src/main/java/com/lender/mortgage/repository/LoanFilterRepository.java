@@ -0,0 +1,33 @@
+package com.lender.mortgage.repository;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.entity.Loan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface LoanFilterRepository {
+    
+    /**
+     * Loans matching every criterion of the filter, in one query
+     */
+    Page<Loan> filter(LoanFilterRequest filter, Pageable pageable);
+    
+    /**
+     * Same filter, projected straight into summary rows
+     */
+    Page<LoanSummaryResponse> filterSummaries(LoanFilterRequest filter, Pageable pageable);
+    
+    /**
+     * Same filter as summary rows, without the count query
+     */
+    Slice<LoanSummaryResponse> filterSummarySlice(LoanFilterRequest filter, Pageable pageable);
+    
+    /**
+     * Id and expected closing date of every matching loan, for materialized saved filters
+     */
+    List<Object[]> filterIds(LoanFilterRequest filter);
+}
@@ -0,0 +1,216 @@
+package com.lender.mortgage.repository;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.enums.CreditScoreBand;
+import com.lender.mortgage.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders a loan filter as one JPQL statement whose text depends only on which criteria
+ * are present (and how many credit-score ranges), never on their values. Repeated
+ * filter shapes therefore hit Hibernate's query plan cache, and IN-clause padding keeps
+ * the number of distinct SQL strings per shape small.
+ *
+ * Equality predicates on the staff foreign keys and property state come first,
+ * then the IN lists, then the ranges, so the leading predicates line up with the
+ * leading columns of the loans indexes.
+ */
+public class LoanFilterRepositoryImpl implements LoanFilterRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<Loan> filter(LoanFilterRequest filter, Pageable pageable) {
+        return filter(filter, pageable, "SELECT l FROM Loan l", Loan.class);
+    }
+    
+    @Override
+    public Page<LoanSummaryResponse> filterSummaries(LoanFilterRequest filter, Pageable pageable) {
+        return filter(filter, pageable, LoanRepository.SUMMARY_SELECT, LoanSummaryResponse.class);
+    }
+    
+    @Override
+    public Slice<LoanSummaryResponse> filterSummarySlice(LoanFilterRequest filter, Pageable pageable) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = where(filter, parameters);
+        TypedQuery<LoanSummaryResponse> query = entityManager.createQuery(
+                LoanRepository.SUMMARY_SELECT + where + orderBy(pageable.getSort()), LoanSummaryResponse.class);
+        parameters.forEach(query::setParameter);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+        
+        // One row past the page says whether there is a next page
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<LoanSummaryResponse> rows = query.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+    
+    @Override
+    public List<Object[]> filterIds(LoanFilterRequest filter) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                "SELECT l.id, l.expectedClosingDate FROM Loan l" + where(filter, parameters), Object[].class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+    
+    private <T> Page<T> filter(LoanFilterRequest filter, Pageable pageable, String select, Class<T> resultType) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = where(filter, parameters);
+        
+        String jpql = select + where + orderBy(pageable.getSort());
+        TypedQuery<T> query = entityManager.createQuery(jpql, resultType);
+        parameters.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<T> content = query.getResultList();
+        
+        // Skipped when the page itself shows the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(l) FROM Loan l" + where, Long.class);
+            parameters.forEach(count::setParameter);
+            return count.getSingleResult();
+        });
+    }
+    
+    private static String where(LoanFilterRequest filter, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder();
+        
+        equal(where, parameters, "l.loanOfficer.id", "loanOfficerId", filter.getLoanOfficerId());
+        equal(where, parameters, "l.processor.id", "processorId", filter.getProcessorId());
+        equal(where, parameters, "l.underwriter.id", "underwriterId", filter.getUnderwriterId());
+        if (filter.getState() != null && !filter.getState().isBlank()) {
+            equal(where, parameters, "l.propertyState", "state", filter.getState().trim().toUpperCase(Locale.ROOT));
+        }
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            and(where).append("l.status IN :statuses");
+            parameters.put("statuses", filter.getStatuses());
+        }
+        if (filter.getTypes() != null && !filter.getTypes().isEmpty()) {
+            and(where).append("l.loanType IN :types");
+            parameters.put("types", filter.getTypes());
+        }
+        range(where, parameters, "l.createdAt", "startDate", filter.getStartDate(), "endDate", filter.getEndDate());
+        range(where, parameters, "l.loanAmount", "minAmount", filter.getMinAmount(), "maxAmount", filter.getMaxAmount());
+        if (filter.getClosingWithinDays() != null) {
+            if (filter.getClosingWithinDays() < 0) {
+                throw new BadRequestException("closingWithinDays must not be negative");
+            }
+            LocalDateTime now = LocalDateTime.now();
+            range(where, parameters, "l.expectedClosingDate", "closingFrom", now,
+                    "closingTo", now.plusDays(filter.getClosingWithinDays()));
+        }
+        creditBands(where, parameters, filter.getCreditBands());
+        return where.toString();
+    }
+    
+    private static StringBuilder and(StringBuilder where) {
+        return where.append(where.length() == 0 ? " WHERE " : " AND ");
+    }
+    
+    private static void equal(StringBuilder where, Map<String, Object> parameters,
+                              String path, String name, Object value) {
+        if (value != null) {
+            and(where).append(path).append(" = :").append(name);
+            parameters.put(name, value);
+        }
+    }
+    
+    private static <T extends Comparable<? super T>> void range(StringBuilder where, Map<String, Object> parameters,
+                                                                String path, String minName, T min,
+                                                                String maxName, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new BadRequestException(minName + " must not be after " + maxName);
+        }
+        if (min != null && max != null) {
+            and(where).append(path).append(" BETWEEN :").append(minName).append(" AND :").append(maxName);
+        } else if (min != null) {
+            and(where).append(path).append(" >= :").append(minName);
+        } else if (max != null) {
+            and(where).append(path).append(" <= :").append(maxName);
+        }
+        if (min != null) {
+            parameters.put(minName, min);
+        }
+        if (max != null) {
+            parameters.put(maxName, max);
+        }
+    }
+    
+    /**
+     * Adjacent bands collapse into one range, so e.g. GOOD + VERY_GOOD + EXCEPTIONAL is a
+     * single {@code creditScore BETWEEN 670 AND 850}.
+     */
+    private static void creditBands(StringBuilder where, Map<String, Object> parameters, List<CreditScoreBand> bands) {
+        if (bands == null || bands.isEmpty()) {
+            return;
+        }
+        List<int[]> ranges = new ArrayList<>();
+        bands.stream().distinct().sorted(Comparator.comparingInt(CreditScoreBand::getMinScore)).forEach(band -> {
+            int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && band.getMinScore() <= last[1] + 1) {
+                last[1] = Math.max(last[1], band.getMaxScore());
+            } else {
+                ranges.add(new int[] {band.getMinScore(), band.getMaxScore()});
+            }
+        });
+        and(where).append('(');
+        for (int i = 0; i < ranges.size(); i++) {
+            if (i > 0) {
+                where.append(" OR ");
+            }
+            where.append("l.creditScore BETWEEN :creditMin").append(i).append(" AND :creditMax").append(i);
+            parameters.put("creditMin" + i, ranges.get(i)[0]);
+            parameters.put("creditMax" + i, ranges.get(i)[1]);
+        }
+        where.append(')');
+    }
+    
+    /**
+     * Only plain attributes of Loan may be sorted on; id breaks ties so pages are stable.
+     */
+    private String orderBy(Sort sort) {
+        EntityType<Loan> loan = entityManager.getMetamodel().entity(Loan.class);
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : sort) {
+            Attribute<? super Loan, ?> attribute;
+            try {
+                attribute = loan.getAttribute(order.getProperty());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Cannot sort loans by " + order.getProperty());
+            }
+            if (attribute.isAssociation() || attribute.isCollection()) {
+                throw new BadRequestException("Cannot sort loans by " + order.getProperty());
+            }
+            orderBy.append("l.").append(attribute.getName())
+                    .append(order.isAscending() ? " ASC" : " DESC").append(", ");
+        }
+        return orderBy.append("l.id DESC").toString();
+    }
+}
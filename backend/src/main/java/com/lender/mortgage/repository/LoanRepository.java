@@ -1,26 +1,49 @@
 package com.lender.mortgage.repository;
 
+import com.lender.mortgage.dto.response.LoanSummaryResponse;
 import com.lender.mortgage.entity.Loan;
 import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.LoanStatus;
 import com.lender.mortgage.entity.enums.LoanType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface LoanRepository extends JpaRepository<Loan, Long> {
+public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificationExecutor<Loan>, LoanFilterRepository {
     
+    // Summary list rows: only the LoanSummaryResponse columns, staff names joined in the same statement
+    String SUMMARY_SELECT = "SELECT new com.lender.mortgage.dto.response.LoanSummaryResponse(" +
+            "l.id, l.loanNumber, l.loanType, l.loanAmount, l.status, l.applicationDate, " +
+            "l.borrowerFirstName, l.borrowerLastName, l.borrowerEmail, " +
+            "l.propertyCity, l.propertyState, l.purchasePrice, l.propertyValue, l.borrowerAnnualIncome, " +
+            "o.firstName, o.lastName, p.firstName, p.lastName, u.firstName, u.lastName, " +
+            "l.preApprovalDate, l.approvalDate, l.closingDate, l.createdAt, l.updatedAt) " +
+            "FROM Loan l LEFT JOIN l.loanOfficer o LEFT JOIN l.processor p LEFT JOIN l.underwriter u";
+    
+    @EntityGraph("Loan.staff")
     Optional<Loan> findByLoanNumber(String loanNumber);
     
+    // Detail reads build a LoanResponse with every staff user
+    @EntityGraph("Loan.staff")
+    Optional<Loan> findWithStaffById(Long id);
+    
     List<Loan> findByStatus(LoanStatus status);
     
     Page<Loan> findByStatus(LoanStatus status, Pageable pageable);
@@ -50,6 +73,11 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
            "LOWER(l.propertyAddress) LIKE LOWER(CONCAT('%', :search, '%'))")
     Page<Loan> findBySearchTerm(@Param("search") String search, Pageable pageable);
     
+    // Forward-only scroll used to build the in-memory search index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT l.id, l.loanNumber, l.borrowerLastName, l.borrowerFirstName, l.propertyAddress FROM Loan l")
+    Stream<Object[]> streamSearchFields();
+    
     @Query("SELECT l FROM Loan l WHERE l.status IN :statuses")
     Page<Loan> findByStatusIn(@Param("statuses") List<LoanStatus> statuses, Pageable pageable);
     
@@ -66,11 +94,78 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
                                      @Param("endDate") LocalDateTime endDate, 
                                      Pageable pageable);
     
+    // Summary projections for the paged list endpoints; counts skip the staff joins
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(l) FROM Loan l")
+    Page<LoanSummaryResponse> findSummaries(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE l.id IN :ids")
+    List<LoanSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.status = :status",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.status = :status")
+    Page<LoanSummaryResponse> findSummariesByStatus(@Param("status") LoanStatus status, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.status IN :statuses",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.status IN :statuses")
+    Page<LoanSummaryResponse> findSummariesByStatusIn(@Param("statuses") List<LoanStatus> statuses, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.loanOfficer.id = :officerId",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.loanOfficer.id = :officerId")
+    Page<LoanSummaryResponse> findSummariesByLoanOfficerId(@Param("officerId") Long officerId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.processor.id = :processorId",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.processor.id = :processorId")
+    Page<LoanSummaryResponse> findSummariesByProcessorId(@Param("processorId") Long processorId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.underwriter.id = :underwriterId",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.underwriter.id = :underwriterId")
+    Page<LoanSummaryResponse> findSummariesByUnderwriterId(@Param("underwriterId") Long underwriterId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.borrowerEmail = :email",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.borrowerEmail = :email")
+    Page<LoanSummaryResponse> findSummariesByBorrowerEmail(@Param("email") String email, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE " +
+           "LOWER(l.borrowerFirstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.borrowerLastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.loanNumber) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.propertyAddress) LIKE LOWER(CONCAT('%', :search, '%'))",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE " +
+           "LOWER(l.borrowerFirstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.borrowerLastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.loanNumber) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.propertyAddress) LIKE LOWER(CONCAT('%', :search, '%'))")
+    Page<LoanSummaryResponse> findSummariesBySearchTerm(@Param("search") String search, Pageable pageable);
+    
+    // Slice return type: Spring Data fetches one extra row instead of counting
+    @Query(SUMMARY_SELECT + " WHERE " +
+           "LOWER(l.borrowerFirstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.borrowerLastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.loanNumber) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(l.propertyAddress) LIKE LOWER(CONCAT('%', :search, '%'))")
+    Slice<LoanSummaryResponse> findSummarySliceBySearchTerm(@Param("search") String search, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.loanType IN :types",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.loanType IN :types")
+    Page<LoanSummaryResponse> findSummariesByLoanTypeIn(@Param("types") List<LoanType> types, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.loanAmount BETWEEN :minAmount AND :maxAmount",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.loanAmount BETWEEN :minAmount AND :maxAmount")
+    Page<LoanSummaryResponse> findSummariesByLoanAmountBetween(@Param("minAmount") BigDecimal minAmount,
+                                                              @Param("maxAmount") BigDecimal maxAmount,
+                                                              Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE l.createdAt BETWEEN :startDate AND :endDate",
+           countQuery = "SELECT COUNT(l) FROM Loan l WHERE l.createdAt BETWEEN :startDate AND :endDate")
+    Page<LoanSummaryResponse> findSummariesByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                             @Param("endDate") LocalDateTime endDate,
+                                                             Pageable pageable);
+    
     // Dashboard statistics queries
     @Query("SELECT COUNT(l) FROM Loan l WHERE l.status = :status")
     long countByStatus(@Param("status") LoanStatus status);
     
-    @Query("SELECT COUNT(l) FROM Loan l WHERE l.status NOT IN ('CLOSED', 'DENIED', 'WITHDRAWN', 'CANCELLED')")
+    @Query("SELECT COUNT(l) FROM Loan l WHERE l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED')")
     long countActiveLoans();
     
     @Query("SELECT SUM(l.loanAmount) FROM Loan l WHERE l.status = 'CLOSED' AND l.closingDate BETWEEN :startDate AND :endDate")
@@ -80,21 +175,89 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
     @Query("SELECT AVG(l.loanAmount) FROM Loan l WHERE l.status = 'CLOSED'")
     Double averageClosedLoanAmount();
     
+    // Loans created per calendar day as [year, month, day, count], for approximate range totals
+    @Query("SELECT YEAR(l.createdAt), MONTH(l.createdAt), DAY(l.createdAt), COUNT(l) FROM Loan l " +
+           "GROUP BY YEAR(l.createdAt), MONTH(l.createdAt), DAY(l.createdAt)")
+    List<Object[]> countCreatedByDay();
+    
     @Query("SELECT l.loanType, COUNT(l) FROM Loan l GROUP BY l.loanType")
     List<Object[]> countLoansByType();
     
     @Query("SELECT l.status, COUNT(l) FROM Loan l GROUP BY l.status")
     List<Object[]> countLoansByStatus();
     
-    @Query("SELECT l FROM Loan l WHERE l.expectedClosingDate < :date AND l.status NOT IN ('CLOSED', 'DENIED', 'WITHDRAWN', 'CANCELLED')")
+    // Single-pass dashboard aggregates
+    @Query("SELECT l.status, l.loanType, COUNT(l), SUM(l.loanAmount) FROM Loan l GROUP BY l.status, l.loanType")
+    List<Object[]> summarizeLoansByStatusAndType();
+    
+    @Query("SELECT l.status, l.loanType, o.id, p.id, u.id, COUNT(l), SUM(l.loanAmount) FROM Loan l " +
+           "LEFT JOIN l.loanOfficer o LEFT JOIN l.processor p LEFT JOIN l.underwriter u " +
+           "WHERE o.id IS NOT NULL OR p.id IS NOT NULL OR u.id IS NOT NULL " +
+           "GROUP BY l.status, l.loanType, o.id, p.id, u.id")
+    List<Object[]> summarizeLoansByAssignment();
+    
+    @Query("SELECT l.status, l.loanType, COUNT(l), SUM(l.loanAmount) FROM Loan l " +
+           "LEFT JOIN l.loanOfficer o LEFT JOIN l.processor p LEFT JOIN l.underwriter u " +
+           "WHERE o.id IN :staffIds OR p.id IN :staffIds OR u.id IN :staffIds " +
+           "GROUP BY l.status, l.loanType")
+    List<Object[]> summarizeLoansByStatusAndTypeForStaff(@Param("staffIds") Collection<Long> staffIds);
+    
+    @Query("SELECT " +
+           "SUM(CASE WHEN l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED') AND l.expectedClosingDate < :now THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED') AND l.expectedClosingDate BETWEEN :now AND :soon THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN l.status = 'APPROVED_WITH_CONDITIONS' AND NOT EXISTS " +
+           "(SELECT c FROM LoanCondition c WHERE c.loan = l AND c.status IN ('PENDING', 'IN_PROGRESS')) THEN 1 ELSE 0 END) " +
+           "FROM Loan l")
+    List<Object[]> summarizeLoanAlerts(@Param("now") LocalDateTime now, @Param("soon") LocalDateTime soon);
+    
+    // Deadline projection for the in-memory alert engine
+    @Query("SELECT l.id, l.loanNumber, l.status, l.expectedClosingDate FROM Loan l " +
+           "WHERE l.expectedClosingDate IS NOT NULL AND l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED')")
+    List<Object[]> findActiveClosingDeadlines();
+    
+    // Per-staff leaderboard rows: user id, total, active, closed, other terminal, amount, closed amount, closed days
+    @Query("SELECT l.loanOfficer.id, COUNT(l), " +
+           "SUM(CASE WHEN l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED') THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN l.status IN ('DENIED', 'WITHDRAWN', 'CANCELLED') THEN 1 ELSE 0 END), " +
+           "SUM(l.loanAmount), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' THEN l.loanAmount ELSE 0 END), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' AND l.closingDate IS NOT NULL " +
+           "THEN (l.closingDate - l.applicationDate) BY DAY ELSE 0 END) " +
+           "FROM Loan l WHERE l.loanOfficer IS NOT NULL GROUP BY l.loanOfficer.id")
+    List<Object[]> summarizeByLoanOfficer();
+    
+    @Query("SELECT l.processor.id, COUNT(l), " +
+           "SUM(CASE WHEN l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED') THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN l.status IN ('DENIED', 'WITHDRAWN', 'CANCELLED') THEN 1 ELSE 0 END), " +
+           "SUM(l.loanAmount), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' THEN l.loanAmount ELSE 0 END), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' AND l.closingDate IS NOT NULL " +
+           "THEN (l.closingDate - l.applicationDate) BY DAY ELSE 0 END) " +
+           "FROM Loan l WHERE l.processor IS NOT NULL GROUP BY l.processor.id")
+    List<Object[]> summarizeByProcessor();
+    
+    @Query("SELECT l.underwriter.id, COUNT(l), " +
+           "SUM(CASE WHEN l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED') THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN l.status IN ('DENIED', 'WITHDRAWN', 'CANCELLED') THEN 1 ELSE 0 END), " +
+           "SUM(l.loanAmount), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' THEN l.loanAmount ELSE 0 END), " +
+           "SUM(CASE WHEN l.status = 'CLOSED' AND l.closingDate IS NOT NULL " +
+           "THEN (l.closingDate - l.applicationDate) BY DAY ELSE 0 END) " +
+           "FROM Loan l WHERE l.underwriter IS NOT NULL GROUP BY l.underwriter.id")
+    List<Object[]> summarizeByUnderwriter();
+    
+    @Query("SELECT l FROM Loan l WHERE l.expectedClosingDate < :date AND l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED')")
     List<Loan> findOverdueLoans(@Param("date") LocalDateTime date);
     
-    @Query("SELECT l FROM Loan l WHERE l.expectedClosingDate BETWEEN :startDate AND :endDate AND l.status NOT IN ('CLOSED', 'DENIED', 'WITHDRAWN', 'CANCELLED')")
+    @Query("SELECT l FROM Loan l WHERE l.expectedClosingDate BETWEEN :startDate AND :endDate AND l.status NOT IN ('CLOSED', 'FUNDED', 'DENIED', 'WITHDRAWN', 'CANCELLED')")
     List<Loan> findLoansClosingSoon(@Param("startDate") LocalDateTime startDate, 
                                    @Param("endDate") LocalDateTime endDate);
     
     @Query("SELECT l FROM Loan l WHERE l.status = 'APPROVED_WITH_CONDITIONS' AND " +
-           "SIZE(l.conditions) = (SELECT COUNT(c) FROM LoanCondition c WHERE c.loan = l AND c.status = 'COMPLETED')")
+           "NOT EXISTS (SELECT c FROM LoanCondition c WHERE c.loan = l AND c.status IN ('PENDING', 'IN_PROGRESS'))")
     List<Loan> findLoansReadyToClearToClose();
     
     boolean existsByLoanNumber(String loanNumber);
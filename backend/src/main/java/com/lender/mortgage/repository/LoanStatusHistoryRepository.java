@@ -4,15 +4,19 @@ import com.lender.mortgage.entity.Loan;
 import com.lender.mortgage.entity.LoanStatusHistory;
 import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.LoanStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface LoanStatusHistoryRepository extends JpaRepository<LoanStatusHistory, Long> {
@@ -42,4 +46,26 @@ public interface LoanStatusHistoryRepository extends JpaRepository<LoanStatusHis
     
     @Query("SELECT COUNT(h) FROM LoanStatusHistory h WHERE h.loan = :loan")
     long countByLoan(@Param("loan") Loan loan);
-}
\ No newline at end of file
+    
+    // Incremental rollup support
+    @Query("SELECT MAX(h.id) FROM LoanStatusHistory h WHERE h.id > :afterId AND h.changedAt <= :cutoff")
+    Long findMaxIdAfter(@Param("afterId") Long afterId, @Param("cutoff") LocalDateTime cutoff);
+    
+    @Query("SELECT CAST(h.changedAt AS LocalDate), h.toStatus, l.loanType, o.id, COUNT(h), SUM(l.loanAmount), " +
+           "SUM((h.changedAt - l.applicationDate) BY DAY) " +
+           "FROM LoanStatusHistory h JOIN h.loan l LEFT JOIN l.loanOfficer o " +
+           "WHERE h.id > :afterId AND h.id <= :upToId " +
+           "GROUP BY CAST(h.changedAt AS LocalDate), h.toStatus, l.loanType, o.id")
+    List<Object[]> summarizeTransitionsByDay(@Param("afterId") Long afterId, @Param("upToId") Long upToId);
+    
+    // Newest transitions for seeding the recent-activity buffer
+    @Query("SELECT l.id, l.loanNumber, h.fromStatus, h.toStatus, u.email, h.changedAt " +
+           "FROM LoanStatusHistory h JOIN h.loan l LEFT JOIN h.changedBy u ORDER BY h.changedAt DESC")
+    List<Object[]> findRecentTransitions(Pageable pageable);
+    
+    // Forward-only scroll for stage analytics; rows are projections so nothing accumulates in the session
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT l.id, l.loanType, h.toStatus, h.changedAt FROM LoanStatusHistory h JOIN h.loan l " +
+           "ORDER BY l.id, h.changedAt, h.id")
+    Stream<Object[]> streamTransitionsByLoan();
+}
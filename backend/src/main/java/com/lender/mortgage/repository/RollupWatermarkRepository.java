@@ -0,0 +1,20 @@
+package com.lender.mortgage.repository;
+
+import com.lender.mortgage.entity.RollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RollupWatermarkRepository extends JpaRepository<RollupWatermark, String> {
+    
+    // Row lock keeps two nodes from folding the same history twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM RollupWatermark w WHERE w.jobName = :jobName")
+    Optional<RollupWatermark> findForUpdate(@Param("jobName") String jobName);
+}
@@ -0,0 +1,20 @@
+package com.lender.mortgage.repository;
+
+import com.lender.mortgage.entity.SavedLoanFilter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedLoanFilterRepository extends JpaRepository<SavedLoanFilter, Long> {
+    
+    List<SavedLoanFilter> findByOwnerIdOrderByNameAsc(Long ownerId);
+    
+    Optional<SavedLoanFilter> findByIdAndOwnerId(Long id, Long ownerId);
+    
+    long countByOwnerId(Long ownerId);
+    
+    boolean existsByOwnerIdAndName(Long ownerId, String name);
+}
@@ -24,8 +24,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     List<User> findByRoleAndActiveTrue(UserRole role);
     
+    List<User> findByManagerIdAndActiveTrue(Long managerId);
+    
     Page<User> findByActiveTrue(Pageable pageable);
     
+    List<User> findByActiveTrue();
+    
     @Query("SELECT u FROM User u WHERE u.active = true AND " +
            "(LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -41,6 +45,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.lastLoginAt < :date AND u.active = true")
     List<User> findUsersNotLoggedInSince(@Param("date") LocalDateTime date);
     
+    // Id, first and last name of every user, for the in-memory staff directory
+    @Query("SELECT u.id, u.firstName, u.lastName FROM User u")
+    List<Object[]> findAllNames();
+    
     boolean existsByEmail(String email);
     
     boolean existsByEmailAndIdNot(String email, Long id);
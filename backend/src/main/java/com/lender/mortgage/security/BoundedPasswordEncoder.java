@@ -0,0 +1,95 @@
+package com.lender.mortgage.security;
+
+import com.lender.mortgage.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password encoder that runs the wrapped (BCrypt) encoder on a small dedicated pool, so
+ * a burst of logins can use at most that many cores and cannot starve other requests.
+ *
+ * The pool has a fixed number of threads and a bounded queue. When the queue is full
+ * the call fails immediately with {@link ServiceUnavailableException} rather than
+ * parking another request thread behind the backlog.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    
+    private static final String METRIC_PREFIX = "auth.password";
+    
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
+    
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueLimit, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueLimit), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.rejections = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Password hashing requests shed because the queue was full")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+    
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+    
+    // Cheap: only inspects the stored hash's prefix
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+    
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private <T> T run(Callable<T> work) {
+        Future<T> result;
+        try {
+            result = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password check was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
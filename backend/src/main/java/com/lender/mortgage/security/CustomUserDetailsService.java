@@ -1,20 +1,63 @@
 package com.lender.mortgage.security;
 
 import com.lender.mortgage.entity.User;
+import com.lender.mortgage.event.UserChangedEvent;
 import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.utils.ExpiringCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
+    
+    private static final String METRIC_PREFIX = "auth.principal.cache";
     
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private int principalCacheMaxSize;
+    
+    @Value("${app.security.principal-cache.ttl-seconds:300}")
+    private long principalCacheTtlSeconds;
+    
+    // Active users by email for authenticating bearer tokens; login always reads the database
+    private ExpiringCache<String, User> principals;
+    
+    @PostConstruct
+    public void init() {
+        principals = new ExpiringCache<>(principalCacheMaxSize, TimeUnit.SECONDS.toNanos(principalCacheTtlSeconds));
+        
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", principals, ExpiringCache::getHitCount)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", principals, ExpiringCache::getMissCount)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", principals, ExpiringCache::getEvictionCount)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", principals, ExpiringCache::size)
+                .register(meterRegistry);
+    }
+    
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -23,4 +66,42 @@ public class CustomUserDetailsService implements UserDetailsService {
         
         return user;
     }
+    
+    /**
+     * Store a stored password rehashed at the current BCrypt strength. Called after a
+     * successful login whose hash was made at a lower strength; not a password change.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User stored = userRepository.findByEmailAndActiveTrue(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + user.getUsername()));
+        stored.setPasswordHash(newPassword);
+        logger.info("Rehashed password for {} at the current work factor", stored.getEmail());
+        return userRepository.save(stored);
+    }
+    
+    /**
+     * Principal for an already verified token. Served from the principal cache, which
+     * committed user changes invalidate and which expires entries after a few minutes
+     * so changes made by other instances are picked up too.
+     */
+    public UserDetails loadAuthenticatedUser(String email) throws UsernameNotFoundException {
+        User user = principals.get(email, key -> userRepository.findByEmailAndActiveTrue(key).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        }
+        return user;
+    }
+    
+    // Covers profile and role updates, deactivation and email changes
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getBefore() != null) {
+            principals.invalidate(event.getBefore().getEmail());
+        }
+        if (event.getAfter() != null) {
+            principals.invalidate(event.getAfter().getEmail());
+        }
+    }
 }
@@ -1,25 +1,39 @@
 package com.lender.mortgage.security;
 
+import com.lender.mortgage.utils.ExpiringCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
     
-    @Value("${app.jwt.secret:mySecretKey}")
+    private static final String METRIC_PREFIX = "auth.token.cache";
+    private static final String ROLES_CLAIM = "roles";
+    
+    // HS256 needs at least 32 bytes; set per profile, or through JWT_SECRET in production
+    @Value("${app.jwt.secret}")
     private String jwtSecret;
     
     @Value("${app.jwt.expiration:86400000}") // 24 hours in milliseconds
@@ -28,98 +42,162 @@ public class JwtTokenProvider {
     @Value("${app.jwt.refresh-expiration:604800000}") // 7 days in milliseconds
     private Long refreshExpiration;
     
-    // In production, use Redis or database for token blacklist
-    private final Set<String> blacklistedTokens = new HashSet<>();
+    @Value("${app.jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+    
+    @Value("${app.jwt.verified-cache.ttl-seconds:300}")
+    private long verifiedCacheTtlSeconds;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private TokenRevocationStore revocationStore;
+    
+    // Built once; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // SHA-256 of a token to its verified claims; an entry never outlives the token itself
+    private ExpiringCache<String, VerifiedToken> verifiedTokens;
+    
+    @PostConstruct
+    public void init() {
+        byte[] secret = jwtSecret.getBytes(StandardCharsets.UTF_8);
+        if (secret.length < 32) {
+            throw new IllegalStateException("app.jwt.secret must be at least 32 bytes for HS256, got " + secret.length);
+        }
+        signingKey = Keys.hmacShaKeyFor(secret);
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedTokens = new ExpiringCache<>(verifiedCacheMaxSize, TimeUnit.SECONDS.toNanos(verifiedCacheTtlSeconds));
+        
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", verifiedTokens, ExpiringCache::getHitCount)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", verifiedTokens, ExpiringCache::getMissCount)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", verifiedTokens, ExpiringCache::getEvictionCount)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", verifiedTokens, ExpiringCache::size)
+                .register(meterRegistry);
     }
     
     public String generateToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpiration);
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
         
         return Jwts.builder()
-                .setSubject(userPrincipal.getUsername())
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .subject(authentication.getName())
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date())
+                .expiration(expiryDate)
+                .claim(ROLES_CLAIM, roles)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
     
     public String generateRefreshToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        
         Date expiryDate = new Date(System.currentTimeMillis() + refreshExpiration);
         
         return Jwts.builder()
-                .setSubject(userPrincipal.getUsername())
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
+                .subject(authentication.getName())
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date())
+                .expiration(expiryDate)
                 .claim("type", "refresh")
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
     
+    /**
+     * Verify a token once and return its claims, or empty if it is malformed, forged,
+     * expired or revoked. Tokens already verified are answered from memory until they
+     * expire; revocation is checked on every call.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        String key = hash(token);
+        VerifiedToken verified = verifiedTokens.get(key, ignored -> parseVerified(token));
+        if (verified == null) {
+            return Optional.empty();
+        }
+        if (verified.isExpired(Instant.now())) {
+            verifiedTokens.invalidate(key);
+            return Optional.empty();
+        }
+        if (revocationStore.isRevoked(revocationId(verified, key))) {
+            return Optional.empty();
+        }
+        return Optional.of(verified);
+    }
+    
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
     
     public String getEmailFromRefreshToken(String refreshToken) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(refreshToken)
-                .getBody();
-        
-        return claims.getSubject();
+        return parseClaims(refreshToken).getSubject();
     }
     
     public boolean validateToken(String token) {
-        try {
-            if (blacklistedTokens.contains(token)) {
-                return false;
-            }
-            
-            Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
-        }
-        return false;
+        return verify(token).isPresent();
     }
     
     public boolean validateRefreshToken(String refreshToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(refreshToken)
-                    .getBody();
-            
-            return "refresh".equals(claims.get("type"));
+            return "refresh".equals(parseClaims(refreshToken).get("type"));
         } catch (JwtException | IllegalArgumentException e) {
             logger.error("Invalid refresh token: {}", e.getMessage());
         }
         return false;
     }
     
+    /**
+     * Revoke a token until it expires. Tokens that are already invalid need no revocation.
+     */
     public void invalidateToken(String token) {
-        blacklistedTokens.add(token);
+        String key = hash(token);
+        verify(token).ifPresent(verified -> revocationStore.revoke(revocationId(verified, key),
+                verified.getExpiresAt()));
+        verifiedTokens.invalidate(key);
     }
     
     public Long getTokenExpiration() {
         return jwtExpiration / 1000; // Return in seconds
     }
-}
\ No newline at end of file
+    
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+    
+    // Null when the token does not verify, so nothing is cached for it
+    private VerifiedToken parseVerified(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            List<?> roles = claims.get(ROLES_CLAIM, List.class);
+            return new VerifiedToken(claims.getSubject(),
+                    roles == null ? null : roles.stream().map(String::valueOf).collect(Collectors.toList()),
+                    claims.getExpiration().toInstant(), claims.getId());
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.error("Invalid JWT token: {}", e.getMessage());
+        }
+        return null;
+    }
+    
+    // Tokens issued before token ids were added are revoked by their hash instead
+    private static String revocationId(VerifiedToken verified, String tokenHash) {
+        return verified.getTokenId() != null ? verified.getTokenId() : "sha256:" + tokenHash;
+    }
+    
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
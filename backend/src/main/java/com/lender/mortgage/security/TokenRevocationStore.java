@@ -0,0 +1,220 @@
+package com.lender.mortgage.security;
+
+import com.lender.mortgage.utils.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Revoked token ids, kept until the tokens they name would have expired anyway.
+ *
+ * Each id is stored as a 64-bit prefix of its SHA-256 hash with the token's expiry. A
+ * Bloom filter answers the common "not revoked" case without touching the map; a filter
+ * or hash collision can only reject a token, never admit a revoked one. Lookups take no
+ * locks. Revocations and the periodic sweep are serialized on one lock, and the sweep
+ * swaps in a freshly built filter so expired ids stop costing lookups.
+ *
+ * Every revocation is appended to a local log file, which is replayed on startup and
+ * rewritten without expired entries by the sweep. Appends are flushed to the operating
+ * system but not forced to disk, so revocations survive restarts but not a host crash.
+ */
+@Component
+public class TokenRevocationStore {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationStore.class);
+    
+    @Value("${app.security.revocation.file:data/revoked-tokens.log}")
+    private String storeFile;
+    
+    @Value("${app.security.revocation.expected-entries:100000}")
+    private int expectedEntries;
+    
+    // Hashed token id to the token's expiry in epoch milliseconds
+    private final Map<Long, Long> revoked = new ConcurrentHashMap<>();
+    
+    private volatile BloomFilter filter;
+    
+    // Guards filter rebuilds and the log file
+    private final Object writeLock = new Object();
+    private Path storePath;
+    private BufferedWriter log;
+    
+    @PostConstruct
+    public void init() {
+        storePath = Paths.get(storeFile);
+        long now = System.currentTimeMillis();
+        synchronized (writeLock) {
+            int loaded = 0;
+            if (Files.exists(storePath)) {
+                try {
+                    for (String line : Files.readAllLines(storePath, StandardCharsets.UTF_8)) {
+                        if (readEntry(line, now)) {
+                            loaded++;
+                        }
+                    }
+                } catch (IOException e) {
+                    logger.error("Could not read token revocation log {}: {}", storePath, e.getMessage());
+                }
+            }
+            filter = buildFilter();
+            compactLog();
+            logger.info("Loaded {} unexpired token revocations from {}", loaded, storePath);
+        }
+    }
+    
+    public boolean isRevoked(String tokenId) {
+        long key = hash(tokenId);
+        return filter.mightContain(key) && revoked.containsKey(key);
+    }
+    
+    /**
+     * Revoke a token id until {@code expiresAt}; ids of already expired tokens are ignored.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        long key = hash(tokenId);
+        synchronized (writeLock) {
+            if (revoked.put(key, expiresAtMillis) != null) {
+                return;
+            }
+            filter.add(key);
+            append(key, expiresAtMillis);
+        }
+    }
+    
+    public int size() {
+        return revoked.size();
+    }
+    
+    @Scheduled(fixedDelayString = "${app.security.revocation.sweep-interval-ms:600000}",
+               initialDelayString = "${app.security.revocation.sweep-interval-ms:600000}")
+    public void sweep() {
+        removeExpired(System.currentTimeMillis());
+    }
+    
+    void removeExpired(long nowMillis) {
+        synchronized (writeLock) {
+            int before = revoked.size();
+            revoked.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+            if (revoked.size() == before) {
+                return;
+            }
+            filter = buildFilter();
+            compactLog();
+            logger.debug("Swept {} expired token revocations", before - revoked.size());
+        }
+    }
+    
+    @PreDestroy
+    public void close() {
+        synchronized (writeLock) {
+            closeLog();
+        }
+    }
+    
+    private boolean readEntry(String line, long now) {
+        String[] parts = line.trim().split(" ");
+        if (parts.length != 2) {
+            // A torn final line from an interrupted append
+            return false;
+        }
+        try {
+            long key = Long.parseUnsignedLong(parts[0], 16);
+            long expiresAt = Long.parseLong(parts[1]);
+            if (expiresAt <= now) {
+                return false;
+            }
+            revoked.put(key, expiresAt);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    // Grows with the live set so a burst of logouts does not degrade the filter for good
+    private BloomFilter buildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2));
+        revoked.keySet().forEach(rebuilt::add);
+        return rebuilt;
+    }
+    
+    private void append(long key, long expiresAtMillis) {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.write(Long.toHexString(key) + " " + expiresAtMillis);
+            log.newLine();
+            log.flush();
+        } catch (IOException e) {
+            logger.error("Could not persist token revocation to {}: {}", storePath, e.getMessage());
+        }
+    }
+    
+    // Rewrites the log with only the live entries, then reopens it for appending
+    private void compactLog() {
+        closeLog();
+        try {
+            Path parent = storePath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path compacted = storePath.resolveSibling(storePath.getFileName() + ".tmp");
+            List<String> lines = revoked.entrySet().stream()
+                    .map(entry -> Long.toHexString(entry.getKey()) + " " + entry.getValue())
+                    .collect(Collectors.toList());
+            Files.write(compacted, lines, StandardCharsets.UTF_8);
+            Files.move(compacted, storePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log = Files.newBufferedWriter(storePath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.error("Token revocation log {} is unavailable, revocations will not survive a restart: {}",
+                    storePath, e.getMessage());
+        }
+    }
+    
+    private void closeLog() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            logger.warn("Could not close token revocation log {}: {}", storePath, e.getMessage());
+        }
+        log = null;
+    }
+    
+    private static long hash(String tokenId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tokenId.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.lender.mortgage.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of an access token whose signature and expiry have been checked. Immutable, so
+ * one instance can be shared by every request presenting the same token.
+ */
+public final class VerifiedToken {
+    
+    private final String subject;
+    private final List<String> roles;
+    private final Instant expiresAt;
+    private final String tokenId;
+    
+    public VerifiedToken(String subject, List<String> roles, Instant expiresAt, String tokenId) {
+        this.subject = subject;
+        this.roles = roles == null ? List.of() : List.copyOf(roles);
+        this.expiresAt = expiresAt;
+        this.tokenId = tokenId;
+    }
+    
+    public String getSubject() {
+        return subject;
+    }
+    
+    public List<String> getRoles() {
+        return roles;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+    
+    // Null for tokens issued before token ids were added
+    public String getTokenId() {
+        return tokenId;
+    }
+    
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
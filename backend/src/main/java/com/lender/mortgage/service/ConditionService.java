@@ -3,6 +3,7 @@ package com.lender.mortgage.service;
 import com.lender.mortgage.dto.request.CreateConditionRequest;
 import com.lender.mortgage.dto.request.UpdateConditionRequest;
 import com.lender.mortgage.dto.response.ConditionResponse;
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.entity.LoanCondition;
 import com.lender.mortgage.entity.enums.ConditionStatus;
 import com.lender.mortgage.entity.enums.ConditionType;
@@ -39,6 +40,11 @@ public interface ConditionService {
      */
     Page<ConditionResponse> getConditionsByUser(Long userId, Pageable pageable);
     
+    /**
+     * Get conditions assigned to user, newest first, one keyset page after the cursor
+     */
+    CursorPageResponse<ConditionResponse> getConditionsByUser(Long userId, String cursor, int size);
+    
     /**
      * Get active conditions assigned to user
      */
@@ -0,0 +1,18 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.DashboardAlertResponse;
+
+import java.util.List;
+
+public interface DashboardAlertService {
+    
+    /**
+     * Get the alerts currently in effect, most severe first
+     */
+    List<DashboardAlertResponse> getActiveAlerts();
+    
+    /**
+     * Rebuild all deadlines and alerts from the database
+     */
+    void rebuild();
+}
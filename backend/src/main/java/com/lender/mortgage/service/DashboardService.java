@@ -0,0 +1,17 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.DashboardStatsResponse;
+import com.lender.mortgage.entity.enums.DashboardScope;
+
+public interface DashboardService {
+    
+    /**
+     * Build dashboard statistics from grouped aggregate queries
+     */
+    DashboardStatsResponse getDashboardStats();
+    
+    /**
+     * Build dashboard statistics for the caller's own or team pipeline
+     */
+    DashboardStatsResponse getDashboardStats(DashboardScope scope, String userEmail);
+}
@@ -0,0 +1,20 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.ApiResponse;
+import com.lender.mortgage.dto.response.DashboardStatsResponse;
+import com.lender.mortgage.entity.enums.DashboardScope;
+import com.lender.mortgage.utils.VersionedSnapshotCache.Snapshot;
+
+public interface DashboardSnapshotService {
+    
+    /**
+     * Get the cached dashboard statistics response with its entity tag, possibly stale
+     * while a refresh is in flight
+     */
+    Snapshot<ApiResponse<DashboardStatsResponse>> getDashboardStats(DashboardScope scope, String userEmail);
+    
+    /**
+     * Mark all cached dashboard responses stale
+     */
+    void invalidate();
+}
@@ -0,0 +1,16 @@
+package com.lender.mortgage.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface DashboardStreamService {
+    
+    /**
+     * Open a dashboard event stream; sends a snapshot, then deltas of changed fields
+     */
+    SseEmitter subscribe();
+    
+    /**
+     * Get the number of open dashboard streams
+     */
+    int getSubscriberCount();
+}
@@ -0,0 +1,20 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.entity.enums.DocumentType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface DocumentSearchIndexService {
+    
+    /**
+     * Page of ids of active documents whose original file name or description contains
+     * the term, limited to a loan and/or document type when given, best match first, or
+     * null when the index cannot answer (not built yet, or term too short)
+     */
+    Page<Long> search(String term, Long loanId, DocumentType documentType, Pageable pageable);
+    
+    /**
+     * Rebuild the index from the documents table
+     */
+    void rebuild();
+}
@@ -1,5 +1,6 @@
 package com.lender.mortgage.service;
 
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.dto.response.DocumentResponse;
 import com.lender.mortgage.entity.Document;
 import com.lender.mortgage.entity.enums.DocumentType;
@@ -38,9 +39,15 @@ public interface DocumentService {
     Page<DocumentResponse> getDocumentsByUser(Long userId, Pageable pageable);
     
     /**
-     * Search documents by filename
+     * Get documents uploaded by user, newest first, one keyset page after the cursor
      */
-    Page<DocumentResponse> searchDocuments(String searchTerm, Pageable pageable);
+    CursorPageResponse<DocumentResponse> getDocumentsByUser(Long userId, String cursor, int size);
+    
+    /**
+     * Search documents by filename or description, optionally within one loan and/or document type
+     */
+    Page<DocumentResponse> searchDocuments(String searchTerm, Long loanId, DocumentType documentType,
+                                           Pageable pageable);
     
     /**
      * Download document content
@@ -0,0 +1,21 @@
+package com.lender.mortgage.service;
+
+import java.time.LocalDateTime;
+
+public interface LastLoginService {
+    
+    /**
+     * Record a successful login; written to the user's row at the next flush
+     */
+    void recordLogin(Long userId, LocalDateTime loggedInAt);
+    
+    /**
+     * Write all pending login times, returning how many user rows were written
+     */
+    int flush();
+    
+    /**
+     * Number of users with a login time not yet written
+     */
+    int getPendingCount();
+}
@@ -0,0 +1,24 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.UserStatsResponse;
+import com.lender.mortgage.entity.enums.UserRole;
+
+import java.util.List;
+
+public interface LeaderboardService {
+    
+    /**
+     * Get the top performers for a staff role, best first
+     */
+    List<UserStatsResponse> getTopPerformers(UserRole role);
+    
+    /**
+     * Get the statistics of a single staff member, or null if they hold no staff role
+     */
+    UserStatsResponse getUserStats(Long userId);
+    
+    /**
+     * Recompute statistics for all staff
+     */
+    void refresh();
+}
@@ -0,0 +1,17 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+
+public interface LoanCountEstimateService {
+    
+    /**
+     * Approximate number of loans matching the filter, from in-memory counters, or null
+     * when the filter cannot be estimated without counting
+     */
+    Long estimate(LoanFilterRequest filter);
+    
+    /**
+     * Reload the per-day loan creation histogram from the database
+     */
+    void refresh();
+}
@@ -0,0 +1,10 @@
+package com.lender.mortgage.service;
+
+public interface LoanRollupService {
+    
+    /**
+     * Fold status history recorded since the last run into loan_daily_stats;
+     * returns the number of history rows processed
+     */
+    long rollUpStatusHistory();
+}
@@ -0,0 +1,19 @@
+package com.lender.mortgage.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface LoanSearchIndexService {
+    
+    /**
+     * Page of ids of loans whose borrower name, loan number or property address contains
+     * the term, best match first, or null when the index cannot answer (not built yet, or
+     * term too short)
+     */
+    Page<Long> search(String term, Pageable pageable);
+    
+    /**
+     * Rebuild the index from the loans table
+     */
+    void rebuild();
+}
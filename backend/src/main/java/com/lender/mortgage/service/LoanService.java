@@ -1,10 +1,13 @@
 package com.lender.mortgage.service;
 
 import com.lender.mortgage.dto.request.CreateLoanRequest;
+import com.lender.mortgage.dto.request.LoanFilterRequest;
 import com.lender.mortgage.dto.request.UpdateLoanRequest;
 import com.lender.mortgage.dto.request.UpdateLoanStatusRequest;
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.dto.response.LoanResponse;
 import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.dto.response.SliceResponse;
 import com.lender.mortgage.entity.Loan;
 import com.lender.mortgage.entity.enums.LoanStatus;
 import com.lender.mortgage.entity.enums.LoanType;
@@ -47,36 +50,71 @@ public interface LoanService {
      */
     Page<LoanSummaryResponse> getAllLoans(Pageable pageable);
     
+    /**
+     * Get all loans, newest first, one keyset page after the cursor
+     */
+    CursorPageResponse<LoanSummaryResponse> getAllLoans(String cursor, int size);
+    
     /**
      * Search loans by multiple criteria
      */
     Page<LoanSummaryResponse> searchLoans(String searchTerm, Pageable pageable);
     
+    /**
+     * Search loans without counting, with an approximate total when one is known
+     */
+    SliceResponse<LoanSummaryResponse> searchLoansSlice(String searchTerm, Pageable pageable);
+    
     /**
      * Get loans by status
      */
     Page<LoanSummaryResponse> getLoansByStatus(LoanStatus status, Pageable pageable);
     
+    /**
+     * Get loans by status, newest first, one keyset page after the cursor
+     */
+    CursorPageResponse<LoanSummaryResponse> getLoansByStatus(LoanStatus status, String cursor, int size);
+    
     /**
      * Get loans by multiple statuses
      */
     Page<LoanSummaryResponse> getLoansByStatuses(List<LoanStatus> statuses, Pageable pageable);
     
+    /**
+     * Get loans by multiple statuses without counting, with an approximate total
+     */
+    SliceResponse<LoanSummaryResponse> getLoansByStatusesSlice(List<LoanStatus> statuses, Pageable pageable);
+    
     /**
      * Get loans by loan officer
      */
     Page<LoanSummaryResponse> getLoansByOfficer(Long officerId, Pageable pageable);
     
+    /**
+     * Get loans by loan officer, newest first, one keyset page after the cursor
+     */
+    CursorPageResponse<LoanSummaryResponse> getLoansByOfficer(Long officerId, String cursor, int size);
+    
     /**
      * Get loans by processor
      */
     Page<LoanSummaryResponse> getLoansByProcessor(Long processorId, Pageable pageable);
     
+    /**
+     * Get loans by processor, newest first, one keyset page after the cursor
+     */
+    CursorPageResponse<LoanSummaryResponse> getLoansByProcessor(Long processorId, String cursor, int size);
+    
     /**
      * Get loans by underwriter
      */
     Page<LoanSummaryResponse> getLoansByUnderwriter(Long underwriterId, Pageable pageable);
     
+    /**
+     * Get loans by underwriter, newest first, one keyset page after the cursor
+     */
+    CursorPageResponse<LoanSummaryResponse> getLoansByUnderwriter(Long underwriterId, String cursor, int size);
+    
     /**
      * Get loans by borrower email
      */
@@ -87,6 +125,11 @@ public interface LoanService {
      */
     Page<LoanSummaryResponse> getLoansByType(List<LoanType> types, Pageable pageable);
     
+    /**
+     * Get loans by loan type without counting, with an approximate total
+     */
+    SliceResponse<LoanSummaryResponse> getLoansByTypeSlice(List<LoanType> types, Pageable pageable);
+    
     /**
      * Get loans by amount range
      */
@@ -97,6 +140,23 @@ public interface LoanService {
      */
     Page<LoanSummaryResponse> getLoansByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     
+    /**
+     * Get loans by date range without counting, with an approximate total
+     */
+    SliceResponse<LoanSummaryResponse> getLoansByDateRangeSlice(LocalDateTime startDate, LocalDateTime endDate,
+                                                                Pageable pageable);
+    
+    /**
+     * Get loans matching all filter criteria at once
+     */
+    Page<LoanSummaryResponse> filterLoans(LoanFilterRequest filter, Pageable pageable);
+    
+    /**
+     * Get loans matching all filter criteria without counting, with an approximate total
+     * when the criteria allow one
+     */
+    SliceResponse<LoanSummaryResponse> filterLoansSlice(LoanFilterRequest filter, Pageable pageable);
+    
     /**
      * Assign loan officer
      */
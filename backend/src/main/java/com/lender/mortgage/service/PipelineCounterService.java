@@ -0,0 +1,47 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PipelineCounterService {
+    
+    /**
+     * Whether the counters have been loaded from the database
+     */
+    boolean isInitialized();
+    
+    /**
+     * Get the number of loans in a status
+     */
+    long getCount(LoanStatus status);
+    
+    /**
+     * Get the number of loans of a type
+     */
+    long getCount(LoanType type);
+    
+    /**
+     * Get the total number of loans
+     */
+    long getTotalCount();
+    
+    /**
+     * Get a consistent copy of all non-empty cells as rows of
+     * [LoanStatus, LoanType, Long count, BigDecimal amount]
+     */
+    List<Object[]> summarizeByStatusAndType();
+    
+    /**
+     * Same as {@link #summarizeByStatusAndType()} but only for loans on which any of the
+     * given staff is the loan officer, processor or underwriter
+     */
+    List<Object[]> summarizeByStatusAndType(Collection<Long> staffIds);
+    
+    /**
+     * Compare counters against the database and correct any drift
+     */
+    void reconcile();
+}
@@ -0,0 +1,18 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.ActivityResponse;
+
+import java.util.List;
+
+public interface RecentActivityService {
+    
+    /**
+     * Get the newest activity entries, optionally only those performed by one user
+     */
+    List<ActivityResponse> getRecentActivity(int limit, Long userId);
+    
+    /**
+     * Load the newest activity from the database into the buffer
+     */
+    void seed();
+}
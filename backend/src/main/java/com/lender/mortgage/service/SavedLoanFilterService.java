@@ -0,0 +1,32 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.request.SavedLoanFilterRequest;
+import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.dto.response.SavedLoanFilterResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface SavedLoanFilterService {
+    
+    /**
+     * Save a named loan filter for a user
+     */
+    SavedLoanFilterResponse createFilter(SavedLoanFilterRequest request, String ownerEmail);
+    
+    /**
+     * Get a user's saved filters, by name
+     */
+    List<SavedLoanFilterResponse> getFilters(String ownerEmail);
+    
+    /**
+     * Get the loans currently matching a user's saved filter, newest first
+     */
+    Page<LoanSummaryResponse> getFilterLoans(Long filterId, String ownerEmail, Pageable pageable);
+    
+    /**
+     * Delete a user's saved filter
+     */
+    void deleteFilter(Long filterId, String ownerEmail);
+}
@@ -0,0 +1,14 @@
+package com.lender.mortgage.service;
+
+public interface StaffDirectoryService {
+    
+    /**
+     * Full name of the user, from memory when known, or null if there is no such user
+     */
+    String nameOf(Long userId);
+    
+    /**
+     * Load every user's name into the directory
+     */
+    void rebuild();
+}
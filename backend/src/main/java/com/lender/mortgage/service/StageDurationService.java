@@ -0,0 +1,16 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.StageDurationsResponse;
+
+public interface StageDurationService {
+    
+    /**
+     * Get the latest time-in-status and days-to-close statistics
+     */
+    StageDurationsResponse getStageDurations();
+    
+    /**
+     * Recompute statistics with a single pass over the status history
+     */
+    void refresh();
+}
@@ -0,0 +1,20 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.UserResponse;
+import com.lender.mortgage.entity.enums.UserRole;
+
+import java.util.List;
+
+public interface UserSuggestionService {
+    
+    /**
+     * Active users whose first name, last name, full name or email starts with the query,
+     * limited to one role when given, in name order
+     */
+    List<UserResponse> suggest(String query, UserRole role, int limit);
+    
+    /**
+     * Rebuild the suggestion tries from the users table
+     */
+    void rebuild();
+}
@@ -4,10 +4,14 @@ import com.lender.mortgage.dto.request.LoginRequest;
 import com.lender.mortgage.dto.response.AuthResponse;
 import com.lender.mortgage.dto.response.UserResponse;
 import com.lender.mortgage.entity.User;
+import com.lender.mortgage.exception.ServiceUnavailableException;
 import com.lender.mortgage.exception.UnauthorizedException;
 import com.lender.mortgage.security.JwtTokenProvider;
 import com.lender.mortgage.service.AuthService;
+import com.lender.mortgage.service.LastLoginService;
 import com.lender.mortgage.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,8 +20,11 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @Transactional
 public class AuthServiceImpl implements AuthService {
@@ -33,8 +40,19 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private LastLoginService lastLoginService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // No transaction, so a login waiting for a hashing thread holds no JDBC connection;
+    // the user lookups and any rehash run their own short transactions
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             // Authenticate user
             Authentication authentication = authenticationManager.authenticate(
@@ -52,16 +70,26 @@ public class AuthServiceImpl implements AuthService {
             // Get user details
             UserResponse user = userService.getUserByEmail(request.getEmail());
             
-            // Update last login time
-            userService.updateLastLogin(request.getEmail());
+            // Update last login time, written behind by the next flush
+            lastLoginService.recordLogin(user.getId(), LocalDateTime.now());
             
             logger.info("User {} logged in successfully", request.getEmail());
+            outcome = "success";
             
             return new AuthResponse(token, refreshToken, expiresIn, user);
-            
+        
         } catch (AuthenticationException e) {
+            outcome = "failure";
             logger.warn("Failed login attempt for email: {}", request.getEmail());
             throw new UnauthorizedException("Invalid email or password");
+        } catch (ServiceUnavailableException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.login")
+                    .description("Login latency, including any wait for a password hashing thread")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
     
@@ -3,23 +3,29 @@ package com.lender.mortgage.service.impl;
 import com.lender.mortgage.dto.request.CreateConditionRequest;
 import com.lender.mortgage.dto.request.UpdateConditionRequest;
 import com.lender.mortgage.dto.response.ConditionResponse;
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.entity.Loan;
 import com.lender.mortgage.entity.LoanCondition;
 import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.ConditionStatus;
 import com.lender.mortgage.entity.enums.ConditionType;
 import com.lender.mortgage.entity.enums.Priority;
+import com.lender.mortgage.event.ConditionChangedEvent;
+import com.lender.mortgage.event.ConditionSnapshot;
 import com.lender.mortgage.exception.BadRequestException;
 import com.lender.mortgage.exception.ResourceNotFoundException;
 import com.lender.mortgage.repository.LoanConditionRepository;
 import com.lender.mortgage.service.ConditionService;
 import com.lender.mortgage.service.LoanService;
 import com.lender.mortgage.service.UserService;
+import com.lender.mortgage.utils.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +38,10 @@ import java.util.stream.Collectors;
 public class ConditionServiceImpl implements ConditionService {
 
     private static final Logger logger = LoggerFactory.getLogger(ConditionServiceImpl.class);
+    
+    // Keyset-paginated condition lists run newest first on (createdAt, id)
+    private static final String CONDITION_SORT_KEY = "createdAt";
+    private static final String CONDITION_CURSOR_SCOPE = "conditions";
 
     @Autowired
     private LoanConditionRepository conditionRepository;
@@ -42,6 +52,9 @@ public class ConditionServiceImpl implements ConditionService {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public ConditionResponse createCondition(CreateConditionRequest request, String createdByEmail) {
         Loan loan = loanService.getLoanEntity(request.getLoanId());
@@ -66,6 +79,8 @@ public class ConditionServiceImpl implements ConditionService {
 
         LoanCondition savedCondition = conditionRepository.save(condition);
 
+        publishConditionChanged(ConditionChangedEvent.ChangeType.CREATED, null, savedCondition, createdByEmail);
+
         logger.info("Created condition {} for loan {}", savedCondition.getTitle(), loan.getLoanNumber());
 
         return new ConditionResponse(savedCondition);
@@ -74,6 +89,7 @@ public class ConditionServiceImpl implements ConditionService {
     @Override
     public ConditionResponse updateCondition(Long conditionId, UpdateConditionRequest request, String updatedByEmail) {
         LoanCondition condition = getConditionEntity(conditionId);
+        ConditionSnapshot before = new ConditionSnapshot(condition);
 
         if (request.getTitle() != null) {
             condition.setTitle(request.getTitle());
@@ -102,6 +118,8 @@ public class ConditionServiceImpl implements ConditionService {
 
         LoanCondition savedCondition = conditionRepository.save(condition);
 
+        publishConditionChanged(ConditionChangedEvent.ChangeType.UPDATED, before, savedCondition, updatedByEmail);
+
         logger.info("Updated condition {}", savedCondition.getTitle());
 
         return new ConditionResponse(savedCondition);
@@ -132,6 +150,18 @@ public class ConditionServiceImpl implements ConditionService {
                 .map(ConditionResponse::new);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ConditionResponse> getConditionsByUser(Long userId, String cursor, int size) {
+        User user = userService.getUserEntity(userId);
+        Specification<LoanCondition> assignedTo = (root, query, cb) -> cb.equal(root.get("assignedTo"), user);
+        KeysetCursor position = KeysetCursor.decode(cursor, CONDITION_CURSOR_SCOPE, CONDITION_SORT_KEY);
+        List<LoanCondition> rows = conditionRepository.findBy(assignedTo.and(KeysetCursor.after(position)),
+                query -> query.sortBy(KeysetCursor.sort(CONDITION_SORT_KEY)).limit(size + 1).all());
+        return KeysetCursor.page(rows, size, CONDITION_CURSOR_SCOPE, CONDITION_SORT_KEY,
+                LoanCondition::getCreatedAt, LoanCondition::getId, ConditionResponse::new);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ConditionResponse> getActiveConditionsByUser(Long userId, Pageable pageable) {
@@ -187,6 +217,7 @@ public class ConditionServiceImpl implements ConditionService {
     @Override
     public ConditionResponse completeCondition(Long conditionId, String completedByEmail, String notes) {
         LoanCondition condition = getConditionEntity(conditionId);
+        ConditionSnapshot before = new ConditionSnapshot(condition);
 
         if (!condition.canBeCompleted()) {
             throw new BadRequestException("Condition cannot be completed in current status: " + condition.getStatus());
@@ -201,6 +232,8 @@ public class ConditionServiceImpl implements ConditionService {
 
         LoanCondition savedCondition = conditionRepository.save(condition);
 
+        publishConditionChanged(ConditionChangedEvent.ChangeType.COMPLETED, before, savedCondition, completedByEmail);
+
         logger.info("Completed condition {} for loan {}",
                 savedCondition.getTitle(), savedCondition.getLoan().getLoanNumber());
 
@@ -210,6 +243,7 @@ public class ConditionServiceImpl implements ConditionService {
     @Override
     public ConditionResponse waiveCondition(Long conditionId, String waivedByEmail, String reason) {
         LoanCondition condition = getConditionEntity(conditionId);
+        ConditionSnapshot before = new ConditionSnapshot(condition);
 
         if (!condition.canBeCompleted()) {
             throw new BadRequestException("Condition cannot be waived in current status: " + condition.getStatus());
@@ -219,6 +253,8 @@ public class ConditionServiceImpl implements ConditionService {
 
         LoanCondition savedCondition = conditionRepository.save(condition);
 
+        publishConditionChanged(ConditionChangedEvent.ChangeType.WAIVED, before, savedCondition, waivedByEmail);
+
         logger.info("Waived condition {} for loan {} - Reason: {}",
                 savedCondition.getTitle(), savedCondition.getLoan().getLoanNumber(), reason);
 
@@ -228,6 +264,7 @@ public class ConditionServiceImpl implements ConditionService {
     @Override
     public ConditionResponse assignCondition(Long conditionId, Long userId, String assignedByEmail) {
         LoanCondition condition = getConditionEntity(conditionId);
+        ConditionSnapshot before = new ConditionSnapshot(condition);
         User assignedTo = userService.getUserEntity(userId);
 
         condition.setAssignedTo(assignedTo);
@@ -235,6 +272,8 @@ public class ConditionServiceImpl implements ConditionService {
 
         LoanCondition savedCondition = conditionRepository.save(condition);
 
+        publishConditionChanged(ConditionChangedEvent.ChangeType.ASSIGNED, before, savedCondition, assignedByEmail);
+
         logger.info("Assigned condition {} to user {}",
                 savedCondition.getTitle(), assignedTo.getFullName());
 
@@ -244,12 +283,15 @@ public class ConditionServiceImpl implements ConditionService {
     @Override
     public ConditionResponse updateConditionPriority(Long conditionId, Priority priority, String updatedByEmail) {
         LoanCondition condition = getConditionEntity(conditionId);
+        ConditionSnapshot before = new ConditionSnapshot(condition);
 
         condition.setPriority(priority);
         condition.setLastModifiedBy(updatedByEmail);
 
         LoanCondition savedCondition = conditionRepository.save(condition);
 
+        publishConditionChanged(ConditionChangedEvent.ChangeType.UPDATED, before, savedCondition, updatedByEmail);
+
         logger.info("Updated condition {} priority to {}",
                 savedCondition.getTitle(), priority);
 
@@ -259,6 +301,7 @@ public class ConditionServiceImpl implements ConditionService {
     @Override
     public void deleteCondition(Long conditionId, String deletedByEmail) {
         LoanCondition condition = getConditionEntity(conditionId);
+        ConditionSnapshot before = new ConditionSnapshot(condition);
 
         if (condition.getStatus() == ConditionStatus.COMPLETED) {
             throw new BadRequestException("Cannot delete completed condition");
@@ -266,6 +309,9 @@ public class ConditionServiceImpl implements ConditionService {
 
         conditionRepository.delete(condition);
 
+        eventPublisher.publishEvent(new ConditionChangedEvent(
+                ConditionChangedEvent.ChangeType.DELETED, before, null, deletedByEmail));
+
         logger.info("Deleted condition {} by user {}", condition.getTitle(), deletedByEmail);
     }
 
@@ -283,4 +329,11 @@ public class ConditionServiceImpl implements ConditionService {
         long activeConditions = conditionRepository.countActiveConditionsByLoan(loan);
         return activeConditions == 0;
     }
+
+    private void publishConditionChanged(ConditionChangedEvent.ChangeType changeType, ConditionSnapshot before,
+                                         LoanCondition savedCondition, String changedByEmail) {
+        // Delivered to listeners after the surrounding transaction commits
+        eventPublisher.publishEvent(new ConditionChangedEvent(
+                changeType, before, new ConditionSnapshot(savedCondition), changedByEmail));
+    }
 }
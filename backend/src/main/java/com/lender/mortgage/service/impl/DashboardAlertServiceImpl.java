@@ -0,0 +1,228 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.dto.response.DashboardAlertResponse;
+import com.lender.mortgage.entity.enums.AlertType;
+import com.lender.mortgage.entity.enums.ConditionStatus;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.Priority;
+import com.lender.mortgage.event.ConditionChangedEvent;
+import com.lender.mortgage.event.ConditionSnapshot;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
+import com.lender.mortgage.repository.LoanConditionRepository;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.service.DashboardAlertService;
+import com.lender.mortgage.utils.HierarchicalTimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Overdue and closing-soon alerts served from memory.
+ *
+ * Each active loan with an expected closing date and each active condition with a due
+ * date gets two deadlines ("soon" and "overdue") in a hierarchical timing wheel. A
+ * one-minute tick fires the deadlines that came due and records the alert; loan and
+ * condition write events reschedule or clear an entity's deadlines. Requests only read
+ * the current alert map. Everything is rebuilt from two projection queries on startup.
+ */
+@Service
+public class DashboardAlertServiceImpl implements DashboardAlertService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardAlertServiceImpl.class);
+    
+    private static final long TICK_MS = 60_000L;
+    // 60 minutes, 24 hours, 64 days; later deadlines wait on the top level
+    private static final int[] WHEEL_SIZES = {60, 24, 64};
+    
+    private static final Comparator<DashboardAlertResponse> ALERT_ORDER = Comparator
+            .comparing((DashboardAlertResponse alert) -> alert.getSeverity().ordinal()).reversed()
+            .thenComparing(alert -> !alert.getAlertType().isOverdue())
+            .thenComparing(DashboardAlertResponse::getDueDate);
+    
+    @Autowired
+    private LoanRepository loanRepository;
+    
+    @Autowired
+    private LoanConditionRepository conditionRepository;
+    
+    @Value("${app.dashboard.alerts.closing-soon-days:7}")
+    private int closingSoonDays;
+    
+    @Value("${app.dashboard.alerts.condition-due-soon-days:2}")
+    private int conditionDueSoonDays;
+    
+    private Clock clock = Clock.systemDefaultZone();
+    
+    // Guards the wheel and keeps alert updates ordered with rescheduling
+    private final Object lock = new Object();
+    private HierarchicalTimingWheel<Deadline> wheel;
+    private final Map<String, DashboardAlertResponse> activeAlerts = new ConcurrentHashMap<>();
+    
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> loans = loanRepository.findActiveClosingDeadlines();
+        List<Object[]> conditions = conditionRepository.findActiveConditionDeadlines();
+        
+        synchronized (lock) {
+            wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZES, clock.millis());
+            activeAlerts.clear();
+            for (Object[] row : loans) {
+                trackLoan((Long) row[0], (String) row[1], (LoanStatus) row[2], (LocalDateTime) row[3]);
+            }
+            for (Object[] row : conditions) {
+                trackCondition((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                        (ConditionStatus) row[4], (Priority) row[5], (LocalDateTime) row[6]);
+            }
+        }
+        logger.info("Alert engine rebuilt: {} deadlines pending, {} alerts active",
+                wheel.size(), activeAlerts.size());
+    }
+    
+    @Override
+    public List<DashboardAlertResponse> getActiveAlerts() {
+        List<DashboardAlertResponse> alerts = new ArrayList<>(activeAlerts.values());
+        alerts.sort(ALERT_ORDER);
+        return alerts;
+    }
+    
+    @Scheduled(fixedRate = TICK_MS)
+    public void tick() {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            for (Deadline deadline : wheel.advanceTo(clock.millis())) {
+                raise(deadline);
+            }
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onLoanChanged(LoanChangedEvent event) {
+        LoanSnapshot loan = event.getAfter();
+        synchronized (lock) {
+            if (wheel != null) {
+                trackLoan(loan.getId(), loan.getLoanNumber(), loan.getStatus(), loan.getExpectedClosingDate());
+            }
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onConditionChanged(ConditionChangedEvent event) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            ConditionSnapshot condition = event.getAfter();
+            if (condition == null) {
+                untrack(conditionKey(event.getBefore().getId()));
+                return;
+            }
+            trackCondition(condition.getId(), condition.getLoanId(), condition.getLoanNumber(), condition.getTitle(),
+                    condition.getStatus(), condition.getPriority(), condition.getDueDate());
+        }
+    }
+    
+    // Caller holds lock
+    private void trackLoan(Long loanId, String loanNumber, LoanStatus status, LocalDateTime expectedClosingDate) {
+        String key = loanKey(loanId);
+        untrack(key);
+        if (status == null || !status.isActive() || expectedClosingDate == null) {
+            return;
+        }
+        schedule(new Deadline(key, AlertType.LOAN_CLOSING_SOON, Priority.MEDIUM, loanId, loanNumber, null,
+                String.format("Loan %s is expected to close within %d days", loanNumber, closingSoonDays),
+                expectedClosingDate), expectedClosingDate.minusDays(closingSoonDays));
+        schedule(new Deadline(key, AlertType.LOAN_OVERDUE, Priority.HIGH, loanId, loanNumber, null,
+                String.format("Loan %s is past its expected closing date", loanNumber),
+                expectedClosingDate), expectedClosingDate);
+    }
+    
+    // Caller holds lock
+    private void trackCondition(Long conditionId, Long loanId, String loanNumber, String title,
+                                ConditionStatus status, Priority priority, LocalDateTime dueDate) {
+        String key = conditionKey(conditionId);
+        untrack(key);
+        if (status == null || !status.isActive() || dueDate == null) {
+            return;
+        }
+        Priority severity = priority != null ? priority : Priority.MEDIUM;
+        schedule(new Deadline(key, AlertType.CONDITION_DUE_SOON, severity, loanId, loanNumber, conditionId,
+                String.format("Condition '%s' on loan %s is due within %d days", title, loanNumber, conditionDueSoonDays),
+                dueDate), dueDate.minusDays(conditionDueSoonDays));
+        schedule(new Deadline(key, AlertType.CONDITION_OVERDUE, severity, loanId, loanNumber, conditionId,
+                String.format("Condition '%s' on loan %s is overdue", title, loanNumber),
+                dueDate), dueDate);
+    }
+    
+    // Caller holds lock
+    private void schedule(Deadline deadline, LocalDateTime fireAt) {
+        String wheelKey = deadline.entityKey + (deadline.type.isOverdue() ? ":overdue" : ":soon");
+        long fireAtMs = fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!wheel.schedule(wheelKey, fireAtMs, deadline)) {
+            raise(deadline);
+        }
+    }
+    
+    // Caller holds lock
+    private void untrack(String entityKey) {
+        wheel.cancel(entityKey + ":soon");
+        wheel.cancel(entityKey + ":overdue");
+        activeAlerts.remove(entityKey);
+    }
+    
+    // Caller holds lock; an overdue alert replaces the entity's earlier "soon" alert
+    private void raise(Deadline deadline) {
+        activeAlerts.put(deadline.entityKey, new DashboardAlertResponse(deadline.type, deadline.severity,
+                deadline.loanId, deadline.loanNumber, deadline.conditionId, deadline.message,
+                deadline.dueDate, LocalDateTime.now(clock)));
+    }
+    
+    private static String loanKey(Long loanId) {
+        return "loan:" + loanId;
+    }
+    
+    private static String conditionKey(Long conditionId) {
+        return "condition:" + conditionId;
+    }
+    
+    private static final class Deadline {
+        final String entityKey;
+        final AlertType type;
+        final Priority severity;
+        final Long loanId;
+        final String loanNumber;
+        final Long conditionId;
+        final String message;
+        final LocalDateTime dueDate;
+        
+        Deadline(String entityKey, AlertType type, Priority severity, Long loanId, String loanNumber,
+                 Long conditionId, String message, LocalDateTime dueDate) {
+            this.entityKey = entityKey;
+            this.type = type;
+            this.severity = severity;
+            this.loanId = loanId;
+            this.loanNumber = loanNumber;
+            this.conditionId = conditionId;
+            this.message = message;
+            this.dueDate = dueDate;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.dto.response.DashboardStatsResponse;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.ConditionStatus;
+import com.lender.mortgage.entity.enums.ConditionType;
+import com.lender.mortgage.entity.enums.DashboardScope;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.entity.enums.Priority;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.repository.DocumentRepository;
+import com.lender.mortgage.repository.LoanDailyStatRepository;
+import com.lender.mortgage.repository.LoanConditionRepository;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.service.DashboardService;
+import com.lender.mortgage.service.LeaderboardService;
+import com.lender.mortgage.service.PipelineCounterService;
+import com.lender.mortgage.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the dashboard from a fixed set of grouped aggregate queries (loans, the daily
+ * rollup, conditions, documents) regardless of table size. No entity lists
+ * are loaded; every figure is folded from the grouped rows in memory. The status/type
+ * breakdown is read from PipelineCounterService when it is available, and the staff
+ * leaderboards from the cached LeaderboardService snapshot.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardServiceImpl implements DashboardService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardServiceImpl.class);
+    
+    private static final int CLOSING_SOON_DAYS = 7;
+    
+    @Autowired
+    private LoanRepository loanRepository;
+    
+    @Autowired
+    private LoanConditionRepository conditionRepository;
+    
+    @Autowired
+    private DocumentRepository documentRepository;
+    
+    @Autowired
+    private LoanDailyStatRepository dailyStatRepository;
+    
+    @Autowired
+    private PipelineCounterService pipelineCounterService;
+    
+    @Autowired
+    private LeaderboardService leaderboardService;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Override
+    public DashboardStatsResponse getDashboardStats() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        
+        DashboardStatsResponse stats = new DashboardStatsResponse();
+        // Status/type cells come from the in-memory counters once they are loaded
+        applyLoanSummary(stats, pipelineCounterService.isInitialized()
+                ? pipelineCounterService.summarizeByStatusAndType()
+                : loanRepository.summarizeLoansByStatusAndType());
+        applyPeriodStats(stats, now.toLocalDate());
+        applyLoanAlerts(stats, now);
+        applyConditionSummary(stats, conditionRepository.summarizeConditions(now));
+        applyDocumentSummary(stats, now);
+        
+        stats.setTopLoanOfficers(leaderboardService.getTopPerformers(UserRole.LOAN_OFFICER));
+        stats.setTopProcessors(leaderboardService.getTopPerformers(UserRole.PROCESSOR));
+        stats.setTopUnderwriters(leaderboardService.getTopPerformers(UserRole.UNDERWRITER));
+        
+        logger.debug("Dashboard statistics built in {} ms", (System.nanoTime() - started) / 1_000_000);
+        return stats;
+    }
+    
+    @Override
+    public DashboardStatsResponse getDashboardStats(DashboardScope scope, String userEmail) {
+        if (scope == DashboardScope.ALL) {
+            return getDashboardStats();
+        }
+        
+        User user = userService.getUserEntityByEmail(userEmail);
+        Set<Long> staffIds = scope == DashboardScope.MINE
+                ? Collections.singleton(user.getId())
+                : resolveTeam(user);
+        
+        // Only the pipeline figures are partitioned by staff; portfolio-wide sections are left out
+        DashboardStatsResponse stats = new DashboardStatsResponse();
+        applyLoanSummary(stats, pipelineCounterService.isInitialized()
+                ? pipelineCounterService.summarizeByStatusAndType(staffIds)
+                : loanRepository.summarizeLoansByStatusAndTypeForStaff(staffIds));
+        return stats;
+    }
+    
+    /**
+     * The caller's team: the caller and their direct reports, or, for someone with no
+     * reports, everyone reporting to the same manager plus that manager.
+     */
+    private Set<Long> resolveTeam(User user) {
+        Long leadId = user.getId();
+        List<User> members = userRepository.findByManagerIdAndActiveTrue(leadId);
+        if (members.isEmpty() && user.getManagerId() != null) {
+            leadId = user.getManagerId();
+            members = userRepository.findByManagerIdAndActiveTrue(leadId);
+        }
+        
+        Set<Long> staffIds = new HashSet<>();
+        staffIds.add(user.getId());
+        staffIds.add(leadId);
+        for (User member : members) {
+            staffIds.add(member.getId());
+        }
+        return staffIds;
+    }
+    
+    private void applyLoanSummary(DashboardStatsResponse stats, List<Object[]> rows) {
+        Map<LoanStatus, Long> byStatus = new EnumMap<>(LoanStatus.class);
+        Map<LoanType, Long> byType = new EnumMap<>(LoanType.class);
+        long total = 0;
+        long active = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal closedAmount = BigDecimal.ZERO;
+        BigDecimal pipelineValue = BigDecimal.ZERO;
+        
+        for (Object[] row : rows) {
+            LoanStatus status = (LoanStatus) row[0];
+            LoanType type = (LoanType) row[1];
+            long count = toLong(row[2]);
+            BigDecimal amount = toBigDecimal(row[3]);
+            
+            byStatus.merge(status, count, Long::sum);
+            byType.merge(type, count, Long::sum);
+            total += count;
+            totalAmount = totalAmount.add(amount);
+            
+            if (status.isActive()) {
+                active += count;
+                pipelineValue = pipelineValue.add(amount);
+            } else if (status == LoanStatus.CLOSED) {
+                closedAmount = closedAmount.add(amount);
+            }
+        }
+        
+        long closed = byStatus.getOrDefault(LoanStatus.CLOSED, 0L);
+        long denied = byStatus.getOrDefault(LoanStatus.DENIED, 0L);
+        
+        stats.setTotalLoans(total);
+        stats.setActiveLoans(active);
+        stats.setClosedLoans(closed);
+        stats.setDeniedLoans(denied);
+        stats.setTotalLoanAmount(totalAmount);
+        stats.setAvgLoanAmount(total > 0
+                ? totalAmount.divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO);
+        stats.setTotalClosedAmount(closedAmount);
+        stats.setPipelineValue(pipelineValue);
+        
+        stats.setApplicationStarted(byStatus.getOrDefault(LoanStatus.APPLICATION_STARTED, 0L));
+        stats.setPreUnderwriting(byStatus.getOrDefault(LoanStatus.PRE_UNDERWRITING, 0L));
+        stats.setPreApproved(byStatus.getOrDefault(LoanStatus.PRE_APPROVED, 0L));
+        stats.setApprovedWithConditions(byStatus.getOrDefault(LoanStatus.APPROVED_WITH_CONDITIONS, 0L));
+        stats.setClearToClose(byStatus.getOrDefault(LoanStatus.CLEAR_TO_CLOSE, 0L));
+        stats.setClosing(byStatus.getOrDefault(LoanStatus.CLOSING, 0L));
+        
+        stats.setLoansByStatus(toNamedCounts(LoanStatus.values(), byStatus));
+        stats.setLoansByType(toNamedCounts(LoanType.values(), byType));
+    }
+    
+    // Period metrics come from the loan_daily_stats rollup rather than the loans table
+    private void applyPeriodStats(DashboardStatsResponse stats, LocalDate today) {
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate monthStart = today.withDayOfMonth(1);
+        
+        List<Object[]> rows = dailyStatRepository.summarizeClosings(weekStart, monthStart);
+        Object[] row = rows.isEmpty() ? new Object[6] : rows.get(0);
+        
+        long closedAllTime = toLong(row[3]);
+        long otherTerminal = toLong(row[5]);
+        
+        stats.setLoansClosedThisMonth(toLong(row[0]));
+        stats.setLoansClosedThisWeek(toLong(row[1]));
+        stats.setClosedAmountThisMonth(toBigDecimal(row[2]));
+        stats.setAvgDaysToClose(closedAllTime > 0 ? round((double) toLong(row[4]) / closedAllTime) : 0.0);
+        stats.setClosingRatePercent(closedAllTime + otherTerminal > 0
+                ? round(closedAllTime * 100.0 / (closedAllTime + otherTerminal))
+                : 0.0);
+    }
+    
+    private void applyLoanAlerts(DashboardStatsResponse stats, LocalDateTime now) {
+        List<Object[]> rows = loanRepository.summarizeLoanAlerts(now, now.plusDays(CLOSING_SOON_DAYS));
+        Object[] row = rows.isEmpty() ? new Object[3] : rows.get(0);
+        
+        stats.setOverdueLoans(toLong(row[0]));
+        stats.setLoansClosingSoon(toLong(row[1]));
+        stats.setLoansReadyToClearToClose(toLong(row[2]));
+    }
+    
+    private void applyConditionSummary(DashboardStatsResponse stats, List<Object[]> rows) {
+        Map<ConditionStatus, Long> byStatus = new EnumMap<>(ConditionStatus.class);
+        Map<ConditionType, Long> activeByType = new EnumMap<>(ConditionType.class);
+        long active = 0;
+        long overdue = 0;
+        long highPriority = 0;
+        
+        for (Object[] row : rows) {
+            ConditionStatus status = (ConditionStatus) row[0];
+            ConditionType type = (ConditionType) row[1];
+            Priority priority = (Priority) row[2];
+            long count = toLong(row[3]);
+            
+            byStatus.merge(status, count, Long::sum);
+            if (status.isActive()) {
+                active += count;
+                overdue += toLong(row[4]);
+                activeByType.merge(type, count, Long::sum);
+                if (priority == Priority.HIGH || priority == Priority.CRITICAL) {
+                    highPriority += count;
+                }
+            }
+        }
+        
+        stats.setTotalActiveConditions(active);
+        stats.setOverdueConditions(overdue);
+        stats.setHighPriorityConditions(highPriority);
+        stats.setConditionsByStatus(toNamedCounts(ConditionStatus.values(), byStatus));
+        stats.setConditionsByType(toNamedCounts(ConditionType.values(), activeByType));
+    }
+    
+    private void applyDocumentSummary(DashboardStatsResponse stats, LocalDateTime now) {
+        List<Object[]> rows = documentRepository.summarizeActiveDocuments(now.toLocalDate().atStartOfDay());
+        Object[] row = rows.isEmpty() ? new Object[2] : rows.get(0);
+        
+        stats.setTotalDocuments(toLong(row[0]));
+        stats.setDocumentsUploadedToday(toLong(row[1]));
+    }
+    
+    private static <E extends Enum<E>> Map<String, Long> toNamedCounts(E[] values, Map<E, Long> counts) {
+        Map<String, Long> named = new LinkedHashMap<>();
+        for (E value : values) {
+            named.put(value.name(), counts.getOrDefault(value, 0L));
+        }
+        return named;
+    }
+    
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+    
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
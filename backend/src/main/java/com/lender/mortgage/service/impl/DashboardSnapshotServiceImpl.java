@@ -0,0 +1,143 @@
+package com.lender.mortgage.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lender.mortgage.dto.response.ApiResponse;
+import com.lender.mortgage.dto.response.DashboardStatsResponse;
+import com.lender.mortgage.entity.enums.DashboardScope;
+import com.lender.mortgage.event.ConditionChangedEvent;
+import com.lender.mortgage.event.DocumentChangedEvent;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.service.DashboardService;
+import com.lender.mortgage.service.DashboardSnapshotService;
+import com.lender.mortgage.utils.VersionedSnapshotCache;
+import com.lender.mortgage.utils.VersionedSnapshotCache.Snapshot;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Versioned snapshot cache in front of DashboardService.
+ *
+ * Each scope (the portfolio, or one caller's mine/team view) keeps its last computed
+ * response and a strong ETag over its serialized statistics. Committed loan, condition
+ * and document writes bump the version; after that, or once a snapshot passes its
+ * maximum age, readers keep getting the previous response while one background
+ * refresh per scope recomputes it. A burst of requests therefore costs at most one
+ * aggregation.
+ */
+@Service
+public class DashboardSnapshotServiceImpl implements DashboardSnapshotService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardSnapshotServiceImpl.class);
+    
+    private static final String METRIC_PREFIX = "dashboard.cache";
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.dashboard.cache.max-age-ms:30000}")
+    private long maxAgeMs;
+    
+    private ExecutorService refreshExecutor;
+    private VersionedSnapshotCache<String, ApiResponse<DashboardStatsResponse>> cache;
+    
+    @PostConstruct
+    public void init() {
+        refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        Timer recomputeTimer = Timer.builder(METRIC_PREFIX + ".recompute")
+                .description("Time to recompute a dashboard snapshot")
+                .register(meterRegistry);
+        cache = new VersionedSnapshotCache<>(refreshExecutor, this::eTagOf,
+                nanos -> recomputeTimer.record(nanos, TimeUnit.NANOSECONDS), maxAgeMs);
+        
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cache, VersionedSnapshotCache::getHitCount)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cache, VersionedSnapshotCache::getStaleHitCount)
+                .tag("result", "stale").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cache, VersionedSnapshotCache::getMissCount)
+                .tag("result", "miss").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", cache, VersionedSnapshotCache::getHitRatio)
+                .description("Share of dashboard requests served from a cached snapshot")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".version", cache, VersionedSnapshotCache::getVersion)
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+    
+    @Override
+    public Snapshot<ApiResponse<DashboardStatsResponse>> getDashboardStats(DashboardScope scope, String userEmail) {
+        String key = scope == DashboardScope.ALL
+                ? scope.name()
+                : scope.name() + ":" + userEmail.toLowerCase(Locale.ROOT);
+        return cache.get(key, () -> ApiResponse.success("Dashboard statistics retrieved",
+                dashboardService.getDashboardStats(scope, userEmail)));
+    }
+    
+    @Override
+    public void invalidate() {
+        cache.invalidate();
+    }
+    
+    @TransactionalEventListener
+    public void onLoanChanged(LoanChangedEvent event) {
+        cache.invalidate();
+    }
+    
+    @TransactionalEventListener
+    public void onConditionChanged(ConditionChangedEvent event) {
+        cache.invalidate();
+    }
+    
+    @TransactionalEventListener
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        cache.invalidate();
+    }
+    
+    // Over the statistics only: the envelope's timestamp changes on every recompute
+    private String eTagOf(ApiResponse<DashboardStatsResponse> response) {
+        try {
+            byte[] body = objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(response.getData());
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            logger.warn("Could not compute dashboard ETag: {}", e.getMessage());
+            return "\"" + Long.toHexString(System.nanoTime()) + "\"";
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.lender.mortgage.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lender.mortgage.event.ConditionChangedEvent;
+import com.lender.mortgage.event.DocumentChangedEvent;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.service.DashboardService;
+import com.lender.mortgage.service.DashboardStreamService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes dashboard statistics to connected clients over Server-Sent Events.
+ *
+ * Committed loan, condition and document writes only mark the dashboard dirty. A
+ * one-second tick recomputes the statistics once, diffs them against the last frame
+ * and sends the changed fields to every subscriber, so a burst of writes becomes at
+ * most one frame per second per client and one aggregation per tick regardless of
+ * how many tabs are open. Streams are servlet async requests, so idle clients hold a
+ * connection but no request thread.
+ *
+ * Frames are queued per client and written by a small pool of send threads, never by
+ * the scheduler thread, so a client that stops reading blocks at most one send thread.
+ * A client whose queue fills up is disconnected and starts over from a snapshot when
+ * it reconnects, because skipping a delta would leave it showing wrong numbers.
+ */
+@Service
+public class DashboardStreamServiceImpl implements DashboardStreamService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStreamServiceImpl.class);
+    
+    private static final TypeReference<LinkedHashMap<String, Object>> FRAME_TYPE = new TypeReference<>() {};
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${app.dashboard.stream.timeout-ms:1800000}")
+    private long streamTimeoutMs;
+    
+    @Value("${app.dashboard.stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+    
+    @Value("${app.dashboard.stream.send-threads:2}")
+    private int sendThreads;
+    
+    @Value("${app.dashboard.stream.max-pending-frames:8}")
+    private int maxPendingFrames;
+    
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    
+    // Guards lastFrame and the snapshot queued for a new subscriber. Broadcasts are queued
+    // after it is released; ticks never overlap, so lastFrame already equals the frame being
+    // broadcast and a client joining mid-broadcast at worst receives a delta its snapshot
+    // already contains.
+    private final Object frameLock = new Object();
+    private Map<String, Object> lastFrame;
+    private long lastSentAt;
+    
+    private ExecutorService sendExecutor;
+    
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        sendExecutor = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stream-send-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+    
+    @Override
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(streamTimeoutMs));
+    }
+    
+    private SseEmitter register(SseEmitter emitter) {
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+        
+        Subscriber subscriber = new Subscriber(emitter);
+        synchronized (frameLock) {
+            if (lastFrame == null) {
+                lastFrame = currentFrame();
+                dirty.set(false);
+            }
+            subscribers.put(emitter, subscriber);
+            subscriber.offer(SseEmitter.event().name("snapshot").data(lastFrame));
+        }
+        
+        logger.debug("Dashboard stream opened, {} subscribers", subscribers.size());
+        return emitter;
+    }
+    
+    @Override
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    @TransactionalEventListener(classes = {
+            LoanChangedEvent.class, ConditionChangedEvent.class, DocumentChangedEvent.class})
+    public void onDashboardDataChanged() {
+        dirty.set(true);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.dashboard.stream.interval-ms:1000}")
+    public void publishChanges() {
+        if (subscribers.isEmpty()) {
+            // Nobody listening; the next subscriber starts from a fresh snapshot
+            synchronized (frameLock) {
+                lastFrame = null;
+            }
+            return;
+        }
+        
+        long now = System.currentTimeMillis();
+        SseEmitter.SseEventBuilder event = null;
+        synchronized (frameLock) {
+            if (dirty.getAndSet(false)) {
+                Map<String, Object> frame = currentFrame();
+                Map<String, Object> delta = diff(lastFrame, frame);
+                lastFrame = frame;
+                if (!delta.isEmpty()) {
+                    event = SseEmitter.event().name("delta").data(delta);
+                }
+            }
+            if (event == null && now - lastSentAt >= heartbeatMs) {
+                // Keeps proxies from closing idle streams and flushes out dead clients
+                event = SseEmitter.event().comment("heartbeat");
+            }
+            if (event != null) {
+                lastSentAt = now;
+            }
+        }
+        if (event != null) {
+            broadcast(event);
+        }
+    }
+    
+    private Map<String, Object> currentFrame() {
+        return objectMapper.convertValue(dashboardService.getDashboardStats(), FRAME_TYPE);
+    }
+    
+    // Called without frameLock held; only queues, so it never waits for a client
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.offer(event);
+        }
+    }
+    
+    private void close(Subscriber subscriber, String reason) {
+        subscribers.remove(subscriber.emitter);
+        subscriber.emitter.completeWithError(new IOException(reason));
+    }
+    
+    private static Map<String, Object> diff(Map<String, Object> previous, Map<String, Object> current) {
+        if (previous == null) {
+            return current;
+        }
+        Map<String, Object> delta = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                delta.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) {
+                // Field dropped out of the response; tell the client to clear it
+                delta.put(key, null);
+            }
+        }
+        return delta.isEmpty() ? Collections.emptyMap() : delta;
+    }
+    
+    /**
+     * One client's frames not yet written, oldest first. At most one send task per client
+     * is queued or running at a time, so frames reach the client in order.
+     */
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        // Guarded by this
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private boolean sending;
+        
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+        
+        void offer(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (pending.size() >= maxPendingFrames) {
+                    pending.clear();
+                } else {
+                    pending.add(event);
+                    if (sending) {
+                        return;
+                    }
+                    sending = true;
+                    sendExecutor.execute(this);
+                    return;
+                }
+            }
+            close(this, "Dashboard stream client fell behind");
+        }
+        
+        @Override
+        public void run() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = pending.poll();
+                    if (event == null) {
+                        sending = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    close(this, "Dashboard stream closed");
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.entity.enums.DocumentType;
+import com.lender.mortgage.event.DocumentChangedEvent;
+import com.lender.mortgage.event.DocumentSnapshot;
+import com.lender.mortgage.repository.DocumentRepository;
+import com.lender.mortgage.service.DocumentSearchIndexService;
+import com.lender.mortgage.utils.TrigramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Document search served from an in-memory trigram index over original file name and
+ * description (weighted in that order), built like the loan search index. Both fields and
+ * the query are split into words at separators, so "w2_2023.pdf" ranks "2023" as a word
+ * match and "w2_2023" finds every document the LIKE fallback would. Each
+ * indexed document also records its loan and type, which scope a search through the
+ * index's id filter. Deleted documents leave the index; a rebuild recovers from drift.
+ */
+@Service
+public class DocumentSearchIndexServiceImpl implements DocumentSearchIndexService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DocumentSearchIndexServiceImpl.class);
+    
+    // Original file name, description
+    private static final int[] FIELD_WEIGHTS = {2, 1};
+    
+    private static final Pattern SEPARATORS = Pattern.compile("[_.\\-]+");
+    
+    @Autowired
+    private DocumentRepository documentRepository;
+    
+    private volatile IndexedDocuments index;
+    
+    // Guards pendingWrites and every index write; pendingWrites is non-null only while a rebuild is running
+    private final Object rebuildLock = new Object();
+    private List<DocumentSnapshot> pendingWrites;
+    
+    // Serializes whole rebuilds, so an admin rebuild overlapping the startup one waits for it
+    private final ReentrantLock rebuilding = new ReentrantLock();
+    
+    @Override
+    public Page<Long> search(String term, Long loanId, DocumentType documentType, Pageable pageable) {
+        IndexedDocuments current = index;
+        if (current == null || term == null) {
+            return null;
+        }
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        TrigramIndex.Result result = current.text.search(tokenize(term), limit,
+                current.scope(loanId, documentType));
+        if (result == null) {
+            return null;
+        }
+        int[] ids = result.getIds();
+        List<Long> pageIds = new ArrayList<>();
+        for (int i = (int) Math.min(pageable.getOffset(), ids.length); i < ids.length; i++) {
+            pageIds.add((long) ids[i]);
+        }
+        return new PageImpl<>(pageIds, pageable, result.getTotal());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding.lock();
+        try {
+            long started = System.nanoTime();
+            synchronized (rebuildLock) {
+                pendingWrites = new ArrayList<>();
+            }
+            
+            IndexedDocuments fresh = new IndexedDocuments();
+            try (Stream<Object[]> rows = documentRepository.streamSearchFields()) {
+                rows.forEach(row -> fresh.put(Math.toIntExact((Long) row[0]), (Long) row[1],
+                        (DocumentType) row[2], (String) row[3], (String) row[4]));
+            } catch (RuntimeException e) {
+                synchronized (rebuildLock) {
+                    pendingWrites = null;
+                }
+                throw e;
+            }
+            
+            synchronized (rebuildLock) {
+                // Writes committed during the scan may be missing or older in the fresh index
+                pendingWrites.forEach(fresh::apply);
+                pendingWrites = null;
+                index = fresh;
+            }
+            logger.info("Document search index built with {} documents in {} ms",
+                    fresh.text.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        DocumentSnapshot document = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        if (document == null || document.getId() == null) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (pendingWrites != null) {
+                pendingWrites.add(document);
+            }
+            IndexedDocuments current = index;
+            if (current != null) {
+                current.apply(document);
+            }
+        }
+    }
+    
+    private static String tokenize(String text) {
+        return text == null ? null : SEPARATORS.matcher(text).replaceAll(" ");
+    }
+    
+    /**
+     * The text index plus each document's loan id and type, in arrays indexed by id.
+     * Scope entries are written before the text entry under the index's write lock, so a
+     * search that finds an id also sees its scope.
+     */
+    private static final class IndexedDocuments {
+        final TrigramIndex text = new TrigramIndex(FIELD_WEIGHTS);
+        
+        // Written only under rebuildLock (or by the single rebuilding thread before publication)
+        private volatile long[] loanIds = new long[1024];
+        private volatile byte[] types = new byte[1024];
+        
+        void apply(DocumentSnapshot document) {
+            int docId = Math.toIntExact(document.getId());
+            if (document.isActive()) {
+                put(docId, document.getLoanId(), document.getDocumentType(),
+                        document.getOriginalFileName(), document.getDescription());
+            } else {
+                text.remove(docId);
+            }
+        }
+        
+        void put(int docId, Long loanId, DocumentType type, String originalFileName, String description) {
+            if (docId >= loanIds.length) {
+                int grown = Math.max(docId + 1, loanIds.length * 2);
+                loanIds = Arrays.copyOf(loanIds, grown);
+                types = Arrays.copyOf(types, grown);
+            }
+            loanIds[docId] = loanId != null ? loanId : 0;
+            // Ordinal + 1, so an unset slot never matches a type
+            types[docId] = (byte) (type != null ? type.ordinal() + 1 : 0);
+            text.put(docId, tokenize(originalFileName), tokenize(description));
+        }
+        
+        IntPredicate scope(Long loanId, DocumentType type) {
+            if (loanId == null && type == null) {
+                return null;
+            }
+            long loan = loanId != null ? loanId : 0;
+            byte typeCode = (byte) (type != null ? type.ordinal() + 1 : 0);
+            return docId -> {
+                // Grown arrays are published before any id past the old length is indexed
+                long[] loans = loanIds;
+                byte[] typeCodes = types;
+                return docId < loans.length && docId < typeCodes.length
+                        && (loanId == null || loans[docId] == loan)
+                        && (type == null || typeCodes[docId] == typeCode);
+            };
+        }
+    }
+}
@@ -1,23 +1,31 @@
 package com.lender.mortgage.service.impl;
 
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.dto.response.DocumentResponse;
 import com.lender.mortgage.entity.Document;
 import com.lender.mortgage.entity.Loan;
 import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.DocumentType;
+import com.lender.mortgage.event.DocumentChangedEvent;
+import com.lender.mortgage.event.DocumentSnapshot;
 import com.lender.mortgage.exception.BadRequestException;
 import com.lender.mortgage.exception.ResourceNotFoundException;
 import com.lender.mortgage.repository.DocumentRepository;
+import com.lender.mortgage.service.DocumentSearchIndexService;
 import com.lender.mortgage.service.DocumentService;
 import com.lender.mortgage.service.LoanService;
 import com.lender.mortgage.service.UserService;
 import com.lender.mortgage.utils.FileUtils;
+import com.lender.mortgage.utils.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,7 +38,10 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,6 +50,10 @@ public class DocumentServiceImpl implements DocumentService {
     
     private static final Logger logger = LoggerFactory.getLogger(DocumentServiceImpl.class);
     
+    // Keyset-paginated document lists run newest first on (uploadedAt, id)
+    private static final String DOCUMENT_SORT_KEY = "uploadedAt";
+    private static final String DOCUMENT_CURSOR_SCOPE = "documents";
+    
     @Value("${app.file-storage.upload-dir:uploads}")
     private String uploadDir;
     
@@ -64,12 +79,18 @@ public class DocumentServiceImpl implements DocumentService {
     @Autowired
     private LoanService loanService;
     
+    @Autowired
+    private DocumentSearchIndexService documentSearchIndexService;
+    
     @Autowired
     private UserService userService;
     
     @Autowired
     private FileUtils fileUtils;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     @Override
     public DocumentResponse uploadDocument(Long loanId, DocumentType documentType, MultipartFile file, 
                                          String description, String uploadedByEmail) {
@@ -106,6 +127,8 @@ public class DocumentServiceImpl implements DocumentService {
             
             Document savedDocument = documentRepository.save(document);
             
+            publishDocumentChanged(DocumentChangedEvent.ChangeType.UPLOADED, null, savedDocument, uploadedByEmail);
+            
             logger.info("Uploaded document {} for loan {}", 
                        savedDocument.getOriginalFileName(), loan.getLoanNumber());
             
@@ -154,9 +177,35 @@ public class DocumentServiceImpl implements DocumentService {
     
     @Override
     @Transactional(readOnly = true)
-    public Page<DocumentResponse> searchDocuments(String searchTerm, Pageable pageable) {
-        return documentRepository.findByFileNameContaining(searchTerm, pageable)
-                .map(DocumentResponse::new);
+    public CursorPageResponse<DocumentResponse> getDocumentsByUser(Long userId, String cursor, int size) {
+        User user = userService.getUserEntity(userId);
+        Specification<Document> uploadedBy = (root, query, cb) -> cb.equal(root.get("uploadedBy"), user);
+        KeysetCursor position = KeysetCursor.decode(cursor, DOCUMENT_CURSOR_SCOPE, DOCUMENT_SORT_KEY);
+        List<Document> rows = documentRepository.findBy(uploadedBy.and(KeysetCursor.after(position)),
+                query -> query.sortBy(KeysetCursor.sort(DOCUMENT_SORT_KEY)).limit(size + 1).all());
+        return KeysetCursor.page(rows, size, DOCUMENT_CURSOR_SCOPE, DOCUMENT_SORT_KEY,
+                Document::getUploadedAt, Document::getId, DocumentResponse::new);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DocumentResponse> searchDocuments(String searchTerm, Long loanId, DocumentType documentType,
+                                                  Pageable pageable) {
+        Page<Long> rankedIds = documentSearchIndexService.search(searchTerm, loanId, documentType, pageable);
+        if (rankedIds == null) {
+            // Index not built yet or term too short for trigrams
+            return documentRepository.searchResponses(searchTerm, loanId, documentType, pageable);
+        }
+        
+        // Results come back in relevance order, so the page's own sort is not applied
+        List<Long> pageIds = rankedIds.getContent();
+        Map<Long, DocumentResponse> responsesById = documentRepository.findResponsesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(DocumentResponse::getId, Function.identity()));
+        List<DocumentResponse> content = pageIds.stream()
+                .map(responsesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, rankedIds.getTotalElements());
     }
     
     @Override
@@ -200,10 +249,13 @@ public class DocumentServiceImpl implements DocumentService {
     @Override
     public void deleteDocument(Long documentId, String deletedByEmail) {
         Document document = getDocumentEntity(documentId);
+        DocumentSnapshot before = new DocumentSnapshot(document);
         
         // Soft delete - mark as inactive
         document.setActive(false);
-        documentRepository.save(document);
+        Document savedDocument = documentRepository.save(document);
+        
+        publishDocumentChanged(DocumentChangedEvent.ChangeType.DELETED, before, savedDocument, deletedByEmail);
         
         logger.info("Deleted document {} by user {}", 
                    document.getOriginalFileName(), deletedByEmail);
@@ -212,10 +264,13 @@ public class DocumentServiceImpl implements DocumentService {
     @Override
     public DocumentResponse updateDocumentDescription(Long documentId, String description, String updatedByEmail) {
         Document document = getDocumentEntity(documentId);
+        DocumentSnapshot before = new DocumentSnapshot(document);
         
         document.setDescription(description);
         Document savedDocument = documentRepository.save(document);
         
+        publishDocumentChanged(DocumentChangedEvent.ChangeType.UPDATED, before, savedDocument, updatedByEmail);
+        
         logger.info("Updated description for document {}", document.getOriginalFileName());
         
         return new DocumentResponse(savedDocument);
@@ -298,4 +353,11 @@ public class DocumentServiceImpl implements DocumentService {
             throw new RuntimeException("Checksum calculation failed", e);
         }
     }
-}
\ No newline at end of file
+    
+    private void publishDocumentChanged(DocumentChangedEvent.ChangeType changeType, DocumentSnapshot before,
+                                        Document savedDocument, String changedByEmail) {
+        // Delivered to listeners after the surrounding transaction commits
+        eventPublisher.publishEvent(new DocumentChangedEvent(
+                changeType, before, new DocumentSnapshot(savedDocument), changedByEmail));
+    }
+}
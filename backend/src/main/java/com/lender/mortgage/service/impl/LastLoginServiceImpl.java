@@ -0,0 +1,98 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.service.LastLoginService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for users' last login times. Logins only record the time in
+ * memory; a scheduled flush writes them in JDBC batches, one row per user however many
+ * times that user logged in since the last flush. Reads of last_login_at, such as
+ * {@code UserRepository.findUsersNotLoggedInSince}, lag by at most the flush interval.
+ *
+ * The update never moves a row's time backwards, so a late flush from another instance
+ * cannot overwrite a newer login. A failed batch puts its entries back for the next
+ * flush, and pending entries are flushed when the application shuts down.
+ */
+@Service
+public class LastLoginServiceImpl implements LastLoginService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginServiceImpl.class);
+    
+    private static final String UPDATE_SQL = "UPDATE users SET last_login_at = ? "
+            + "WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.users.last-login.batch-size:500}")
+    private int batchSize;
+    
+    // User id to the latest login time not yet written
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    
+    @Override
+    public void recordLogin(Long userId, LocalDateTime loggedInAt) {
+        pending.merge(userId, loggedInAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${app.users.last-login.flush-interval-ms:10000}",
+               initialDelayString = "${app.users.last-login.flush-interval-ms:10000}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        
+        // Take each entry out individually so logins recorded meanwhile wait for the next flush
+        List<Object[]> rows = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loggedInAt = pending.remove(userId);
+            if (loggedInAt != null) {
+                Timestamp timestamp = Timestamp.valueOf(loggedInAt);
+                rows.add(new Object[] {timestamp, userId, timestamp});
+            }
+        }
+        
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+                written += batch.size();
+            } catch (RuntimeException e) {
+                logger.error("Could not write {} last login times, retrying at the next flush: {}",
+                        batch.size(), e.getMessage());
+                batch.forEach(row -> recordLogin((Long) row[1], ((Timestamp) row[0]).toLocalDateTime()));
+            }
+        }
+        logger.debug("Flushed last login times for {} users", written);
+        return written;
+    }
+    
+    @Override
+    public int getPendingCount() {
+        return pending.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        int written = flush();
+        if (written > 0) {
+            logger.info("Flushed last login times for {} users on shutdown", written);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.dto.response.UserResponse;
+import com.lender.mortgage.dto.response.UserStatsResponse;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.repository.LoanConditionRepository;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.service.LeaderboardService;
+import com.lender.mortgage.utils.TopK;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Staff leaderboards built from one grouped query per staff role plus one grouped
+ * query over condition assignees, independent of head count. The top performers of
+ * each role are picked with a bounded heap (TopK) and the whole result is cached as an
+ * immutable snapshot that is swapped on each scheduled refresh.
+ */
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardServiceImpl.class);
+    
+    static final List<UserRole> STAFF_ROLES = List.of(UserRole.LOAN_OFFICER, UserRole.PROCESSOR, UserRole.UNDERWRITER);
+    
+    // Closed volume first, then closed count, then current workload
+    static final Comparator<UserStatsResponse> RANKING = Comparator
+            .comparing(UserStatsResponse::getClosedLoanAmount)
+            .thenComparing(UserStatsResponse::getClosedLoans)
+            .thenComparing(UserStatsResponse::getActiveLoans)
+            .thenComparing(stats -> stats.getUser().getId(), Comparator.reverseOrder());
+    
+    @Autowired
+    private LoanRepository loanRepository;
+    
+    @Autowired
+    private LoanConditionRepository conditionRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Value("${app.dashboard.leaderboard.size:5}")
+    private int leaderboardSize = 5;
+    
+    private volatile Snapshot snapshot;
+    
+    @Override
+    public List<UserStatsResponse> getTopPerformers(UserRole role) {
+        return currentSnapshot().topByRole.getOrDefault(role, Collections.emptyList());
+    }
+    
+    @Override
+    public UserStatsResponse getUserStats(Long userId) {
+        return currentSnapshot().byUserId.get(userId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.dashboard.leaderboard.refresh-interval-ms:300000}",
+               initialDelayString = "${app.dashboard.leaderboard.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        
+        Map<Long, UserStatsResponse> byUserId = new HashMap<>();
+        Map<UserRole, List<UserStatsResponse>> staffByRole = new EnumMap<>(UserRole.class);
+        for (User user : userRepository.findByRolesAndActiveTrue(STAFF_ROLES)) {
+            UserStatsResponse stats = emptyStats(user);
+            byUserId.put(user.getId(), stats);
+            staffByRole.computeIfAbsent(user.getRole(), role -> new ArrayList<>()).add(stats);
+        }
+        
+        applyLoanRows(byUserId, UserRole.LOAN_OFFICER, loanRepository.summarizeByLoanOfficer());
+        applyLoanRows(byUserId, UserRole.PROCESSOR, loanRepository.summarizeByProcessor());
+        applyLoanRows(byUserId, UserRole.UNDERWRITER, loanRepository.summarizeByUnderwriter());
+        applyConditionRows(byUserId, conditionRepository.summarizeByAssignee(now));
+        
+        Map<UserRole, List<UserStatsResponse>> topByRole = new EnumMap<>(UserRole.class);
+        for (UserRole role : STAFF_ROLES) {
+            topByRole.put(role, TopK.select(staffByRole.getOrDefault(role, Collections.emptyList()),
+                    leaderboardSize, RANKING));
+        }
+        
+        snapshot = new Snapshot(Collections.unmodifiableMap(byUserId), Collections.unmodifiableMap(topByRole));
+        logger.debug("Leaderboards refreshed for {} staff in {} ms",
+                byUserId.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // First read before the scheduled refresh has run
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+    
+    private void applyLoanRows(Map<Long, UserStatsResponse> byUserId, UserRole role, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            UserStatsResponse stats = byUserId.get((Long) row[0]);
+            if (stats == null || stats.getUser().getRole() != role) {
+                // Inactive user, or someone assigned outside their own role
+                continue;
+            }
+            long total = toLong(row[1]);
+            long closed = toLong(row[3]);
+            long otherTerminal = toLong(row[4]);
+            
+            stats.setTotalLoans(total);
+            stats.setActiveLoans(toLong(row[2]));
+            stats.setClosedLoans(closed);
+            stats.setTotalLoanAmount(toBigDecimal(row[5]));
+            stats.setClosedLoanAmount(toBigDecimal(row[6]));
+            stats.setAvgDaysToClose(closed > 0 ? round(toDouble(row[7]) / closed) : 0.0);
+            stats.setClosingRatePercent(closed + otherTerminal > 0
+                    ? round(closed * 100.0 / (closed + otherTerminal))
+                    : 0.0);
+        }
+    }
+    
+    private void applyConditionRows(Map<Long, UserStatsResponse> byUserId, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            UserStatsResponse stats = byUserId.get((Long) row[0]);
+            if (stats != null) {
+                stats.setOpenConditions(toLong(row[1]));
+                stats.setOverdueConditions(toLong(row[2]));
+                stats.setResolvedConditions(toLong(row[3]));
+            }
+        }
+    }
+    
+    private static UserStatsResponse emptyStats(User user) {
+        UserStatsResponse stats = new UserStatsResponse(new UserResponse(user));
+        stats.setTotalLoans(0L);
+        stats.setActiveLoans(0L);
+        stats.setClosedLoans(0L);
+        stats.setTotalLoanAmount(BigDecimal.ZERO);
+        stats.setClosedLoanAmount(BigDecimal.ZERO);
+        stats.setAvgDaysToClose(0.0);
+        stats.setClosingRatePercent(0.0);
+        stats.setOpenConditions(0L);
+        stats.setOverdueConditions(0L);
+        stats.setResolvedConditions(0L);
+        return stats;
+    }
+    
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+    
+    private static double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+    
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+    
+    private static final class Snapshot {
+        final Map<Long, UserStatsResponse> byUserId;
+        final Map<UserRole, List<UserStatsResponse>> topByRole;
+        
+        Snapshot(Map<Long, UserStatsResponse> byUserId, Map<UserRole, List<UserStatsResponse>> topByRole) {
+            this.byUserId = byUserId;
+            this.topByRole = topByRole;
+        }
+    }
+}
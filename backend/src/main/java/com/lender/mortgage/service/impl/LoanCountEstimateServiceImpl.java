@@ -0,0 +1,149 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.service.LoanCountEstimateService;
+import com.lender.mortgage.service.PipelineCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Totals for count-free list pages. Status and type filters are answered from the
+ * pipeline counters; creation-date ranges from a per-day histogram of loan creations
+ * that is reloaded in the background and bumped as new loans commit, with the partial
+ * first and last day prorated by the time of day. Anything else is not estimated.
+ *
+ * The histogram is swapped wholesale on reload, so a creation committed during the
+ * reload can be missed until the next one; totals are reported as approximate.
+ */
+@Service
+public class LoanCountEstimateServiceImpl implements LoanCountEstimateService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LoanCountEstimateServiceImpl.class);
+    
+    private static final double SECONDS_PER_DAY = 86_400.0;
+    
+    @Autowired
+    private LoanRepository loanRepository;
+    
+    @Autowired
+    private PipelineCounterService pipelineCounterService;
+    
+    // Null until the first load
+    private volatile ConcurrentNavigableMap<LocalDate, LongAdder> createdByDay;
+    
+    @Override
+    public Long estimate(LoanFilterRequest filter) {
+        if (filter.getLoanOfficerId() != null || filter.getProcessorId() != null
+                || filter.getUnderwriterId() != null
+                || (filter.getState() != null && !filter.getState().isBlank())
+                || filter.getMinAmount() != null || filter.getMaxAmount() != null
+                || filter.getClosingWithinDays() != null
+                || (filter.getCreditBands() != null && !filter.getCreditBands().isEmpty())) {
+            return null;
+        }
+        boolean byStatus = filter.getStatuses() != null && !filter.getStatuses().isEmpty();
+        boolean byType = filter.getTypes() != null && !filter.getTypes().isEmpty();
+        
+        if (filter.getStartDate() != null || filter.getEndDate() != null) {
+            return byStatus || byType ? null : estimateCreatedBetween(filter.getStartDate(), filter.getEndDate());
+        }
+        if (!pipelineCounterService.isInitialized()) {
+            return null;
+        }
+        if (!byStatus && !byType) {
+            return pipelineCounterService.getTotalCount();
+        }
+        if (!byType) {
+            return EnumSet.copyOf(filter.getStatuses()).stream()
+                    .mapToLong(pipelineCounterService::getCount).sum();
+        }
+        if (!byStatus) {
+            return EnumSet.copyOf(filter.getTypes()).stream()
+                    .mapToLong(pipelineCounterService::getCount).sum();
+        }
+        Set<LoanStatus> statuses = EnumSet.copyOf(filter.getStatuses());
+        Set<LoanType> types = EnumSet.copyOf(filter.getTypes());
+        long total = 0;
+        for (Object[] cell : pipelineCounterService.summarizeByStatusAndType()) {
+            if (statuses.contains(cell[0]) && types.contains(cell[1])) {
+                total += (Long) cell[2];
+            }
+        }
+        return total;
+    }
+    
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.loans.count-estimate.refresh-interval-ms:600000}",
+               initialDelayString = "${app.loans.count-estimate.refresh-interval-ms:600000}")
+    public void refresh() {
+        ConcurrentNavigableMap<LocalDate, LongAdder> loaded = new ConcurrentSkipListMap<>();
+        List<Object[]> rows = loanRepository.countCreatedByDay();
+        for (Object[] row : rows) {
+            if (row[0] == null) {
+                continue;
+            }
+            LongAdder count = new LongAdder();
+            count.add(((Number) row[3]).longValue());
+            loaded.put(LocalDate.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(),
+                    ((Number) row[2]).intValue()), count);
+        }
+        createdByDay = loaded;
+        logger.debug("Loan creation histogram reloaded with {} days", loaded.size());
+    }
+    
+    @TransactionalEventListener
+    public void onLoanChanged(LoanChangedEvent event) {
+        ConcurrentNavigableMap<LocalDate, LongAdder> current = createdByDay;
+        if (current != null && event.getChangeType() == LoanChangedEvent.ChangeType.CREATED) {
+            current.computeIfAbsent(LocalDate.now(), day -> new LongAdder()).increment();
+        }
+    }
+    
+    private Long estimateCreatedBetween(LocalDateTime start, LocalDateTime end) {
+        NavigableMap<LocalDate, LongAdder> days = createdByDay;
+        if (days == null) {
+            return null;
+        }
+        if (start != null) {
+            days = days.tailMap(start.toLocalDate(), true);
+        }
+        if (end != null) {
+            days = days.headMap(end.toLocalDate(), true);
+        }
+        double total = 0;
+        for (Map.Entry<LocalDate, LongAdder> day : days.entrySet()) {
+            // Share of the day inside the range, assuming creations spread evenly over it
+            double covered = 1.0;
+            if (start != null && day.getKey().equals(start.toLocalDate())) {
+                covered -= start.toLocalTime().toSecondOfDay() / SECONDS_PER_DAY;
+            }
+            if (end != null && day.getKey().equals(end.toLocalDate())) {
+                covered -= 1.0 - (end.toLocalTime().toSecondOfDay() + 1) / SECONDS_PER_DAY;
+            }
+            total += Math.max(covered, 0.0) * day.getValue().sum();
+        }
+        return Math.round(total);
+    }
+}
@@ -0,0 +1,127 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.entity.LoanDailyStat;
+import com.lender.mortgage.entity.RollupWatermark;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.repository.LoanDailyStatRepository;
+import com.lender.mortgage.repository.LoanStatusHistoryRepository;
+import com.lender.mortgage.repository.RollupWatermarkRepository;
+import com.lender.mortgage.service.LoanRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incrementally folds loan_status_history into loan_daily_stats.
+ *
+ * Each run reads the watermark (highest history id already folded), aggregates the
+ * next window of history ids in the database grouped by day/status/type/officer, and
+ * adds the grouped rows onto the matching rollup rows. Only history older than a
+ * short commit lag is taken, so a transaction that allocated a lower id but commits
+ * late is not skipped by the watermark.
+ */
+@Service
+@Transactional
+public class LoanRollupServiceImpl implements LoanRollupService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LoanRollupServiceImpl.class);
+    
+    static final String JOB_NAME = "loan_daily_stats";
+    
+    @Autowired
+    private LoanStatusHistoryRepository statusHistoryRepository;
+    
+    @Autowired
+    private LoanDailyStatRepository dailyStatRepository;
+    
+    @Autowired
+    private RollupWatermarkRepository watermarkRepository;
+    
+    @Value("${app.dashboard.rollup.commit-lag-seconds:120}")
+    private long commitLagSeconds;
+    
+    @Value("${app.dashboard.rollup.batch-size:50000}")
+    private long batchSize;
+    
+    @Override
+    @Scheduled(fixedDelayString = "${app.dashboard.rollup.interval-ms:60000}",
+               initialDelayString = "${app.dashboard.rollup.initial-delay-ms:10000}")
+    public long rollUpStatusHistory() {
+        RollupWatermark watermark = watermarkRepository.findForUpdate(JOB_NAME)
+                .orElseGet(() -> watermarkRepository.save(new RollupWatermark(JOB_NAME)));
+        
+        long afterId = watermark.getLastProcessedId();
+        Long maxId = statusHistoryRepository.findMaxIdAfter(afterId,
+                LocalDateTime.now().minusSeconds(commitLagSeconds));
+        if (maxId == null) {
+            return 0;
+        }
+        
+        long processed = 0;
+        while (afterId < maxId) {
+            long upToId = Math.min(maxId, afterId + batchSize);
+            processed += fold(statusHistoryRepository.summarizeTransitionsByDay(afterId, upToId));
+            afterId = upToId;
+        }
+        
+        watermark.setLastProcessedId(maxId);
+        watermark.setUpdatedAt(LocalDateTime.now());
+        watermarkRepository.save(watermark);
+        
+        logger.info("Rolled up {} status changes into loan_daily_stats (watermark {})", processed, maxId);
+        return processed;
+    }
+    
+    private long fold(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        
+        Set<LocalDate> days = new HashSet<>();
+        for (Object[] row : rows) {
+            days.add((LocalDate) row[0]);
+        }
+        Map<List<Object>, LoanDailyStat> existing = new HashMap<>();
+        for (LoanDailyStat stat : dailyStatRepository.findByStatDateIn(days)) {
+            existing.put(keyOf(stat.getStatDate(), stat.getStatus(), stat.getLoanType(), stat.getLoanOfficerId()), stat);
+        }
+        
+        long processed = 0;
+        for (Object[] row : rows) {
+            LocalDate day = (LocalDate) row[0];
+            LoanStatus status = (LoanStatus) row[1];
+            LoanType type = (LoanType) row[2];
+            Long officerId = row[3] != null ? ((Number) row[3]).longValue() : null;
+            long count = ((Number) row[4]).longValue();
+            
+            LoanDailyStat stat = existing.computeIfAbsent(keyOf(day, status, type, officerId),
+                    key -> new LoanDailyStat(day, status, type, officerId));
+            stat.add(count,
+                    row[5] != null ? new BigDecimal(row[5].toString()) : BigDecimal.ZERO,
+                    row[6] != null ? ((Number) row[6]).longValue() : 0L);
+            processed += count;
+        }
+        
+        dailyStatRepository.saveAll(existing.values());
+        return processed;
+    }
+    
+    private static List<Object> keyOf(LocalDate day, LoanStatus status, LoanType type, Long officerId) {
+        return Arrays.asList(day, status, type, officerId);
+    }
+}
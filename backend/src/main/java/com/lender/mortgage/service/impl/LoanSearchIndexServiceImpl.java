@@ -0,0 +1,128 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.service.LoanSearchIndexService;
+import com.lender.mortgage.utils.TrigramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Loan search served from an in-memory trigram index over loan number, borrower last
+ * and first name and property address (weighted in that order). Built by scrolling the
+ * loans table at startup and kept current from committed loan writes; loan writes that
+ * arrive while a build is running are replayed on the new index before it is published.
+ */
+@Service
+public class LoanSearchIndexServiceImpl implements LoanSearchIndexService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LoanSearchIndexServiceImpl.class);
+    
+    // Loan number, last name, first name, property address
+    private static final int[] FIELD_WEIGHTS = {4, 3, 2, 1};
+    
+    @Autowired
+    private LoanRepository loanRepository;
+    
+    private volatile TrigramIndex index;
+    
+    // Guards pendingWrites; non-null only while a rebuild is running
+    private final Object rebuildLock = new Object();
+    private List<PendingWrite> pendingWrites;
+    
+    @Override
+    public Page<Long> search(String term, Pageable pageable) {
+        TrigramIndex current = index;
+        if (current == null) {
+            return null;
+        }
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        TrigramIndex.Result result = current.search(term, limit);
+        if (result == null) {
+            return null;
+        }
+        int[] ids = result.getIds();
+        List<Long> pageIds = new ArrayList<>();
+        for (int i = (int) Math.min(pageable.getOffset(), ids.length); i < ids.length; i++) {
+            pageIds.add((long) ids[i]);
+        }
+        return new PageImpl<>(pageIds, pageable, result.getTotal());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        synchronized (rebuildLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        
+        TrigramIndex fresh = new TrigramIndex(FIELD_WEIGHTS);
+        try (Stream<Object[]> rows = loanRepository.streamSearchFields()) {
+            rows.forEach(row -> fresh.put(Math.toIntExact((Long) row[0]),
+                    (String) row[1], (String) row[2], (String) row[3], (String) row[4]));
+        }
+        
+        synchronized (rebuildLock) {
+            // Writes committed during the scan may be missing or older in the fresh index
+            pendingWrites.forEach(write -> apply(fresh, write.loan, write.deleted));
+            pendingWrites = null;
+            index = fresh;
+        }
+        logger.info("Loan search index built with {} loans in {} ms",
+                fresh.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    @TransactionalEventListener
+    public void onLoanChanged(LoanChangedEvent event) {
+        LoanSnapshot loan = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        if (loan == null || loan.getId() == null) {
+            return;
+        }
+        boolean deleted = event.getAfter() == null;
+        synchronized (rebuildLock) {
+            if (pendingWrites != null) {
+                pendingWrites.add(new PendingWrite(loan, deleted));
+            }
+            TrigramIndex current = index;
+            if (current != null) {
+                apply(current, loan, deleted);
+            }
+        }
+    }
+    
+    private static void apply(TrigramIndex target, LoanSnapshot loan, boolean deleted) {
+        int docId = Math.toIntExact(loan.getId());
+        if (deleted) {
+            target.remove(docId);
+        } else {
+            target.put(docId, loan.getLoanNumber(), loan.getBorrowerLastName(),
+                    loan.getBorrowerFirstName(), loan.getPropertyAddress());
+        }
+    }
+    
+    private static final class PendingWrite {
+        final LoanSnapshot loan;
+        final boolean deleted;
+        
+        PendingWrite(LoanSnapshot loan, boolean deleted) {
+            this.loan = loan;
+            this.deleted = deleted;
+        }
+    }
+}
@@ -5,28 +5,42 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import com.lender.mortgage.repository.UserRepository;
 import com.lender.mortgage.dto.request.CreateLoanRequest;
+import com.lender.mortgage.dto.request.LoanFilterRequest;
 import com.lender.mortgage.dto.request.UpdateLoanRequest;
 import com.lender.mortgage.dto.request.UpdateLoanStatusRequest;
+import com.lender.mortgage.dto.response.CursorPageResponse;
 import com.lender.mortgage.dto.response.LoanResponse;
 import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.dto.response.SliceResponse;
 import com.lender.mortgage.entity.Loan;
 import com.lender.mortgage.entity.LoanStatusHistory;
 import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.LoanStatus;
 import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
 import com.lender.mortgage.exception.BadRequestException;
 import com.lender.mortgage.exception.LoanProcessingException;
 import com.lender.mortgage.exception.ResourceNotFoundException;
 import com.lender.mortgage.repository.LoanRepository;
 import com.lender.mortgage.repository.LoanStatusHistoryRepository;
+import com.lender.mortgage.service.LoanCountEstimateService;
+import com.lender.mortgage.service.LoanSearchIndexService;
 import com.lender.mortgage.service.LoanService;
+import com.lender.mortgage.service.StaffDirectoryService;
 import com.lender.mortgage.service.UserService;
+import com.lender.mortgage.utils.KeysetCursor;
 import com.lender.mortgage.utils.LoanNumberGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +48,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,6 +58,10 @@ import java.util.stream.Collectors;
 public class LoanServiceImpl implements LoanService {
 
     private static final Logger logger = LoggerFactory.getLogger(LoanServiceImpl.class);
+    
+    // Keyset-paginated loan lists run newest first on (createdAt, id)
+    private static final String LOAN_SORT_KEY = "createdAt";
+    private static final String LOAN_CURSOR_SCOPE = "loans";
 
     @Autowired
     private LoanRepository loanRepository;
@@ -57,6 +78,18 @@ public class LoanServiceImpl implements LoanService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private LoanSearchIndexService loanSearchIndexService;
+
+    @Autowired
+    private StaffDirectoryService staffDirectory;
+
+    @Autowired
+    private LoanCountEstimateService loanCountEstimateService;
+
     @Override
 public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail) {
     // Generate unique loan number
@@ -146,6 +179,8 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
                 "Loan application created");
         statusHistoryRepository.save(statusHistory);
 
+        publishLoanChanged(LoanChangedEvent.ChangeType.CREATED, null, savedLoan, createdByEmail);
+
         logger.info("Created new loan: {} for borrower: {}",
                 savedLoan.getLoanNumber(), savedLoan.getBorrowerFullName());
 
@@ -155,6 +190,7 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
     @Override
     public LoanResponse updateLoan(Long loanId, UpdateLoanRequest request, String updatedByEmail) {
         Loan loan = getLoanEntity(loanId);
+        LoanSnapshot before = new LoanSnapshot(loan);
 
         // Update loan fields based on request
         // Implementation similar to create but with updates
@@ -167,6 +203,8 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
 
         Loan savedLoan = loanRepository.save(loan);
 
+        publishLoanChanged(LoanChangedEvent.ChangeType.UPDATED, before, savedLoan, updatedByEmail);
+
         logger.info("Updated loan: {}", savedLoan.getLoanNumber());
 
         return new LoanResponse(savedLoan);
@@ -175,6 +213,7 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
     @Override
     public LoanResponse updateLoanStatus(Long loanId, UpdateLoanStatusRequest request, String updatedByEmail) {
         Loan loan = getLoanEntity(loanId);
+        LoanSnapshot before = new LoanSnapshot(loan);
         LoanStatus oldStatus = loan.getStatus();
         LoanStatus newStatus = request.getNewStatus();
 
@@ -207,6 +246,8 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
         statusHistory.setNotes(request.getNotes());
         statusHistoryRepository.save(statusHistory);
 
+        publishLoanChanged(LoanChangedEvent.ChangeType.STATUS_CHANGED, before, savedLoan, updatedByEmail);
+
         logger.info("Updated loan {} status from {} to {}",
                 savedLoan.getLoanNumber(), oldStatus, newStatus);
 
@@ -216,7 +257,8 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
     @Override
     @Transactional(readOnly = true)
     public LoanResponse getLoanById(Long loanId) {
-        Loan loan = getLoanEntity(loanId);
+        Loan loan = loanRepository.findWithStaffById(loanId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan not found with id: " + loanId));
         return new LoanResponse(loan);
     }
 
@@ -231,88 +273,185 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getAllLoans(Pageable pageable) {
-        return loanRepository.findAll(pageable)
-                .map(LoanSummaryResponse::new);
+        return loanRepository.findSummaries(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LoanSummaryResponse> getAllLoans(String cursor, int size) {
+        return seekLoans(Specification.where(null), cursor, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> searchLoans(String searchTerm, Pageable pageable) {
-        return loanRepository.findBySearchTerm(searchTerm, pageable)
-                .map(LoanSummaryResponse::new);
+        Page<Long> rankedIds = loanSearchIndexService.search(searchTerm, pageable);
+        if (rankedIds == null) {
+            // Index not built yet or term too short for trigrams
+            return loanRepository.findSummariesBySearchTerm(searchTerm, pageable);
+        }
+        
+        // Results come back in relevance order, so the page's own sort is not applied
+        List<Long> pageIds = rankedIds.getContent();
+        Map<Long, LoanSummaryResponse> summariesById = loanRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(LoanSummaryResponse::getId, Function.identity()));
+        List<LoanSummaryResponse> content = pageIds.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, rankedIds.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<LoanSummaryResponse> searchLoansSlice(String searchTerm, Pageable pageable) {
+        Page<Long> rankedIds = loanSearchIndexService.search(searchTerm, pageable);
+        if (rankedIds == null) {
+            // The LIKE fallback has no cheap total
+            return new SliceResponse<>(loanRepository.findSummarySliceBySearchTerm(searchTerm, pageable), null);
+        }
+        
+        // The index counts its matches while ranking, so its total costs nothing extra
+        Map<Long, LoanSummaryResponse> summariesById = loanRepository.findSummariesByIdIn(rankedIds.getContent())
+                .stream()
+                .collect(Collectors.toMap(LoanSummaryResponse::getId, Function.identity()));
+        List<LoanSummaryResponse> content = rankedIds.getContent().stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new SliceResponse<>(new SliceImpl<>(content, pageable, rankedIds.hasNext()),
+                rankedIds.getTotalElements());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByStatus(LoanStatus status, Pageable pageable) {
-        return loanRepository.findByStatus(status, pageable)
-                .map(LoanSummaryResponse::new);
+        return loanRepository.findSummariesByStatus(status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LoanSummaryResponse> getLoansByStatus(LoanStatus status, String cursor, int size) {
+        return seekLoans((root, query, cb) -> cb.equal(root.get("status"), status), cursor, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByStatuses(List<LoanStatus> statuses, Pageable pageable) {
-        return loanRepository.findByStatusIn(statuses, pageable)
-                .map(LoanSummaryResponse::new);
+        return loanRepository.findSummariesByStatusIn(statuses, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<LoanSummaryResponse> getLoansByStatusesSlice(List<LoanStatus> statuses, Pageable pageable) {
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setStatuses(statuses);
+        return filterLoansSlice(filter, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByOfficer(Long officerId, Pageable pageable) {
+        userService.getUserEntity(officerId); // unknown staff ids still 404
+        return loanRepository.findSummariesByLoanOfficerId(officerId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LoanSummaryResponse> getLoansByOfficer(Long officerId, String cursor, int size) {
         User officer = userService.getUserEntity(officerId);
-        return loanRepository.findByLoanOfficer(officer, pageable)
-                .map(LoanSummaryResponse::new);
+        return seekLoans((root, query, cb) -> cb.equal(root.get("loanOfficer"), officer), cursor, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByProcessor(Long processorId, Pageable pageable) {
+        userService.getUserEntity(processorId); // unknown staff ids still 404
+        return loanRepository.findSummariesByProcessorId(processorId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LoanSummaryResponse> getLoansByProcessor(Long processorId, String cursor, int size) {
         User processor = userService.getUserEntity(processorId);
-        return loanRepository.findByProcessor(processor, pageable)
-                .map(LoanSummaryResponse::new);
+        return seekLoans((root, query, cb) -> cb.equal(root.get("processor"), processor), cursor, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByUnderwriter(Long underwriterId, Pageable pageable) {
+        userService.getUserEntity(underwriterId); // unknown staff ids still 404
+        return loanRepository.findSummariesByUnderwriterId(underwriterId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LoanSummaryResponse> getLoansByUnderwriter(Long underwriterId, String cursor, int size) {
         User underwriter = userService.getUserEntity(underwriterId);
-        return loanRepository.findByUnderwriter(underwriter, pageable)
-                .map(LoanSummaryResponse::new);
+        return seekLoans((root, query, cb) -> cb.equal(root.get("underwriter"), underwriter), cursor, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByBorrower(String borrowerEmail, Pageable pageable) {
-        return loanRepository.findByBorrowerEmail(borrowerEmail, pageable)
-                .map(LoanSummaryResponse::new);
+        return loanRepository.findSummariesByBorrowerEmail(borrowerEmail, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByType(List<LoanType> types, Pageable pageable) {
-        return loanRepository.findByLoanTypeIn(types, pageable)
-                .map(LoanSummaryResponse::new);
+        return loanRepository.findSummariesByLoanTypeIn(types, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<LoanSummaryResponse> getLoansByTypeSlice(List<LoanType> types, Pageable pageable) {
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setTypes(types);
+        return filterLoansSlice(filter, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByAmountRange(BigDecimal minAmount, BigDecimal maxAmount,
             Pageable pageable) {
-        return loanRepository.findByLoanAmountBetween(minAmount, maxAmount, pageable)
-                .map(LoanSummaryResponse::new);
+        return loanRepository.findSummariesByLoanAmountBetween(minAmount, maxAmount, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LoanSummaryResponse> getLoansByDateRange(LocalDateTime startDate, LocalDateTime endDate,
             Pageable pageable) {
-        return loanRepository.findByCreatedAtBetween(startDate, endDate, pageable)
-                .map(LoanSummaryResponse::new);
+        return loanRepository.findSummariesByCreatedAtBetween(startDate, endDate, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<LoanSummaryResponse> getLoansByDateRangeSlice(LocalDateTime startDate, LocalDateTime endDate,
+            Pageable pageable) {
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setStartDate(startDate);
+        filter.setEndDate(endDate);
+        return filterLoansSlice(filter, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<LoanSummaryResponse> filterLoans(LoanFilterRequest filter, Pageable pageable) {
+        return loanRepository.filterSummaries(filter, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<LoanSummaryResponse> filterLoansSlice(LoanFilterRequest filter, Pageable pageable) {
+        Slice<LoanSummaryResponse> slice = loanRepository.filterSummarySlice(filter, pageable);
+        return new SliceResponse<>(slice, loanCountEstimateService.estimate(filter));
     }
 
     @Override
     public LoanResponse assignLoanOfficer(Long loanId, Long officerId, String assignedByEmail) {
         Loan loan = getLoanEntity(loanId);
+        LoanSnapshot before = new LoanSnapshot(loan);
         User officer = userService.getUserEntity(officerId);
 
         loan.setLoanOfficer(officer);
@@ -320,6 +459,8 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
 
         Loan savedLoan = loanRepository.save(loan);
 
+        publishLoanChanged(LoanChangedEvent.ChangeType.ASSIGNED, before, savedLoan, assignedByEmail);
+
         logger.info("Assigned loan officer {} to loan {}", officer.getFullName(), loan.getLoanNumber());
 
         return new LoanResponse(savedLoan);
@@ -328,6 +469,7 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
     @Override
     public LoanResponse assignProcessor(Long loanId, Long processorId, String assignedByEmail) {
         Loan loan = getLoanEntity(loanId);
+        LoanSnapshot before = new LoanSnapshot(loan);
         User processor = userService.getUserEntity(processorId);
 
         loan.setProcessor(processor);
@@ -335,6 +477,8 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
 
         Loan savedLoan = loanRepository.save(loan);
 
+        publishLoanChanged(LoanChangedEvent.ChangeType.ASSIGNED, before, savedLoan, assignedByEmail);
+
         logger.info("Assigned processor {} to loan {}", processor.getFullName(), loan.getLoanNumber());
 
         return new LoanResponse(savedLoan);
@@ -343,6 +487,7 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
     @Override
     public LoanResponse assignUnderwriter(Long loanId, Long underwriterId, String assignedByEmail) {
         Loan loan = getLoanEntity(loanId);
+        LoanSnapshot before = new LoanSnapshot(loan);
         User underwriter = userService.getUserEntity(underwriterId);
 
         loan.setUnderwriter(underwriter);
@@ -350,6 +495,8 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
 
         Loan savedLoan = loanRepository.save(loan);
 
+        publishLoanChanged(LoanChangedEvent.ChangeType.ASSIGNED, before, savedLoan, assignedByEmail);
+
         logger.info("Assigned underwriter {} to loan {}", underwriter.getFullName(), loan.getLoanNumber());
 
         return new LoanResponse(savedLoan);
@@ -360,7 +507,7 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
     public List<LoanSummaryResponse> getOverdueLoans() {
         return loanRepository.findOverdueLoans(LocalDateTime.now())
                 .stream()
-                .map(LoanSummaryResponse::new)
+                .map(this::toSummary)
                 .collect(Collectors.toList());
     }
 
@@ -372,7 +519,7 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
 
         return loanRepository.findLoansClosingSoon(startDate, endDate)
                 .stream()
-                .map(LoanSummaryResponse::new)
+                .map(this::toSummary)
                 .collect(Collectors.toList());
     }
 
@@ -381,7 +528,7 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
     public List<LoanSummaryResponse> getLoansReadyToClearToClose() {
         return loanRepository.findLoansReadyToClearToClose()
                 .stream()
-                .map(LoanSummaryResponse::new)
+                .map(this::toSummary)
                 .collect(Collectors.toList());
     }
 
@@ -442,6 +589,13 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
         }
     }
 
+    private void publishLoanChanged(LoanChangedEvent.ChangeType changeType, LoanSnapshot before,
+                                    Loan savedLoan, String changedByEmail) {
+        // Delivered to listeners after the surrounding transaction commits
+        eventPublisher.publishEvent(
+                new LoanChangedEvent(changeType, before, new LoanSnapshot(savedLoan), changedByEmail));
+    }
+
     private BigDecimal calculateMonthlyPayment(BigDecimal principal, BigDecimal monthlyRate, Integer termMonths) {
         if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
             return principal.divide(new BigDecimal(termMonths), 2, RoundingMode.HALF_UP);
@@ -455,4 +609,21 @@ public LoanResponse createLoan(CreateLoanRequest request, String createdByEmail)
 
         return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
     }
-}
\ No newline at end of file
+
+    /**
+     * One page of matching loans after the cursor, fetched with one extra row to learn
+     * whether another page exists instead of running a count query.
+     */
+    private CursorPageResponse<LoanSummaryResponse> seekLoans(Specification<Loan> filter, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor, LOAN_CURSOR_SCOPE, LOAN_SORT_KEY);
+        List<Loan> rows = loanRepository.findBy(filter.and(KeysetCursor.after(position)),
+                query -> query.sortBy(KeysetCursor.sort(LOAN_SORT_KEY)).limit(size + 1).all());
+        return KeysetCursor.page(rows, size, LOAN_CURSOR_SCOPE, LOAN_SORT_KEY,
+                Loan::getCreatedAt, Loan::getId, this::toSummary);
+    }
+
+    // Staff names come from the directory by id, leaving the lazy user proxies untouched
+    private LoanSummaryResponse toSummary(Loan loan) {
+        return new LoanSummaryResponse(loan, user -> staffDirectory.nameOf(user.getId()));
+    }
+}
@@ -0,0 +1,429 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.service.PipelineCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Loan counts and amounts held in memory, one cell per (LoanStatus, LoanType) pair.
+ * Cells are moved after each committed loan write, so dashboard pipeline figures are
+ * read without touching the loans table. A scheduled reconciler re-counts from the
+ * database and overwrites the cells if they have drifted (missed events, writes made
+ * outside LoanServiceImpl, other nodes).
+ *
+ * The same cells are also kept per assignment, i.e. per distinct (loan officer,
+ * processor, underwriter) combination, and each partition is indexed by the staff ids
+ * in it. A personal or team view sums the partitions touching any of its members, so
+ * a loan shared by two members of a team is still counted once.
+ *
+ * Writers are serialized by a StampedLock; portfolio readers use optimistic reads and
+ * only fall back to a shared lock when a write raced them, so a status change is never
+ * observed half-applied.
+ */
+@Service
+public class PipelineCounterServiceImpl implements PipelineCounterService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PipelineCounterServiceImpl.class);
+    
+    private static final LoanStatus[] STATUSES = LoanStatus.values();
+    private static final LoanType[] TYPES = LoanType.values();
+    private static final int CELLS = STATUSES.length * TYPES.length;
+    private static final int PARTITION_TOTAL = 2 * CELLS;
+    private static final int PARTITION_LENGTH = 2 * CELLS + 1;
+    
+    @Autowired
+    private LoanRepository loanRepository;
+    
+    private final StampedLock lock = new StampedLock();
+    private final long[] counts = new long[CELLS];
+    // Amounts kept in cents so cells stay primitive
+    private final long[] amountCents = new long[CELLS];
+    // Per-assignment cells: counts, then amounts in cents, then the partition total
+    private final Map<Assignment, long[]> partitions = new HashMap<>();
+    private final Map<Long, Set<Assignment>> partitionsByStaff = new HashMap<>();
+    private long version;
+    private volatile boolean initialized;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LoadedCounts loaded = load();
+        long stamp = lock.writeLock();
+        try {
+            replace(loaded);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        initialized = true;
+        logger.info("Pipeline counters initialized with {} loans", getTotalCount());
+    }
+    
+    @TransactionalEventListener
+    public void onLoanChanged(LoanChangedEvent event) {
+        long stamp = lock.writeLock();
+        try {
+            move(event.getBefore(), -1);
+            move(event.getAfter(), 1);
+            version++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${app.dashboard.counters.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.dashboard.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!initialized) {
+            return;
+        }
+        
+        long startVersion;
+        long stamp = lock.readLock();
+        try {
+            startVersion = version;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        
+        LoadedCounts loaded = load();
+        
+        stamp = lock.writeLock();
+        try {
+            if (version != startVersion) {
+                // A write landed while we were counting; the database figures may be stale
+                logger.debug("Skipping pipeline counter reconciliation, loans changed during recount");
+                return;
+            }
+            if (Arrays.equals(counts, loaded.counts) && Arrays.equals(amountCents, loaded.amountCents)
+                    && samePartitions(partitions, loaded.partitions)) {
+                return;
+            }
+            logger.warn("Pipeline counters drifted from database (memory total {}, database total {}); correcting",
+                    sum(counts), sum(loaded.counts));
+            replace(loaded);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    @Override
+    public boolean isInitialized() {
+        return initialized;
+    }
+    
+    @Override
+    public long getCount(LoanStatus status) {
+        int from = status.ordinal() * TYPES.length;
+        long stamp = lock.tryOptimisticRead();
+        long total = sumRange(from, from + TYPES.length);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                total = sumRange(from, from + TYPES.length);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return total;
+    }
+    
+    @Override
+    public long getCount(LoanType type) {
+        long stamp = lock.tryOptimisticRead();
+        long total = sumColumn(type.ordinal());
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                total = sumColumn(type.ordinal());
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return total;
+    }
+    
+    @Override
+    public long getTotalCount() {
+        long stamp = lock.tryOptimisticRead();
+        long total = sum(counts);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                total = sum(counts);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return total;
+    }
+    
+    @Override
+    public List<Object[]> summarizeByStatusAndType() {
+        long[] countCopy = new long[CELLS];
+        long[] amountCopy = new long[CELLS];
+        
+        long stamp = lock.tryOptimisticRead();
+        System.arraycopy(counts, 0, countCopy, 0, CELLS);
+        System.arraycopy(amountCents, 0, amountCopy, 0, CELLS);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                System.arraycopy(counts, 0, countCopy, 0, CELLS);
+                System.arraycopy(amountCents, 0, amountCopy, 0, CELLS);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        
+        return toRows(countCopy, amountCopy);
+    }
+    
+    @Override
+    public List<Object[]> summarizeByStatusAndType(Collection<Long> staffIds) {
+        long[] countCopy = new long[CELLS];
+        long[] amountCopy = new long[CELLS];
+        
+        // Partition maps are not safe for optimistic reads, so take the shared lock
+        long stamp = lock.readLock();
+        try {
+            Set<Assignment> matched = new HashSet<>();
+            for (Long staffId : staffIds) {
+                matched.addAll(partitionsByStaff.getOrDefault(staffId, Collections.emptySet()));
+            }
+            for (Assignment assignment : matched) {
+                long[] cells = partitions.get(assignment);
+                for (int cell = 0; cell < CELLS; cell++) {
+                    countCopy[cell] += cells[cell];
+                    amountCopy[cell] += cells[CELLS + cell];
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return toRows(countCopy, amountCopy);
+    }
+    
+    private static List<Object[]> toRows(long[] countCopy, long[] amountCopy) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (countCopy[cell] != 0) {
+                rows.add(new Object[]{
+                        STATUSES[cell / TYPES.length],
+                        TYPES[cell % TYPES.length],
+                        countCopy[cell],
+                        BigDecimal.valueOf(amountCopy[cell], 2)
+                });
+            }
+        }
+        return rows;
+    }
+    
+    // Caller holds the write lock
+    private void move(LoanSnapshot loan, int direction) {
+        if (loan == null || loan.getStatus() == null || loan.getLoanType() == null) {
+            return;
+        }
+        int cell = cellOf(loan.getStatus(), loan.getLoanType());
+        long cents = toCents(loan.getLoanAmount());
+        counts[cell] += direction;
+        amountCents[cell] += direction * cents;
+        
+        Assignment assignment = Assignment.of(loan.getLoanOfficerId(), loan.getProcessorId(), loan.getUnderwriterId());
+        if (assignment == null) {
+            return;
+        }
+        long[] cells = partitions.get(assignment);
+        if (cells == null) {
+            cells = new long[PARTITION_LENGTH];
+            partitions.put(assignment, cells);
+            index(assignment);
+        }
+        cells[cell] += direction;
+        cells[CELLS + cell] += direction * cents;
+        cells[PARTITION_TOTAL] += direction;
+        if (cells[PARTITION_TOTAL] == 0) {
+            // Nobody has loans with this combination any more
+            partitions.remove(assignment);
+            unindex(assignment);
+        }
+    }
+    
+    // Caller holds the write lock
+    private void replace(LoadedCounts loaded) {
+        System.arraycopy(loaded.counts, 0, counts, 0, CELLS);
+        System.arraycopy(loaded.amountCents, 0, amountCents, 0, CELLS);
+        partitions.clear();
+        partitionsByStaff.clear();
+        partitions.putAll(loaded.partitions);
+        partitions.keySet().forEach(this::index);
+        version++;
+    }
+    
+    // Caller holds the write lock
+    private void index(Assignment assignment) {
+        for (Long staffId : assignment.staffIds()) {
+            partitionsByStaff.computeIfAbsent(staffId, id -> new HashSet<>()).add(assignment);
+        }
+    }
+    
+    // Caller holds the write lock
+    private void unindex(Assignment assignment) {
+        for (Long staffId : assignment.staffIds()) {
+            Set<Assignment> indexed = partitionsByStaff.get(staffId);
+            if (indexed != null) {
+                indexed.remove(assignment);
+                if (indexed.isEmpty()) {
+                    partitionsByStaff.remove(staffId);
+                }
+            }
+        }
+    }
+    
+    private LoadedCounts load() {
+        LoadedCounts loaded = new LoadedCounts();
+        for (Object[] row : loanRepository.summarizeLoansByStatusAndType()) {
+            int cell = cellOf((LoanStatus) row[0], (LoanType) row[1]);
+            loaded.counts[cell] = ((Number) row[2]).longValue();
+            loaded.amountCents[cell] = row[3] != null ? toCents(new BigDecimal(row[3].toString())) : 0L;
+        }
+        for (Object[] row : loanRepository.summarizeLoansByAssignment()) {
+            int cell = cellOf((LoanStatus) row[0], (LoanType) row[1]);
+            long count = ((Number) row[5]).longValue();
+            long[] cells = loaded.partitions.computeIfAbsent(
+                    Assignment.of((Long) row[2], (Long) row[3], (Long) row[4]), key -> new long[PARTITION_LENGTH]);
+            cells[cell] += count;
+            cells[CELLS + cell] += row[6] != null ? toCents(new BigDecimal(row[6].toString())) : 0L;
+            cells[PARTITION_TOTAL] += count;
+        }
+        return loaded;
+    }
+    
+    private static boolean samePartitions(Map<Assignment, long[]> current, Map<Assignment, long[]> loaded) {
+        if (current.size() != loaded.size()) {
+            return false;
+        }
+        for (Map.Entry<Assignment, long[]> entry : current.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), loaded.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int cellOf(LoanStatus status, LoanType type) {
+        return status.ordinal() * TYPES.length + type.ordinal();
+    }
+    
+    private static long toCents(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).longValue() : 0L;
+    }
+    
+    private long sumRange(int from, int to) {
+        long total = 0;
+        for (int cell = from; cell < to; cell++) {
+            total += counts[cell];
+        }
+        return total;
+    }
+    
+    private long sumColumn(int typeOrdinal) {
+        long total = 0;
+        for (int cell = typeOrdinal; cell < CELLS; cell += TYPES.length) {
+            total += counts[cell];
+        }
+        return total;
+    }
+    
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+    
+    private static final class LoadedCounts {
+        final long[] counts = new long[CELLS];
+        final long[] amountCents = new long[CELLS];
+        final Map<Assignment, long[]> partitions = new HashMap<>();
+    }
+    
+    /**
+     * The staff on a loan; any of the three may be unassigned.
+     */
+    private static final class Assignment {
+        final Long loanOfficerId;
+        final Long processorId;
+        final Long underwriterId;
+        
+        private Assignment(Long loanOfficerId, Long processorId, Long underwriterId) {
+            this.loanOfficerId = loanOfficerId;
+            this.processorId = processorId;
+            this.underwriterId = underwriterId;
+        }
+        
+        static Assignment of(Long loanOfficerId, Long processorId, Long underwriterId) {
+            if (loanOfficerId == null && processorId == null && underwriterId == null) {
+                return null;
+            }
+            return new Assignment(loanOfficerId, processorId, underwriterId);
+        }
+        
+        Set<Long> staffIds() {
+            Set<Long> ids = new HashSet<>(4);
+            if (loanOfficerId != null) {
+                ids.add(loanOfficerId);
+            }
+            if (processorId != null) {
+                ids.add(processorId);
+            }
+            if (underwriterId != null) {
+                ids.add(underwriterId);
+            }
+            return ids;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Assignment)) {
+                return false;
+            }
+            Assignment other = (Assignment) o;
+            return Objects.equals(loanOfficerId, other.loanOfficerId)
+                    && Objects.equals(processorId, other.processorId)
+                    && Objects.equals(underwriterId, other.underwriterId);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(loanOfficerId, processorId, underwriterId);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.dto.response.ActivityResponse;
+import com.lender.mortgage.entity.enums.ActivityType;
+import com.lender.mortgage.entity.enums.ConditionStatus;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.event.ConditionChangedEvent;
+import com.lender.mortgage.event.ConditionSnapshot;
+import com.lender.mortgage.event.DocumentChangedEvent;
+import com.lender.mortgage.event.DocumentSnapshot;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
+import com.lender.mortgage.repository.DocumentRepository;
+import com.lender.mortgage.repository.LoanConditionRepository;
+import com.lender.mortgage.repository.LoanStatusHistoryRepository;
+import com.lender.mortgage.service.RecentActivityService;
+import com.lender.mortgage.service.UserService;
+import com.lender.mortgage.utils.ConcurrentRingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Recent activity kept in a lock-free ring buffer of compact records.
+ *
+ * Loan, condition and document write events append to the buffer after commit;
+ * readers take a copy of the newest entries without blocking writers. On startup the
+ * buffer is seeded from the newest status history, resolved conditions and uploads.
+ */
+@Service
+public class RecentActivityServiceImpl implements RecentActivityService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RecentActivityServiceImpl.class);
+    
+    static final int CAPACITY = 1024;
+    private static final int MAX_LIMIT = 200;
+    
+    @Autowired
+    private LoanStatusHistoryRepository statusHistoryRepository;
+    
+    @Autowired
+    private LoanConditionRepository conditionRepository;
+    
+    @Autowired
+    private DocumentRepository documentRepository;
+    
+    @Autowired
+    private UserService userService;
+    
+    private final ConcurrentRingBuffer<ActivityRecord> buffer = new ConcurrentRingBuffer<>(CAPACITY);
+    
+    @Override
+    public List<ActivityResponse> getRecentActivity(int limit, Long userId) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<ActivityRecord> records;
+        if (userId != null) {
+            String email = userService.getUserEntity(userId).getEmail();
+            records = buffer.latest(boundedLimit, record -> email.equalsIgnoreCase(record.performedBy));
+        } else {
+            records = buffer.latest(boundedLimit);
+        }
+        return records.stream().map(ActivityRecord::toResponse).collect(Collectors.toList());
+    }
+    
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        PageRequest newest = PageRequest.of(0, CAPACITY);
+        List<ActivityRecord> records = new ArrayList<>();
+        
+        for (Object[] row : statusHistoryRepository.findRecentTransitions(newest)) {
+            LoanStatus fromStatus = (LoanStatus) row[2];
+            LoanStatus toStatus = (LoanStatus) row[3];
+            records.add(fromStatus == null
+                    ? loanCreated((Long) row[0], (String) row[1], (String) row[4], (LocalDateTime) row[5])
+                    : statusChanged((Long) row[0], (String) row[1], fromStatus, toStatus,
+                                    (String) row[4], (LocalDateTime) row[5]));
+        }
+        for (Object[] row : conditionRepository.findRecentResolutions(newest)) {
+            records.add(conditionResolved((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                    (ConditionStatus) row[4], (String) row[5], (LocalDateTime) row[6]));
+        }
+        for (Object[] row : documentRepository.findRecentUploads(newest)) {
+            records.add(documentUploaded((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (LocalDateTime) row[5]));
+        }
+        
+        // Oldest first so the newest end up at the head of the buffer
+        records.sort(Comparator.comparing(record -> record.occurredAt));
+        int skip = Math.max(0, records.size() - CAPACITY);
+        for (ActivityRecord record : records.subList(skip, records.size())) {
+            buffer.publish(record);
+        }
+        logger.info("Recent activity seeded with {} entries", records.size() - skip);
+    }
+    
+    @TransactionalEventListener
+    public void onLoanChanged(LoanChangedEvent event) {
+        LoanSnapshot loan = event.getAfter();
+        LocalDateTime now = LocalDateTime.now();
+        switch (event.getChangeType()) {
+            case CREATED -> buffer.publish(loanCreated(loan.getId(), loan.getLoanNumber(), event.getChangedBy(), now));
+            case STATUS_CHANGED -> buffer.publish(statusChanged(loan.getId(), loan.getLoanNumber(),
+                    event.getBefore().getStatus(), loan.getStatus(), event.getChangedBy(), now));
+            default -> { }
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onConditionChanged(ConditionChangedEvent event) {
+        ConditionChangedEvent.ChangeType changeType = event.getChangeType();
+        if (changeType == ConditionChangedEvent.ChangeType.COMPLETED
+                || changeType == ConditionChangedEvent.ChangeType.WAIVED) {
+            ConditionSnapshot condition = event.getAfter();
+            buffer.publish(conditionResolved(condition.getId(), condition.getLoanId(), condition.getLoanNumber(),
+                    condition.getTitle(), condition.getStatus(), event.getChangedBy(), LocalDateTime.now()));
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        if (event.getChangeType() == DocumentChangedEvent.ChangeType.UPLOADED) {
+            DocumentSnapshot document = event.getAfter();
+            buffer.publish(documentUploaded(document.getId(), document.getLoanId(), document.getLoanNumber(),
+                    document.getOriginalFileName(), event.getChangedBy(), LocalDateTime.now()));
+        }
+    }
+    
+    private static ActivityRecord loanCreated(Long loanId, String loanNumber, String performedBy,
+                                              LocalDateTime occurredAt) {
+        return new ActivityRecord(ActivityType.LOAN_CREATED, loanId, loanNumber, loanId,
+                "Loan " + loanNumber + " created", performedBy, occurredAt);
+    }
+    
+    private static ActivityRecord statusChanged(Long loanId, String loanNumber, LoanStatus fromStatus,
+                                                LoanStatus toStatus, String performedBy, LocalDateTime occurredAt) {
+        return new ActivityRecord(ActivityType.LOAN_STATUS_CHANGED, loanId, loanNumber, loanId,
+                String.format("Loan %s moved from %s to %s", loanNumber,
+                        fromStatus.getDisplayName(), toStatus.getDisplayName()),
+                performedBy, occurredAt);
+    }
+    
+    private static ActivityRecord conditionResolved(Long conditionId, Long loanId, String loanNumber, String title,
+                                                    ConditionStatus status, String performedBy,
+                                                    LocalDateTime occurredAt) {
+        boolean waived = status == ConditionStatus.WAIVED;
+        return new ActivityRecord(waived ? ActivityType.CONDITION_WAIVED : ActivityType.CONDITION_COMPLETED,
+                loanId, loanNumber, conditionId,
+                String.format("Condition '%s' %s", title, waived ? "waived" : "completed"),
+                performedBy, occurredAt);
+    }
+    
+    private static ActivityRecord documentUploaded(Long documentId, Long loanId, String loanNumber, String fileName,
+                                                   String performedBy, LocalDateTime occurredAt) {
+        return new ActivityRecord(ActivityType.DOCUMENT_UPLOADED, loanId, loanNumber, documentId,
+                "Uploaded " + fileName, performedBy, occurredAt);
+    }
+    
+    private static final class ActivityRecord {
+        final ActivityType type;
+        final Long loanId;
+        final String loanNumber;
+        final Long entityId;
+        final String description;
+        final String performedBy;
+        final LocalDateTime occurredAt;
+        
+        ActivityRecord(ActivityType type, Long loanId, String loanNumber, Long entityId,
+                       String description, String performedBy, LocalDateTime occurredAt) {
+            this.type = type;
+            this.loanId = loanId;
+            this.loanNumber = loanNumber;
+            this.entityId = entityId;
+            this.description = description;
+            this.performedBy = performedBy;
+            this.occurredAt = occurredAt;
+        }
+        
+        ActivityResponse toResponse() {
+            return new ActivityResponse(type, loanId, loanNumber, entityId, description, performedBy, occurredAt);
+        }
+    }
+}
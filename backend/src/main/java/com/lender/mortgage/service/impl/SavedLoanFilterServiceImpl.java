@@ -0,0 +1,269 @@
+package com.lender.mortgage.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.dto.request.SavedLoanFilterRequest;
+import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.dto.response.SavedLoanFilterResponse;
+import com.lender.mortgage.entity.SavedLoanFilter;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
+import com.lender.mortgage.exception.BadRequestException;
+import com.lender.mortgage.exception.ResourceNotFoundException;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.repository.SavedLoanFilterRepository;
+import com.lender.mortgage.service.SavedLoanFilterService;
+import com.lender.mortgage.service.UserService;
+import com.lender.mortgage.utils.LoanFilterMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Saved loan filters whose matching loan ids are materialized in memory. A filter's id
+ * set is loaded with one id-only query the first time it is opened; after that every
+ * committed loan write is evaluated against it with {@link LoanFilterMatcher} and the
+ * set is patched, so opening a saved view is an id-list walk plus one summary fetch.
+ *
+ * Each set also keeps the loans' expected closing dates, because a closing window is
+ * relative to now and is applied when the view is read rather than when loans change.
+ * At most max-materialized sets are kept; the least recently opened one is dropped and
+ * reloaded the next time its filter is opened.
+ */
+@Service
+public class SavedLoanFilterServiceImpl implements SavedLoanFilterService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SavedLoanFilterServiceImpl.class);
+    
+    @Value("${app.loans.saved-filters.max-per-user:20}")
+    private int maxFiltersPerUser;
+    
+    @Value("${app.loans.saved-filters.max-materialized:200}")
+    private int maxMaterialized;
+    
+    @Autowired
+    private SavedLoanFilterRepository savedLoanFilterRepository;
+    
+    @Autowired
+    private LoanRepository loanRepository;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    // Saved filter id to its materialized result set, least recently opened first; guarded by itself
+    private final Map<Long, MaterializedFilter> materialized = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, MaterializedFilter> eldest) {
+            return size() > maxMaterialized;
+        }
+    };
+    
+    @Override
+    @Transactional
+    public SavedLoanFilterResponse createFilter(SavedLoanFilterRequest request, String ownerEmail) {
+        Long ownerId = userService.getUserEntityByEmail(ownerEmail).getId();
+        String name = request.getName().trim();
+        if (savedLoanFilterRepository.existsByOwnerIdAndName(ownerId, name)) {
+            throw new BadRequestException("A saved filter named '" + name + "' already exists");
+        }
+        if (savedLoanFilterRepository.countByOwnerId(ownerId) >= maxFiltersPerUser) {
+            throw new BadRequestException("At most " + maxFiltersPerUser + " saved filters are allowed per user");
+        }
+        validate(request.getFilter());
+        
+        SavedLoanFilter saved = savedLoanFilterRepository.save(
+                new SavedLoanFilter(ownerId, name, write(request.getFilter())));
+        logger.info("Saved loan filter '{}' for {}", name, ownerEmail);
+        return toResponse(saved);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SavedLoanFilterResponse> getFilters(String ownerEmail) {
+        Long ownerId = userService.getUserEntityByEmail(ownerEmail).getId();
+        return savedLoanFilterRepository.findByOwnerIdOrderByNameAsc(ownerId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<LoanSummaryResponse> getFilterLoans(Long filterId, String ownerEmail, Pageable pageable) {
+        SavedLoanFilter saved = getOwnedFilter(filterId, ownerEmail);
+        MaterializedFilter results;
+        synchronized (materialized) {
+            results = materialized.computeIfAbsent(saved.getId(), id -> {
+                LoanFilterRequest query = read(saved.getCriteria());
+                query.setClosingWithinDays(null);
+                return new MaterializedFilter(read(saved.getCriteria()), query);
+            });
+        }
+        results.ensureLoaded(loanRepository);
+        
+        // Ids come back newest first, so the page's own sort is not applied
+        List<Long> pageIds = new ArrayList<>();
+        long total = results.page(LocalDateTime.now(), pageable.getOffset(), pageable.getPageSize(), pageIds);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, total);
+        }
+        Map<Long, LoanSummaryResponse> summariesById = loanRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(LoanSummaryResponse::getId, Function.identity()));
+        List<LoanSummaryResponse> content = pageIds.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, total);
+    }
+    
+    @Override
+    @Transactional
+    public void deleteFilter(Long filterId, String ownerEmail) {
+        SavedLoanFilter saved = getOwnedFilter(filterId, ownerEmail);
+        savedLoanFilterRepository.delete(saved);
+        synchronized (materialized) {
+            materialized.remove(saved.getId());
+        }
+        logger.info("Deleted saved loan filter '{}' for {}", saved.getName(), ownerEmail);
+    }
+    
+    @TransactionalEventListener
+    public void onLoanChanged(LoanChangedEvent event) {
+        LoanSnapshot before = event.getBefore();
+        LoanSnapshot after = event.getAfter();
+        Long loanId = after != null ? after.getId() : before != null ? before.getId() : null;
+        if (loanId == null) {
+            return;
+        }
+        List<MaterializedFilter> open;
+        synchronized (materialized) {
+            open = new ArrayList<>(materialized.values());
+        }
+        open.forEach(results -> results.apply(loanId, after));
+    }
+    
+    private SavedLoanFilter getOwnedFilter(Long filterId, String ownerEmail) {
+        Long ownerId = userService.getUserEntityByEmail(ownerEmail).getId();
+        return savedLoanFilterRepository.findByIdAndOwnerId(filterId, ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Saved filter not found with id: " + filterId));
+    }
+    
+    private static void validate(LoanFilterRequest filter) {
+        if (filter.getClosingWithinDays() != null && filter.getClosingWithinDays() < 0) {
+            throw new BadRequestException("closingWithinDays must not be negative");
+        }
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null
+                && filter.getMinAmount().compareTo(filter.getMaxAmount()) > 0) {
+            throw new BadRequestException("minAmount must not be after maxAmount");
+        }
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getStartDate().isAfter(filter.getEndDate())) {
+            throw new BadRequestException("startDate must not be after endDate");
+        }
+    }
+    
+    private SavedLoanFilterResponse toResponse(SavedLoanFilter saved) {
+        return new SavedLoanFilterResponse(saved.getId(), saved.getName(), read(saved.getCriteria()),
+                saved.getCreatedAt(), saved.getUpdatedAt());
+    }
+    
+    private String write(LoanFilterRequest filter) {
+        try {
+            return objectMapper.writeValueAsString(filter);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Invalid filter: " + e.getOriginalMessage());
+        }
+    }
+    
+    private LoanFilterRequest read(String criteria) {
+        try {
+            return objectMapper.readValue(criteria, LoanFilterRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored filter criteria are not readable", e);
+        }
+    }
+    
+    /**
+     * Ids of the loans matching a filter's criteria apart from the closing window, newest
+     * first, with each loan's expected closing date. All access is synchronized; loading
+     * holds the lock across its query, so no committed write can be applied before the
+     * query result and then be overwritten by it.
+     */
+    static final class MaterializedFilter {
+        private final LoanFilterRequest filter;
+        // The same criteria without the closing window
+        private final LoanFilterRequest query;
+        private final NavigableMap<Long, LocalDateTime> closingDates = new TreeMap<>(Collections.reverseOrder());
+        private boolean loaded;
+        
+        MaterializedFilter(LoanFilterRequest filter, LoanFilterRequest query) {
+            this.filter = filter;
+            this.query = query;
+        }
+        
+        synchronized void ensureLoaded(LoanRepository loanRepository) {
+            if (loaded) {
+                return;
+            }
+            for (Object[] row : loanRepository.filterIds(query)) {
+                closingDates.put((Long) row[0], (LocalDateTime) row[1]);
+            }
+            loaded = true;
+        }
+        
+        // A null loan means it was deleted
+        synchronized void apply(Long loanId, LoanSnapshot loan) {
+            if (!loaded) {
+                return;
+            }
+            if (loan != null && LoanFilterMatcher.matches(filter, loan)) {
+                closingDates.put(loanId, loan.getExpectedClosingDate());
+            } else {
+                closingDates.remove(loanId);
+            }
+        }
+        
+        /**
+         * Fill {@code pageIds} with one page of ids inside the closing window and return
+         * how many ids are inside it in total.
+         */
+        synchronized long page(LocalDateTime now, long offset, int size, List<Long> pageIds) {
+            if (filter.getClosingWithinDays() == null) {
+                closingDates.keySet().stream().skip(offset).limit(size).forEach(pageIds::add);
+                return closingDates.size();
+            }
+            long total = 0;
+            for (Map.Entry<Long, LocalDateTime> entry : closingDates.entrySet()) {
+                if (LoanFilterMatcher.closesWithin(filter, entry.getValue(), now)) {
+                    if (total >= offset && pageIds.size() < size) {
+                        pageIds.add(entry.getKey());
+                    }
+                    total++;
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.event.UserChangedEvent;
+import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.service.StaffDirectoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * User id to display name, so loan lists can label staff without initializing the lazy
+ * loanOfficer/processor/underwriter proxies. Loaded at startup, kept current from
+ * committed user changes, and filled on demand for users it has not seen yet.
+ *
+ * Loads from the database only ever use putIfAbsent: a name read before a concurrent
+ * update commits must not overwrite the name that update's event already stored.
+ */
+@Service
+public class StaffDirectoryServiceImpl implements StaffDirectoryService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StaffDirectoryServiceImpl.class);
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+    
+    @Override
+    public String nameOf(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        String name = names.get(userId);
+        if (name != null) {
+            return name;
+        }
+        return userRepository.findById(userId)
+                .map(user -> {
+                    String loaded = user.getFullName();
+                    String existing = names.putIfAbsent(userId, loaded);
+                    return existing != null ? existing : loaded;
+                })
+                .orElse(null);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int loaded = 0;
+        for (Object[] row : userRepository.findAllNames()) {
+            names.putIfAbsent((Long) row[0], row[1] + " " + row[2]);
+            loaded++;
+        }
+        logger.info("Staff directory loaded {} user names", loaded);
+    }
+    
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getAfter() != null && event.getAfter().getId() != null) {
+            names.put(event.getAfter().getId(), event.getAfter().getFullName());
+        }
+    }
+}
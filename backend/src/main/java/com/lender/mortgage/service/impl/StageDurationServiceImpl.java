@@ -0,0 +1,171 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.dto.response.DurationStatsResponse;
+import com.lender.mortgage.dto.response.StageDurationsResponse;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.repository.LoanStatusHistoryRepository;
+import com.lender.mortgage.service.StageDurationService;
+import com.lender.mortgage.utils.LogHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Time-in-status analytics from one forward pass over loan_status_history ordered by
+ * (loan, changedAt). Consecutive rows of the same loan are paired as they stream past,
+ * so only the previous row is remembered; dwell times are folded into fixed-size
+ * logarithmic histograms (one per status, per status and loan type, and per loan type
+ * for days to close). Memory is therefore constant in the size of the history.
+ *
+ * The result is cached and recomputed on a schedule.
+ */
+@Service
+public class StageDurationServiceImpl implements StageDurationService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StageDurationServiceImpl.class);
+    
+    private static final LoanStatus[] STATUSES = LoanStatus.values();
+    private static final LoanType[] TYPES = LoanType.values();
+    
+    // One minute to ten years, reported within about 2%
+    private static final double MIN_DAYS = 1.0 / (24 * 60);
+    private static final double MAX_DAYS = 3650;
+    private static final double RELATIVE_ERROR = 0.02;
+    private static final double SECONDS_PER_DAY = 86_400;
+    
+    @Autowired
+    private LoanStatusHistoryRepository statusHistoryRepository;
+    
+    private volatile StageDurationsResponse latest;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public StageDurationsResponse getStageDurations() {
+        StageDurationsResponse current = latest;
+        if (current == null) {
+            // First read before the scheduled pass has run
+            refresh();
+            current = latest;
+        }
+        return current;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${app.dashboard.stage-durations.refresh-interval-ms:3600000}",
+               initialDelayString = "${app.dashboard.stage-durations.initial-delay-ms:60000}")
+    public synchronized void refresh() {
+        long started = System.nanoTime();
+        
+        LogHistogram[] byStatus = new LogHistogram[STATUSES.length];
+        LogHistogram[][] byStatusAndType = new LogHistogram[STATUSES.length][TYPES.length];
+        LogHistogram overallToClose = newHistogram();
+        LogHistogram[] toCloseByType = new LogHistogram[TYPES.length];
+        for (int s = 0; s < STATUSES.length; s++) {
+            byStatus[s] = newHistogram();
+            for (int t = 0; t < TYPES.length; t++) {
+                byStatusAndType[s][t] = newHistogram();
+            }
+        }
+        for (int t = 0; t < TYPES.length; t++) {
+            toCloseByType[t] = newHistogram();
+        }
+        
+        long scanned = 0;
+        Long currentLoanId = null;
+        LoanStatus previousStatus = null;
+        LocalDateTime previousAt = null;
+        LocalDateTime firstAt = null;
+        boolean closeRecorded = false;
+        
+        try (Stream<Object[]> rows = statusHistoryRepository.streamTransitionsByLoan()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                Long loanId = (Long) row[0];
+                LoanType loanType = (LoanType) row[1];
+                LoanStatus toStatus = (LoanStatus) row[2];
+                LocalDateTime changedAt = (LocalDateTime) row[3];
+                scanned++;
+                
+                if (!loanId.equals(currentLoanId)) {
+                    currentLoanId = loanId;
+                    firstAt = changedAt;
+                    closeRecorded = false;
+                } else if (previousStatus != null) {
+                    double days = daysBetween(previousAt, changedAt);
+                    byStatus[previousStatus.ordinal()].record(days);
+                    byStatusAndType[previousStatus.ordinal()][loanType.ordinal()].record(days);
+                }
+                
+                if (toStatus == LoanStatus.CLOSED && !closeRecorded) {
+                    double days = daysBetween(firstAt, changedAt);
+                    overallToClose.record(days);
+                    toCloseByType[loanType.ordinal()].record(days);
+                    closeRecorded = true;
+                }
+                previousStatus = toStatus;
+                previousAt = changedAt;
+            }
+        }
+        
+        StageDurationsResponse response = new StageDurationsResponse();
+        List<DurationStatsResponse> statusStats = new ArrayList<>();
+        List<DurationStatsResponse> statusAndTypeStats = new ArrayList<>();
+        List<DurationStatsResponse> closeStats = new ArrayList<>();
+        for (int s = 0; s < STATUSES.length; s++) {
+            addIfRecorded(statusStats, byStatus[s], STATUSES[s], null);
+            for (int t = 0; t < TYPES.length; t++) {
+                addIfRecorded(statusAndTypeStats, byStatusAndType[s][t], STATUSES[s], TYPES[t]);
+            }
+        }
+        addIfRecorded(closeStats, overallToClose, null, null);
+        for (int t = 0; t < TYPES.length; t++) {
+            addIfRecorded(closeStats, toCloseByType[t], null, TYPES[t]);
+        }
+        response.setByStatus(statusStats);
+        response.setByStatusAndLoanType(statusAndTypeStats);
+        response.setDaysToClose(closeStats);
+        response.setTransitionsScanned(scanned);
+        response.setComputedAt(LocalDateTime.now());
+        
+        latest = response;
+        logger.info("Stage durations computed from {} transitions in {} ms",
+                scanned, (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    private static LogHistogram newHistogram() {
+        return new LogHistogram(MIN_DAYS, MAX_DAYS, RELATIVE_ERROR);
+    }
+    
+    private static double daysBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).getSeconds()) / SECONDS_PER_DAY;
+    }
+    
+    private static void addIfRecorded(List<DurationStatsResponse> target, LogHistogram histogram,
+                                      LoanStatus status, LoanType loanType) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        DurationStatsResponse stats = new DurationStatsResponse(status, loanType);
+        stats.setSampleCount(histogram.getCount());
+        stats.setMeanDays(round(histogram.getMean()));
+        stats.setP50Days(round(histogram.quantile(0.50)));
+        stats.setP90Days(round(histogram.quantile(0.90)));
+        stats.setP99Days(round(histogram.quantile(0.99)));
+        stats.setMaxDays(round(histogram.getMax()));
+        target.add(stats);
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -5,13 +5,17 @@ import com.lender.mortgage.dto.request.UpdateUserRequest;
 import com.lender.mortgage.dto.response.UserResponse;
 import com.lender.mortgage.entity.User;
 import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.event.UserChangedEvent;
+import com.lender.mortgage.event.UserSnapshot;
 import com.lender.mortgage.exception.BadRequestException;
 import com.lender.mortgage.exception.ResourceNotFoundException;
 import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.service.LastLoginService;
 import com.lender.mortgage.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -34,6 +38,12 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private LastLoginService lastLoginService;
+    
     @Override
     public UserResponse createUser(CreateUserRequest request) {
         // Check if email already exists
@@ -52,6 +62,8 @@ public class UserServiceImpl implements UserService {
         user.setActive(true);
         
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.ChangeType.CREATED,
+                null, new UserSnapshot(savedUser)));
         
         logger.info("Created new user: {} with role: {}", savedUser.getEmail(), savedUser.getRole());
         
@@ -61,6 +73,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserResponse updateUser(Long userId, UpdateUserRequest request) {
         User user = getUserEntity(userId);
+        UserSnapshot before = new UserSnapshot(user);
         
         // Check email uniqueness if being updated
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
@@ -90,6 +103,8 @@ public class UserServiceImpl implements UserService {
         }
         
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.ChangeType.UPDATED,
+                before, new UserSnapshot(savedUser)));
         
         logger.info("Updated user: {}", savedUser.getEmail());
         
@@ -136,8 +151,11 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deactivateUser(Long userId) {
         User user = getUserEntity(userId);
+        UserSnapshot before = new UserSnapshot(user);
         user.setActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.ChangeType.DEACTIVATED,
+                before, new UserSnapshot(user)));
         
         logger.info("Deactivated user: {}", user.getEmail());
     }
@@ -145,8 +163,11 @@ public class UserServiceImpl implements UserService {
     @Override
     public void activateUser(Long userId) {
         User user = getUserEntity(userId);
+        UserSnapshot before = new UserSnapshot(user);
         user.setActive(true);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.ChangeType.ACTIVATED,
+                before, new UserSnapshot(user)));
         
         logger.info("Activated user: {}", user.getEmail());
     }
@@ -157,11 +178,12 @@ public class UserServiceImpl implements UserService {
         return userRepository.existsByEmail(email);
     }
     
+    // Buffered and written by the next last-login flush
     @Override
+    @Transactional(readOnly = true)
     public void updateLastLogin(String email) {
         User user = getUserEntityByEmail(email);
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        lastLoginService.recordLogin(user.getId(), LocalDateTime.now());
     }
     
     @Override
@@ -0,0 +1,176 @@
+package com.lender.mortgage.service.impl;
+
+import com.lender.mortgage.dto.response.UserResponse;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.event.UserChangedEvent;
+import com.lender.mortgage.event.UserSnapshot;
+import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.service.UserSuggestionService;
+import com.lender.mortgage.utils.PrefixTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Staff assignment type-ahead served from prefix tries of active users: one per role plus
+ * one across all roles, each keyed by first name, last name, full name and email. Loaded
+ * at startup and kept current from committed user changes, so a lookup never touches the
+ * database once the tries are built. User changes that arrive during a rebuild are
+ * replayed on the new tries before they are published.
+ */
+@Service
+public class UserSuggestionServiceImpl implements UserSuggestionService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UserSuggestionServiceImpl.class);
+    
+    private static final int MAX_SUGGESTIONS = 50;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    // Guards directory, which stays null until the first build
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Directory directory;
+    
+    // Guards pendingWrites; non-null only while a rebuild is running
+    private final Object rebuildLock = new Object();
+    private List<UserSnapshot> pendingWrites;
+    
+    @Override
+    public List<UserResponse> suggest(String query, UserRole role, int limit) {
+        int capped = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        List<UserSnapshot> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (directory != null) {
+                PrefixTrie trie = role != null ? directory.byRole.get(role) : directory.allRoles;
+                if (trie != null) {
+                    for (Long id : trie.find(query, capped)) {
+                        found.add(directory.users.get(id));
+                    }
+                }
+                return found.stream().map(UserSuggestionServiceImpl::toResponse).collect(Collectors.toList());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        // Not built yet
+        return userRepository.findActiveUsersBySearch(query == null ? "" : query.trim(),
+                        PageRequest.of(0, capped)).stream()
+                .filter(user -> role == null || user.getRole() == role)
+                .map(UserResponse::new)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        
+        Directory fresh = new Directory();
+        userRepository.findByActiveTrue().forEach(user -> fresh.apply(new UserSnapshot(user)));
+        
+        synchronized (rebuildLock) {
+            // Changes committed during the load may be missing or older in the fresh tries
+            pendingWrites.forEach(fresh::apply);
+            pendingWrites = null;
+            lock.writeLock().lock();
+            try {
+                directory = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        logger.info("User suggestions loaded {} active users", fresh.users.size());
+    }
+    
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        UserSnapshot user = event.getAfter();
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (pendingWrites != null) {
+                pendingWrites.add(user);
+            }
+            lock.writeLock().lock();
+            try {
+                if (directory != null) {
+                    directory.apply(user);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+    
+    private static UserResponse toResponse(UserSnapshot user) {
+        UserResponse response = new UserResponse();
+        response.setId(user.getId());
+        response.setFirstName(user.getFirstName());
+        response.setLastName(user.getLastName());
+        response.setFullName(user.getFullName());
+        response.setEmail(user.getEmail());
+        response.setRole(user.getRole());
+        response.setActive(true);
+        return response;
+    }
+    
+    /**
+     * Active users by id and the tries that find them.
+     */
+    private static final class Directory {
+        final Map<Long, UserSnapshot> users = new HashMap<>();
+        final Map<UserRole, PrefixTrie> byRole = new EnumMap<>(UserRole.class);
+        final PrefixTrie allRoles = new PrefixTrie();
+        
+        // Replace whatever is indexed for the user; inactive users are only removed
+        void apply(UserSnapshot user) {
+            UserSnapshot previous = users.remove(user.getId());
+            if (previous != null) {
+                index(previous, false);
+            }
+            if (user.isActive()) {
+                users.put(user.getId(), user);
+                index(user, true);
+            }
+        }
+        
+        private void index(UserSnapshot user, boolean add) {
+            PrefixTrie roleTrie = user.getRole() != null
+                    ? byRole.computeIfAbsent(user.getRole(), role -> new PrefixTrie()) : null;
+            for (String key : new String[] {user.getFirstName(), user.getLastName(), user.getFullName(),
+                    user.getEmail()}) {
+                for (PrefixTrie trie : new PrefixTrie[] {allRoles, roleTrie}) {
+                    if (trie == null) {
+                        continue;
+                    }
+                    if (add) {
+                        trie.put(key, user.getId());
+                    } else {
+                        trie.remove(key, user.getId());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.lender.mortgage.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over 64-bit keys, safe for concurrent adds and lookups without
+ * locking. Sized at ten bits per expected key with seven probes, which keeps the false
+ * positive rate near one percent until the expected count is exceeded.
+ *
+ * Keys should already be well mixed (a cryptographic or murmur-style hash); probe
+ * positions are derived from the key's two halves by double hashing. Keys cannot be
+ * removed, so owners rebuild the filter when enough of its keys are gone.
+ */
+public class BloomFilter {
+    
+    private static final int BITS_PER_KEY = 10;
+    private static final int PROBES = 7;
+    
+    private final AtomicLongArray words;
+    private final long bitCount;
+    
+    public BloomFilter(int expectedKeys) {
+        long bits = Math.max(64, (long) Math.max(1, expectedKeys) * BITS_PER_KEY);
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+    }
+    
+    public void add(long key) {
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32);
+        for (int i = 1; i <= PROBES; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+    
+    /**
+     * False only if the key was never added; true may be a false positive.
+     */
+    public boolean mightContain(long key) {
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32);
+        for (int i = 1; i <= PROBES; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+}
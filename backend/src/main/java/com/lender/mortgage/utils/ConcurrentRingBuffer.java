@@ -0,0 +1,81 @@
+package com.lender.mortgage.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Fixed-capacity, lock-free, multi-producer ring buffer that keeps the most recent items.
+ *
+ * Producers claim a sequence number with a single atomic increment and write their slot;
+ * the oldest item is overwritten once the buffer is full. Readers walk back from the
+ * newest claimed sequence and copy out slots whose stored sequence matches, skipping
+ * slots still being written or already overwritten by a newer lap. Neither side ever
+ * blocks or retries, and a read touches at most {@code capacity} slots.
+ */
+public class ConcurrentRingBuffer<T> {
+    
+    private static final class Slot<T> {
+        final long sequence;
+        final T item;
+        
+        Slot(long sequence, T item) {
+            this.sequence = sequence;
+            this.item = item;
+        }
+    }
+    
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final AtomicLong nextSequence = new AtomicLong();
+    
+    public ConcurrentRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a positive power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+    
+    public void publish(T item) {
+        long sequence = nextSequence.getAndIncrement();
+        slots.set((int) (sequence & mask), new Slot<>(sequence, item));
+    }
+    
+    /**
+     * Copy up to {@code limit} of the newest items matching {@code filter}, newest first.
+     */
+    public List<T> latest(int limit, Predicate<? super T> filter) {
+        List<T> result = new ArrayList<>(Math.min(limit, capacity));
+        long newest = nextSequence.get() - 1;
+        long oldest = Math.max(0, newest - capacity + 1);
+        
+        for (long sequence = newest; sequence >= oldest && result.size() < limit; sequence--) {
+            Slot<T> slot = slots.get((int) (sequence & mask));
+            if (slot == null || slot.sequence < sequence) {
+                // Claimed but not yet written
+                continue;
+            }
+            if (slot.sequence > sequence) {
+                // Producers have lapped us; everything older is gone too
+                break;
+            }
+            if (filter.test(slot.item)) {
+                result.add(slot.item);
+            }
+        }
+        return result;
+    }
+    
+    public List<T> latest(int limit) {
+        return latest(limit, item -> true);
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,125 @@
+package com.lender.mortgage.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, concurrent cache whose entries expire a fixed time after they were loaded.
+ *
+ * Lookups are a single ConcurrentHashMap read. A miss runs the loader on the calling
+ * thread without holding any lock, so concurrent misses for one key may load it twice.
+ * A value loaded while an invalidation happened is returned but not cached, so an
+ * invalidation is never undone by a load that read the old state.
+ *
+ * When an insert finds the cache full, expired entries are swept first; if that is not
+ * enough, entries are dropped in map iteration order (effectively at random) until a
+ * tenth of the capacity is free again.
+ */
+public class ExpiringCache<K, V> {
+    
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAtNanos;
+        
+        Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+    
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    
+    // Bumped by every invalidation; loads that straddle a bump are not cached
+    private final AtomicLong generation = new AtomicLong();
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    public ExpiringCache(int maxSize, long ttlNanos) {
+        this(maxSize, ttlNanos, System::nanoTime);
+    }
+    
+    public ExpiringCache(int maxSize, long ttlNanos, LongSupplier nanoClock) {
+        if (maxSize < 1 || ttlNanos < 1) {
+            throw new IllegalArgumentException("Cache size and time to live must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+    }
+    
+    /**
+     * Cached value for the key, or the loader's value on a miss. A loader returning null
+     * or throwing caches nothing.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = nanoClock.getAsLong();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.expiresAtNanos < 0) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        
+        long loadGeneration = generation.get();
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom(now);
+        }
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+        if (generation.get() != loadGeneration) {
+            // An invalidation may have targeted this key while it was loading
+            entries.remove(key);
+        }
+        return value;
+    }
+    
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+    
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+    
+    private void makeRoom(long now) {
+        entries.entrySet().removeIf(candidate -> now - candidate.getValue().expiresAtNanos >= 0);
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions.increment();
+        }
+    }
+}
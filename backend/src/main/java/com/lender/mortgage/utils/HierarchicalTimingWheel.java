@@ -0,0 +1,158 @@
+package com.lender.mortgage.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel for keyed deadlines.
+ *
+ * Level 0 has {@code wheelSizes[0]} slots of {@code tickMs}; each higher level has slots
+ * as wide as the full span of the level below. Deadlines are rounded up to the next tick
+ * and placed on the lowest level whose span covers them; when time crosses a slot boundary
+ * of a higher level, that slot is cascaded down. Deadlines beyond the top level's span wait
+ * in their top-level slot for as many rotations as needed. Scheduling, cancelling and
+ * firing are O(1) per entry, independent of how many deadlines are pending.
+ *
+ * Entries fire at most one tick after their deadline. All methods are synchronized.
+ */
+public class HierarchicalTimingWheel<T> {
+    
+    private static final class Entry<T> {
+        final String key;
+        final long expiry;
+        final T payload;
+        Map<String, Entry<T>> bucket;
+        
+        Entry(String key, long expiry, T payload) {
+            this.key = key;
+            this.expiry = expiry;
+            this.payload = payload;
+        }
+    }
+    
+    private final long tickMs;
+    private final int[] wheelSizes;
+    private final long[] levelTicks;
+    private final List<List<Map<String, Entry<T>>>> levels = new ArrayList<>();
+    private final Map<String, Entry<T>> entries = new HashMap<>();
+    private long currentTime;
+    
+    public HierarchicalTimingWheel(long tickMs, int[] wheelSizes, long startMs) {
+        if (tickMs <= 0 || wheelSizes.length == 0) {
+            throw new IllegalArgumentException("Timing wheel needs a positive tick and at least one level");
+        }
+        this.tickMs = tickMs;
+        this.wheelSizes = wheelSizes.clone();
+        this.levelTicks = new long[wheelSizes.length];
+        
+        long levelTick = tickMs;
+        for (int level = 0; level < wheelSizes.length; level++) {
+            levelTicks[level] = levelTick;
+            List<Map<String, Entry<T>>> slots = new ArrayList<>(wheelSizes[level]);
+            for (int slot = 0; slot < wheelSizes[level]; slot++) {
+                slots.add(new LinkedHashMap<>());
+            }
+            levels.add(slots);
+            levelTick = Math.multiplyExact(levelTick, wheelSizes[level]);
+        }
+        this.currentTime = startMs - Math.floorMod(startMs, tickMs);
+    }
+    
+    /**
+     * Schedule or reschedule a keyed deadline. Returns false, without storing the entry,
+     * when the deadline has already passed; the caller should fire it directly.
+     */
+    public synchronized boolean schedule(String key, long deadlineMs, T payload) {
+        cancel(key);
+        Entry<T> entry = new Entry<>(key, roundUp(deadlineMs), payload);
+        if (!place(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+    
+    public synchronized boolean cancel(String key) {
+        Entry<T> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.bucket.remove(key);
+        return true;
+    }
+    
+    /**
+     * Move the wheel forward to {@code nowMs}, returning the payloads that came due in deadline order.
+     */
+    public synchronized List<T> advanceTo(long nowMs) {
+        List<T> fired = new ArrayList<>();
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            // Cascade from the top so entries falling through several levels land in time
+            for (int level = levelTicks.length - 1; level >= 1; level--) {
+                if (currentTime % levelTicks[level] == 0) {
+                    cascade(bucketFor(level, currentTime), fired);
+                }
+            }
+            Map<String, Entry<T>> due = bucketFor(0, currentTime);
+            for (Entry<T> entry : due.values()) {
+                entries.remove(entry.key);
+                fired.add(entry.payload);
+            }
+            due.clear();
+        }
+        return fired;
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    public synchronized long getCurrentTime() {
+        return currentTime;
+    }
+    
+    private void cascade(Map<String, Entry<T>> bucket, List<T> fired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> moving = new ArrayList<>(bucket.values());
+        bucket.clear();
+        for (Entry<T> entry : moving) {
+            if (!place(entry)) {
+                entries.remove(entry.key);
+                fired.add(entry.payload);
+            }
+        }
+    }
+    
+    private boolean place(Entry<T> entry) {
+        long delay = entry.expiry - currentTime;
+        if (delay <= 0) {
+            return false;
+        }
+        int top = levelTicks.length - 1;
+        for (int level = 0; level <= top; level++) {
+            if (level == top || delay < levelTicks[level] * wheelSizes[level]) {
+                Map<String, Entry<T>> bucket = bucketFor(level, entry.expiry);
+                bucket.put(entry.key, entry);
+                entry.bucket = bucket;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Map<String, Entry<T>> bucketFor(int level, long time) {
+        int slot = (int) Math.floorMod(time / levelTicks[level], (long) wheelSizes[level]);
+        return levels.get(level).get(slot);
+    }
+    
+    private long roundUp(long time) {
+        long remainder = Math.floorMod(time, tickMs);
+        return remainder == 0 ? time : time - remainder + tickMs;
+    }
+}
@@ -0,0 +1,104 @@
+package com.lender.mortgage.utils;
+
+import com.lender.mortgage.dto.response.CursorPageResponse;
+import com.lender.mortgage.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Position in a list ordered newest first by a timestamp attribute, ties broken by id.
+ *
+ * Instead of OFFSET, the next page is selected with
+ * {@code sortKey < :value OR (sortKey = :value AND id < :id)}, so deep pages cost the
+ * same as the first one and rows inserted meanwhile never shift or repeat entries.
+ * Clients see the position as an opaque URL-safe token that names the list and the
+ * attribute it was issued for, so a cursor from one list is rejected by another even
+ * when both sort by the same attribute.
+ */
+public final class KeysetCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final String scope;
+    private final String sortAttribute;
+    private final LocalDateTime sortValue;
+    private final Long id;
+    
+    private KeysetCursor(String scope, String sortAttribute, LocalDateTime sortValue, Long id) {
+        this.scope = scope;
+        this.sortAttribute = sortAttribute;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+    
+    /**
+     * Parse a token issued for the {@code scope} list sorted by {@code sortAttribute}; null
+     * or blank means the first page.
+     */
+    public static KeysetCursor decode(String token, String scope, String sortAttribute) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 4 || !parts[0].equals(scope) || !parts[1].equals(sortAttribute)) {
+                throw new BadRequestException("Cursor does not belong to this list");
+            }
+            return new KeysetCursor(parts[0], parts[1], LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+    
+    public String encode() {
+        String raw = scope + SEPARATOR + sortAttribute + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Rows strictly after this position; matches nothing extra when the cursor is null.
+     */
+    public static <T> Specification<T> after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return (root, query, cb) -> null;
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get(cursor.sortAttribute), cursor.sortValue),
+                cb.and(cb.equal(root.get(cursor.sortAttribute), cursor.sortValue),
+                        cb.lessThan(root.get("id"), cursor.id)));
+    }
+    
+    /**
+     * Ordering the seek predicate relies on.
+     */
+    public static Sort sort(String sortAttribute) {
+        return Sort.by(Sort.Direction.DESC, sortAttribute, "id");
+    }
+    
+    /**
+     * Build a page from rows fetched with a limit of {@code size + 1}; the extra row only
+     * signals that another page exists.
+     */
+    public static <E, R> CursorPageResponse<R> page(List<E> rows, int size, String scope, String sortAttribute,
+                                                   Function<E, LocalDateTime> sortValueOf,
+                                                   Function<E, Long> idOf, Function<E, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(scope, sortAttribute, sortValueOf.apply(last), idOf.apply(last)).encode();
+        }
+        List<R> content = pageRows.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPageResponse<>(content, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,89 @@
+package com.lender.mortgage.utils;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.entity.enums.CreditScoreBand;
+import com.lender.mortgage.event.LoanSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-memory counterpart of the loan filter query in LoanFilterRepositoryImpl, evaluated
+ * against a loan snapshot with the same inclusive bounds.
+ *
+ * The closing window is relative to the current time, so loans drift in and out of it
+ * without being written. It is checked separately by {@link #closesWithin}, at read time.
+ */
+public final class LoanFilterMatcher {
+    
+    private LoanFilterMatcher() {}
+    
+    /**
+     * Whether the loan meets every criterion except the closing window.
+     */
+    public static boolean matches(LoanFilterRequest filter, LoanSnapshot loan) {
+        if (!equal(filter.getLoanOfficerId(), loan.getLoanOfficerId())
+                || !equal(filter.getProcessorId(), loan.getProcessorId())
+                || !equal(filter.getUnderwriterId(), loan.getUnderwriterId())) {
+            return false;
+        }
+        if (filter.getState() != null && !filter.getState().isBlank()
+                && !filter.getState().trim().toUpperCase(Locale.ROOT).equals(loan.getPropertyState())) {
+            return false;
+        }
+        if (!in(filter.getStatuses(), loan.getStatus()) || !in(filter.getTypes(), loan.getLoanType())) {
+            return false;
+        }
+        if (!between(loan.getCreatedAt(), filter.getStartDate(), filter.getEndDate())
+                || !between(loan.getLoanAmount(), filter.getMinAmount(), filter.getMaxAmount())) {
+            return false;
+        }
+        return inBands(filter.getCreditBands(), loan.getCreditScore());
+    }
+    
+    /**
+     * Whether an expected closing date falls in the filter's closing window as of {@code now};
+     * always true when the filter has no window.
+     */
+    public static boolean closesWithin(LoanFilterRequest filter, LocalDateTime expectedClosingDate,
+                                       LocalDateTime now) {
+        if (filter.getClosingWithinDays() == null) {
+            return true;
+        }
+        return between(expectedClosingDate, now, now.plusDays(filter.getClosingWithinDays()));
+    }
+    
+    private static boolean equal(Long expected, Long actual) {
+        return expected == null || expected.equals(actual);
+    }
+    
+    private static <T> boolean in(List<T> allowed, T value) {
+        return allowed == null || allowed.isEmpty() || allowed.contains(value);
+    }
+    
+    // Like SQL, a missing value never satisfies a bound
+    private static <T extends Comparable<? super T>> boolean between(T value, T min, T max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null
+                && (min == null || value.compareTo(min) >= 0)
+                && (max == null || value.compareTo(max) <= 0);
+    }
+    
+    private static boolean inBands(List<CreditScoreBand> bands, Integer creditScore) {
+        if (bands == null || bands.isEmpty()) {
+            return true;
+        }
+        if (creditScore == null) {
+            return false;
+        }
+        for (CreditScoreBand band : bands) {
+            if (creditScore >= band.getMinScore() && creditScore <= band.getMaxScore()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.lender.mortgage.utils;
+
+/**
+ * Fixed-size histogram with logarithmic buckets for estimating quantiles of positive
+ * values in constant memory. Bucket boundaries grow geometrically from {@code minValue}
+ * to {@code maxValue}, so any quantile is reported within {@code relativeError} of the
+ * true value; values outside the range are clamped into the first or last bucket.
+ * Count, sum, min and max are tracked exactly.
+ *
+ * Not thread-safe; callers fill one instance per pass and read it afterwards.
+ */
+public class LogHistogram {
+    
+    private final double minValue;
+    private final double logGrowth;
+    private final long[] buckets;
+    
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    
+    public LogHistogram(double minValue, double maxValue, double relativeError) {
+        if (minValue <= 0 || maxValue <= minValue || relativeError <= 0 || relativeError >= 1) {
+            throw new IllegalArgumentException("Invalid histogram range or error");
+        }
+        this.minValue = minValue;
+        // A bucket [b, b * growth) reported at its geometric midpoint is off by about relativeError
+        double growth = (1 + relativeError) / (1 - relativeError);
+        this.logGrowth = Math.log(growth);
+        this.buckets = new long[(int) Math.ceil(Math.log(maxValue / minValue) / logGrowth) + 1];
+    }
+    
+    public void record(double value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        buckets[bucketOf(value)]++;
+    }
+    
+    /**
+     * Estimate the value at quantile {@code q} (0..1), or 0 when nothing was recorded.
+     */
+    public double quantile(double q) {
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                double midpoint = minValue * Math.exp((bucket + 0.5) * logGrowth);
+                return Math.min(max, Math.max(min, midpoint));
+            }
+        }
+        return max;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public double getMean() {
+        return count > 0 ? sum / count : 0.0;
+    }
+    
+    public double getMax() {
+        return count > 0 ? max : 0.0;
+    }
+    
+    private int bucketOf(double value) {
+        if (value <= minValue) {
+            return 0;
+        }
+        int bucket = (int) (Math.log(value / minValue) / logGrowth);
+        return Math.min(bucket, buckets.length - 1);
+    }
+}
@@ -0,0 +1,175 @@
+package com.lender.mortgage.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Case-insensitive prefix trie mapping string keys to long ids, for type-ahead lookups.
+ *
+ * Each node keeps its children in a char-sorted array, so a lookup walks the prefix with
+ * one binary search per character and then visits the subtree depth first, which yields
+ * ids in key order. An id may sit under several keys (first name, last name, email) and
+ * is returned once, at its first key.
+ *
+ * Not thread-safe; callers guard access.
+ */
+public class PrefixTrie {
+    
+    private final Node root = new Node();
+    private int keyCount;
+    
+    /**
+     * Add {@code id} under {@code key}; blank keys are ignored.
+     */
+    public void put(String key, long id) {
+        String normalized = normalize(key);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < normalized.length(); i++) {
+            node = node.childOrCreate(normalized.charAt(i));
+        }
+        if (node.addId(id)) {
+            keyCount++;
+        }
+    }
+    
+    /**
+     * Remove {@code id} from under {@code key}, pruning nodes left empty.
+     */
+    public void remove(String key, long id) {
+        String normalized = normalize(key);
+        if (!normalized.isEmpty() && remove(root, normalized, 0, id)) {
+            keyCount--;
+        }
+    }
+    
+    /**
+     * Up to {@code limit} distinct ids whose keys start with {@code prefix}, in key order.
+     * An empty prefix lists every id.
+     */
+    public Set<Long> find(String prefix, int limit) {
+        Set<Long> found = new LinkedHashSet<>();
+        if (limit <= 0) {
+            return found;
+        }
+        String normalized = normalize(prefix);
+        Node node = root;
+        for (int i = 0; i < normalized.length() && node != null; i++) {
+            node = node.child(normalized.charAt(i));
+        }
+        if (node != null) {
+            collect(node, found, limit);
+        }
+        return found;
+    }
+    
+    /**
+     * Number of (key, id) entries.
+     */
+    public int size() {
+        return keyCount;
+    }
+    
+    private static boolean collect(Node node, Set<Long> found, int limit) {
+        for (int i = 0; i < node.idCount; i++) {
+            found.add(node.ids[i]);
+            if (found.size() == limit) {
+                return true;
+            }
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            if (collect(node.children[i], found, limit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean remove(Node node, String key, int depth, long id) {
+        if (depth == key.length()) {
+            return node.removeId(id);
+        }
+        Node child = node.child(key.charAt(depth));
+        if (child == null || !remove(child, key, depth + 1, id)) {
+            return false;
+        }
+        if (child.idCount == 0 && child.childCount == 0) {
+            node.removeChild(key.charAt(depth));
+        }
+        return true;
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private long[] ids = new long[0];
+        private int idCount;
+        
+        Node child(char label) {
+            int at = Arrays.binarySearch(labels, 0, childCount, label);
+            return at >= 0 ? children[at] : null;
+        }
+        
+        Node childOrCreate(char label) {
+            int at = Arrays.binarySearch(labels, 0, childCount, label);
+            if (at >= 0) {
+                return children[at];
+            }
+            int insert = -at - 1;
+            if (childCount == labels.length) {
+                int grown = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, grown);
+                children = Arrays.copyOf(children, grown);
+            }
+            System.arraycopy(labels, insert, labels, insert + 1, childCount - insert);
+            System.arraycopy(children, insert, children, insert + 1, childCount - insert);
+            Node created = new Node();
+            labels[insert] = label;
+            children[insert] = created;
+            childCount++;
+            return created;
+        }
+        
+        void removeChild(char label) {
+            int at = Arrays.binarySearch(labels, 0, childCount, label);
+            if (at < 0) {
+                return;
+            }
+            System.arraycopy(labels, at + 1, labels, at, childCount - at - 1);
+            System.arraycopy(children, at + 1, children, at, childCount - at - 1);
+            children[--childCount] = null;
+        }
+        
+        boolean addId(long id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    return false;
+                }
+            }
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(1, idCount * 2));
+            }
+            ids[idCount++] = id;
+            return true;
+        }
+        
+        boolean removeId(long id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--idCount];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.lender.mortgage.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded top-K selection. Keeps a min-heap of at most {@code k} elements so picking the
+ * best few out of {@code n} candidates costs O(n log k) time and O(k) memory.
+ */
+public final class TopK {
+    
+    private TopK() {}
+    
+    /**
+     * Return the {@code k} greatest candidates according to {@code comparator}, best first.
+     */
+    public static <T> List<T> select(Collection<T> candidates, int k, Comparator<? super T> comparator) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<T> heap = new PriorityQueue<>(k + 1, comparator);
+        for (T candidate : candidates) {
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (comparator.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+        List<T> top = new ArrayList<>(heap);
+        top.sort(comparator.reversed());
+        return Collections.unmodifiableList(top);
+    }
+}
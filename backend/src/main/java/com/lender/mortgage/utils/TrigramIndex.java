@@ -0,0 +1,642 @@
+package com.lender.mortgage.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * In-memory trigram inverted index for case-insensitive substring search over a few
+ * short text fields per document, keyed by non-negative int ids.
+ *
+ * Each field is indexed separately: every three-character window of the field, plus
+ * one start-of-field window, maps to a posting list of document ids stored as
+ * delta-encoded variable-length ints (usually one or two bytes per id) with a skip
+ * entry every 64 ids. A query intersects the posting lists of its own trigrams per
+ * field, most selective first. Trigram keys keep all 16 bits of each char, so a
+ * three-character query is answered exactly from its posting list; longer terms are
+ * verified against the stored text. Matches are ranked by field weight times
+ * match quality (field prefix, word prefix, anywhere), newest id first within a score.
+ * An optional id filter scopes a search without a separate index per scope; it runs
+ * before any text is verified.
+ *
+ * Field text is kept lower-cased as UTF-8 in one byte arena laid out in id order, so
+ * verifying a sorted candidate list reads memory almost sequentially.
+ *
+ * Reads share a read lock; {@link #put} and {@link #remove} take the write lock.
+ * Appending the highest id so far is O(1); any other change re-encodes the affected
+ * posting lists.
+ */
+public class TrigramIndex {
+    
+    public static final int MIN_QUERY_LENGTH = 3;
+    
+    private static final char FIELD_START = '\u0001';
+    private static final int PREFIX_QUALITY = 4;
+    private static final int WORD_QUALITY = 2;
+    private static final int SUBSTRING_QUALITY = 1;
+    
+    // When candidates get verified anyway, a list this many times longer costs more to intersect than it saves
+    private static final int UNSELECTIVE_RATIO = 8;
+    private static final int MIN_COMPACT_BYTES = 1 << 20;
+    
+    /**
+     * Total number of matches and the best {@code limit} ids, best first.
+     */
+    public static final class Result {
+        private final int total;
+        private final int[] ids;
+        
+        Result(int total, int[] ids) {
+            this.total = total;
+            this.ids = ids;
+        }
+        
+        public int getTotal() { return total; }
+        public int[] getIds() { return ids; }
+    }
+    
+    private final int[] fieldWeights;
+    private final int fieldCount;
+    private final int maxScore;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    
+    // Start and end offset in the arena of each field, two ints per field per id; -1 start when absent
+    private int[] spans = new int[0];
+    private int capacity;
+    private byte[] arena = new byte[1 << 16];
+    private int arenaLength;
+    private int arenaGarbage;
+    private int documentCount;
+    private int maxDocId = -1;
+    
+    // Per-thread score scratch indexed by id; only touched slots are cleared after a query
+    private final ThreadLocal<byte[]> scoreScratch = ThreadLocal.withInitial(() -> new byte[0]);
+    
+    /**
+     * @param fieldWeights ranking weight (1..31) of each field, in the order fields are passed to {@link #put}
+     */
+    public TrigramIndex(int... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+        this.fieldCount = fieldWeights.length;
+        this.maxScore = PREFIX_QUALITY * Arrays.stream(fieldWeights).max().orElse(1);
+        if (maxScore > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Field weights must be at most 31");
+        }
+        ensureCapacity(1024);
+    }
+    
+    /**
+     * Index or re-index a document.
+     */
+    public void put(int docId, String... fields) {
+        if (docId < 0) {
+            throw new IllegalArgumentException("Document id must not be negative: " + docId);
+        }
+        String[] normalized = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            normalized[i] = i < fields.length ? normalize(fields[i]) : "";
+        }
+        long[] newKeys = keysOf(normalized);
+        
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(docId + 1);
+            long[] oldKeys = contains(docId) ? keysOf(fieldsOf(docId)) : new long[0];
+            if (contains(docId)) {
+                release(docId);
+            } else {
+                documentCount++;
+            }
+            store(docId, normalized);
+            maxDocId = Math.max(maxDocId, docId);
+            
+            // Both key arrays are sorted; only the difference touches posting lists
+            int o = 0;
+            int n = 0;
+            while (o < oldKeys.length || n < newKeys.length) {
+                if (n == newKeys.length || (o < oldKeys.length && oldKeys[o] < newKeys[n])) {
+                    removePosting(oldKeys[o++], docId);
+                } else if (o == oldKeys.length || newKeys[n] < oldKeys[o]) {
+                    postings.computeIfAbsent(newKeys[n++], k -> new PostingList()).add(docId);
+                } else {
+                    o++;
+                    n++;
+                }
+            }
+            compactIfWasteful();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(int docId) {
+        lock.writeLock().lock();
+        try {
+            if (docId < 0 || docId >= capacity || !contains(docId)) {
+                return;
+            }
+            for (long key : keysOf(fieldsOf(docId))) {
+                removePosting(key, docId);
+            }
+            release(docId);
+            spans[docId * 2 * fieldCount] = -1;
+            documentCount--;
+            compactIfWasteful();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Find documents with a field containing {@code term}, or null when the term is
+     * shorter than {@link #MIN_QUERY_LENGTH} and cannot be served from trigrams.
+     */
+    public Result search(String term, int limit) {
+        return search(term, limit, null);
+    }
+    
+    /**
+     * Like {@link #search(String, int)}, counting and returning only ids accepted by
+     * {@code filter}. The filter is called under the read lock and must not call back
+     * into the index.
+     */
+    public Result search(String term, int limit, IntPredicate filter) {
+        String query = normalize(term);
+        if (query.length() < MIN_QUERY_LENGTH) {
+            return null;
+        }
+        long[] queryGrams = gramsOf(query, false);
+        long startGram = gram(FIELD_START, query.charAt(0), query.charAt(1));
+        long wordGram = gram(' ', query.charAt(0), query.charAt(1));
+        byte[] queryBytes = query.getBytes(StandardCharsets.UTF_8);
+        boolean verify = query.length() > MIN_QUERY_LENGTH;
+        
+        lock.readLock().lock();
+        try {
+            byte[] scores = scoreScratch.get();
+            if (scores.length < capacity) {
+                scores = new byte[capacity];
+                scoreScratch.set(scores);
+            }
+            int[] matched = new int[16];
+            int matchCount = 0;
+            int[] perScore = new int[maxScore + 1];
+            
+            try {
+                for (int field = 0; field < fieldCount; field++) {
+                    int[] candidates = intersect(field, queryGrams, verify);
+                    if (candidates.length == 0) {
+                        continue;
+                    }
+                    // A trigram query matches exactly; only field- and word-prefix candidates need a look at the text
+                    int[] prefixed = verify ? null : filter(candidates, postings.get(key(field, startGram)));
+                    int[] worded = verify ? null : filter(candidates, postings.get(key(field, wordGram)));
+                    
+                    int p = 0;
+                    int w = 0;
+                    for (int docId : candidates) {
+                        if (filter != null && !filter.test(docId)) {
+                            continue;
+                        }
+                        int quality;
+                        if (verify) {
+                            quality = quality(docId, field, queryBytes);
+                        } else {
+                            while (p < prefixed.length && prefixed[p] < docId) {
+                                p++;
+                            }
+                            while (w < worded.length && worded[w] < docId) {
+                                w++;
+                            }
+                            boolean maybeBetter = (p < prefixed.length && prefixed[p] == docId)
+                                    || (w < worded.length && worded[w] == docId);
+                            quality = maybeBetter ? quality(docId, field, queryBytes) : SUBSTRING_QUALITY;
+                        }
+                        if (quality == 0) {
+                            continue;
+                        }
+                        int score = quality * fieldWeights[field];
+                        int current = scores[docId];
+                        if (current == 0) {
+                            if (matchCount == matched.length) {
+                                matched = Arrays.copyOf(matched, matchCount * 2);
+                            }
+                            matched[matchCount++] = docId;
+                        } else if (score <= current) {
+                            continue;
+                        } else {
+                            perScore[current]--;
+                        }
+                        scores[docId] = (byte) score;
+                        perScore[score]++;
+                    }
+                }
+                return new Result(matchCount, topIds(scores, perScore, Math.max(0, Math.min(limit, matchCount))));
+            } finally {
+                for (int i = 0; i < matchCount; i++) {
+                    scores[matched[i]] = 0;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Caller holds the read lock
+    private int[] intersect(int field, long[] queryGrams, boolean verify) {
+        PostingList[] lists = new PostingList[queryGrams.length];
+        for (int i = 0; i < queryGrams.length; i++) {
+            lists[i] = postings.get(key(field, queryGrams[i]));
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        int[] candidates = lists[0].decode();
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            if (verify && lists[i].size > (long) candidates.length * UNSELECTIVE_RATIO) {
+                break;
+            }
+            candidates = lists[i].intersect(candidates);
+        }
+        return candidates;
+    }
+    
+    private static int[] filter(int[] candidates, PostingList list) {
+        return list != null ? list.intersect(candidates) : new int[0];
+    }
+    
+    /**
+     * Walk ids from newest to oldest, filling each score's share of the top {@code limit}
+     * in one pass and stopping as soon as every share is full.
+     */
+    // Caller holds the read lock
+    private int[] topIds(byte[] scores, int[] perScore, int limit) {
+        int[] take = new int[perScore.length];
+        int[] offset = new int[perScore.length];
+        int remaining = limit;
+        int position = 0;
+        for (int score = maxScore; score > 0 && remaining > 0; score--) {
+            take[score] = Math.min(perScore[score], remaining);
+            offset[score] = position;
+            position += take[score];
+            remaining -= take[score];
+        }
+        
+        int[] top = new int[limit];
+        int filled = 0;
+        for (int docId = maxDocId; docId >= 0 && filled < limit; docId--) {
+            int score = scores[docId];
+            if (score > 0 && take[score] > 0) {
+                top[offset[score]++] = docId;
+                take[score]--;
+                filled++;
+            }
+        }
+        return top;
+    }
+    
+    // Caller holds the read lock; 0 when the field does not contain the query
+    private int quality(int docId, int field, byte[] query) {
+        int span = (docId * fieldCount + field) * 2;
+        int start = spans[span];
+        int end = spans[span + 1];
+        int at = indexOf(start, end, query);
+        if (at < 0) {
+            return 0;
+        }
+        if (at == start) {
+            return PREFIX_QUALITY;
+        }
+        // A later occurrence may still start a word
+        while (at >= 0) {
+            if (arena[at - 1] == ' ') {
+                return WORD_QUALITY;
+            }
+            at = indexOf(at + 1, end, query);
+        }
+        return SUBSTRING_QUALITY;
+    }
+    
+    // UTF-8 is self-synchronizing, so a byte match is a character match
+    private int indexOf(int from, int end, byte[] query) {
+        byte first = query[0];
+        for (int i = from, last = end - query.length; i <= last; i++) {
+            if (arena[i] != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < query.length && arena[i + j] == query[j]) {
+                j++;
+            }
+            if (j == query.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private boolean contains(int docId) {
+        return spans[docId * 2 * fieldCount] >= 0;
+    }
+    
+    // Caller holds the write lock
+    private void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        int grown = Math.max(required, capacity * 2);
+        int previous = spans.length;
+        spans = Arrays.copyOf(spans, grown * 2 * fieldCount);
+        Arrays.fill(spans, previous, spans.length, -1);
+        capacity = grown;
+    }
+    
+    // Caller holds the write lock
+    private void store(int docId, String[] fields) {
+        for (int field = 0; field < fieldCount; field++) {
+            byte[] bytes = fields[field].getBytes(StandardCharsets.UTF_8);
+            if (arenaLength + bytes.length > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arenaLength + bytes.length, arena.length * 2));
+            }
+            System.arraycopy(bytes, 0, arena, arenaLength, bytes.length);
+            int span = (docId * fieldCount + field) * 2;
+            spans[span] = arenaLength;
+            spans[span + 1] = arenaLength + bytes.length;
+            arenaLength += bytes.length;
+        }
+    }
+    
+    // Caller holds the write lock
+    private void release(int docId) {
+        for (int field = 0; field < fieldCount; field++) {
+            int span = (docId * fieldCount + field) * 2;
+            arenaGarbage += spans[span + 1] - spans[span];
+        }
+    }
+    
+    // Caller holds the lock
+    private String[] fieldsOf(int docId) {
+        String[] fields = new String[fieldCount];
+        for (int field = 0; field < fieldCount; field++) {
+            int span = (docId * fieldCount + field) * 2;
+            fields[field] = new String(arena, spans[span], spans[span + 1] - spans[span], StandardCharsets.UTF_8);
+        }
+        return fields;
+    }
+    
+    /**
+     * Rewrite the arena in id order once replaced text makes up more than half of it.
+     */
+    // Caller holds the write lock
+    private void compactIfWasteful() {
+        if (arenaGarbage < MIN_COMPACT_BYTES || arenaGarbage * 2 < arenaLength) {
+            return;
+        }
+        byte[] compacted = new byte[Math.max(1 << 16, (arenaLength - arenaGarbage) * 3 / 2)];
+        int length = 0;
+        for (int docId = 0; docId <= maxDocId; docId++) {
+            if (!contains(docId)) {
+                continue;
+            }
+            for (int field = 0; field < fieldCount; field++) {
+                int span = (docId * fieldCount + field) * 2;
+                int size = spans[span + 1] - spans[span];
+                System.arraycopy(arena, spans[span], compacted, length, size);
+                spans[span] = length;
+                spans[span + 1] = length + size;
+                length += size;
+            }
+        }
+        arena = compacted;
+        arenaLength = length;
+        arenaGarbage = 0;
+    }
+    
+    // Caller holds the write lock
+    private void removePosting(long key, int docId) {
+        PostingList list = postings.get(key);
+        if (list != null && list.remove(docId) && list.size == 0) {
+            postings.remove(key);
+        }
+    }
+    
+    /**
+     * Sorted, distinct posting keys of every field of a document.
+     */
+    private long[] keysOf(String[] fields) {
+        int total = 0;
+        long[][] perField = new long[fieldCount][];
+        for (int field = 0; field < fieldCount; field++) {
+            perField[field] = gramsOf(fields[field], true);
+            total += perField[field].length;
+        }
+        long[] keys = new long[total];
+        int count = 0;
+        for (int field = 0; field < fieldCount; field++) {
+            for (long gram : perField[field]) {
+                keys[count++] = key(field, gram);
+            }
+        }
+        // Fields occupy disjoint key ranges and each field's grams are already distinct
+        Arrays.sort(keys);
+        return keys;
+    }
+    
+    /**
+     * Sorted, distinct trigrams of a text; gram values are non-negative so they sort as longs.
+     */
+    private static long[] gramsOf(String text, boolean withStart) {
+        int windows = Math.max(0, text.length() - MIN_QUERY_LENGTH + 1);
+        boolean start = withStart && text.length() >= 2;
+        long[] grams = new long[windows + (start ? 1 : 0)];
+        int count = 0;
+        if (start) {
+            grams[count++] = gram(FIELD_START, text.charAt(0), text.charAt(1));
+        }
+        for (int i = 0; i < windows; i++) {
+            grams[count++] = gram(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2));
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+    
+    // All 16 bits of each char, so distinct trigrams never share a posting list
+    private static long gram(char a, char b, char c) {
+        return (long) a << 32 | (long) b << 16 | c;
+    }
+    
+    private static long key(int field, long gram) {
+        return (long) field << 48 | gram;
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Sorted, duplicate-free ids stored as varint-encoded gaps, with the id preceding
+     * every 64th entry and its byte offset kept so intersections can skip whole blocks.
+     */
+    static final class PostingList {
+        private static final int BLOCK_SHIFT = 6;
+        private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+        
+        private byte[] data = new byte[8];
+        private int length;
+        private int size;
+        private int last = -1;
+        private int[] blockBase = new int[1];
+        private int[] blockOffset = new int[1];
+        
+        void add(int docId) {
+            if (docId > last) {
+                append(docId);
+                return;
+            }
+            int[] ids = decode();
+            int at = Arrays.binarySearch(ids, docId);
+            if (at >= 0) {
+                return;
+            }
+            int insert = -at - 1;
+            int[] updated = new int[ids.length + 1];
+            System.arraycopy(ids, 0, updated, 0, insert);
+            updated[insert] = docId;
+            System.arraycopy(ids, insert, updated, insert + 1, ids.length - insert);
+            encode(updated);
+        }
+        
+        boolean remove(int docId) {
+            int[] ids = decode();
+            int at = Arrays.binarySearch(ids, docId);
+            if (at < 0) {
+                return false;
+            }
+            int[] updated = new int[ids.length - 1];
+            System.arraycopy(ids, 0, updated, 0, at);
+            System.arraycopy(ids, at + 1, updated, at, ids.length - at - 1);
+            encode(updated);
+            return true;
+        }
+        
+        int[] decode() {
+            int[] ids = new int[size];
+            int position = 0;
+            int value = -1;
+            for (int i = 0; i < size; i++) {
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    gap |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += gap;
+                ids[i] = value;
+            }
+            return ids;
+        }
+        
+        /**
+         * Keep the sorted {@code candidates} that are also in this list.
+         */
+        int[] intersect(int[] candidates) {
+            int[] kept = new int[Math.min(candidates.length, size)];
+            int count = 0;
+            int blocks = ((size - 1) >> BLOCK_SHIFT) + 1;
+            int position = 0;
+            int value = -1;
+            int i = 0;
+            int c = 0;
+            while (i < size && c < candidates.length) {
+                int target = candidates[c];
+                int next = (i >> BLOCK_SHIFT) + 1;
+                if (next < blocks && blockBase[next] < target) {
+                    // Every id before that block is below the target
+                    while (next + 1 < blocks && blockBase[next + 1] < target) {
+                        next++;
+                    }
+                    i = next << BLOCK_SHIFT;
+                    position = blockOffset[next];
+                    value = blockBase[next];
+                }
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    gap |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += gap;
+                i++;
+                while (c < candidates.length && candidates[c] < value) {
+                    c++;
+                }
+                if (c < candidates.length && candidates[c] == value) {
+                    kept[count++] = value;
+                    c++;
+                }
+            }
+            return Arrays.copyOf(kept, count);
+        }
+        
+        private void encode(int[] ids) {
+            data = new byte[Math.max(8, ids.length * 2)];
+            length = 0;
+            size = 0;
+            last = -1;
+            blockBase = new int[(ids.length >> BLOCK_SHIFT) + 1];
+            blockOffset = new int[blockBase.length];
+            for (int id : ids) {
+                append(id);
+            }
+        }
+        
+        private void append(int docId) {
+            if ((size & BLOCK_MASK) == 0) {
+                int block = size >> BLOCK_SHIFT;
+                if (block == blockBase.length) {
+                    blockBase = Arrays.copyOf(blockBase, block * 2);
+                    blockOffset = Arrays.copyOf(blockOffset, block * 2);
+                }
+                blockBase[block] = last;
+                blockOffset[block] = length;
+            }
+            int gap = docId - last;
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            while ((gap & ~0x7F) != 0) {
+                data[length++] = (byte) ((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            data[length++] = (byte) gap;
+            last = docId;
+            size++;
+        }
+    }
+}
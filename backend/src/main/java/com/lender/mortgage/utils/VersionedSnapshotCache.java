@@ -0,0 +1,178 @@
+package com.lender.mortgage.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Keyed cache of computed snapshots tied to a global data version.
+ *
+ * {@link #invalidate()} bumps the version; snapshots computed under an older version,
+ * or older than the maximum age, become stale. A stale snapshot is still returned
+ * immediately while exactly one background refresh per key recomputes it
+ * (stale-while-revalidate). Only the very first request for a key computes inline,
+ * and concurrent first requests for the same key wait for a single computation.
+ *
+ * Every snapshot carries a strong entity tag derived from its value, so callers can
+ * answer conditional requests without touching the value.
+ */
+public class VersionedSnapshotCache<K, V> {
+    
+    public static final class Snapshot<V> {
+        private final V value;
+        private final String eTag;
+        private final long version;
+        private final long computedAtMillis;
+        
+        Snapshot(V value, String eTag, long version, long computedAtMillis) {
+            this.value = value;
+            this.eTag = eTag;
+            this.version = version;
+            this.computedAtMillis = computedAtMillis;
+        }
+        
+        public V getValue() { return value; }
+        public String getETag() { return eTag; }
+        public long getVersion() { return version; }
+        public long getComputedAtMillis() { return computedAtMillis; }
+        
+        /**
+         * Whether an If-None-Match header value matches this snapshot's tag.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                // If-None-Match uses weak comparison
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+    
+    private static final class Holder<V> {
+        volatile Snapshot<V> snapshot;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+    
+    private final Map<K, Holder<V>> holders = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final Executor refreshExecutor;
+    private final Function<V, String> tagger;
+    private final LongConsumer recomputeNanosListener;
+    private final long maxAgeMillis;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    public VersionedSnapshotCache(Executor refreshExecutor, Function<V, String> tagger,
+                                  LongConsumer recomputeNanosListener, long maxAgeMillis) {
+        this.refreshExecutor = refreshExecutor;
+        this.tagger = tagger;
+        this.recomputeNanosListener = recomputeNanosListener;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+    
+    public Snapshot<V> get(K key, Supplier<V> loader) {
+        Holder<V> holder = holders.computeIfAbsent(key, k -> new Holder<>());
+        Snapshot<V> current = holder.snapshot;
+        
+        if (current == null) {
+            synchronized (holder) {
+                current = holder.snapshot;
+                if (current == null) {
+                    misses.increment();
+                    current = compute(holder, loader);
+                    return current;
+                }
+            }
+        }
+        
+        if (isFresh(current)) {
+            hits.increment();
+            return current;
+        }
+        
+        staleHits.increment();
+        if (holder.refreshing.compareAndSet(false, true)) {
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        compute(holder, loader);
+                    } finally {
+                        holder.refreshing.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                holder.refreshing.set(false);
+                throw e;
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Mark every cached snapshot stale.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+    
+    public long getVersion() {
+        return version.get();
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    /**
+     * Share of lookups answered from the cache, fresh or stale, without computing inline.
+     */
+    public double getHitRatio() {
+        long served = hits.sum() + staleHits.sum();
+        long total = served + misses.sum();
+        return total > 0 ? (double) served / total : 0.0;
+    }
+    
+    private boolean isFresh(Snapshot<V> snapshot) {
+        return snapshot.version == version.get()
+                && System.currentTimeMillis() - snapshot.computedAtMillis < maxAgeMillis;
+    }
+    
+    private Snapshot<V> compute(Holder<V> holder, Supplier<V> loader) {
+        // Read the version first so a write racing the computation leaves the result stale
+        long startVersion = version.get();
+        long started = System.nanoTime();
+        V value = loader.get();
+        Snapshot<V> snapshot = new Snapshot<>(value, tagger.apply(value), startVersion, System.currentTimeMillis());
+        recomputeNanosListener.accept(System.nanoTime() - started);
+        holder.snapshot = snapshot;
+        return snapshot;
+    }
+}
@@ -0,0 +1,79 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.request.LoginRequest;
+import com.lender.mortgage.dto.response.AuthResponse;
+import com.lender.mortgage.dto.response.UserResponse;
+import com.lender.mortgage.security.JwtTokenProvider;
+import com.lender.mortgage.service.impl.AuthServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AuthServiceImpl.class, SimpleMeterRegistry.class})
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private AuthenticationManager authenticationManager;
+
+    @MockBean
+    private JwtTokenProvider tokenProvider;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private LastLoginService lastLoginService;
+
+    @Test
+    void login_ShouldNotHoldADatabaseConnection_WhileThePasswordIsChecked() {
+        // Arrange
+        AtomicBoolean transactionDuringCheck = new AtomicBoolean(true);
+        AtomicBoolean connectionDuringCheck = new AtomicBoolean(true);
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            transactionDuringCheck.set(TransactionSynchronizationManager.isActualTransactionActive());
+            connectionDuringCheck.set(TransactionSynchronizationManager.hasResource(dataSource)
+                    || TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            return new UsernamePasswordAuthenticationToken("officer@example.com", null, List.of());
+        });
+        UserResponse user = new UserResponse();
+        user.setId(1L);
+        when(userService.getUserByEmail("officer@example.com")).thenReturn(user);
+        when(tokenProvider.generateToken(any(Authentication.class))).thenReturn("token");
+
+        // Act
+        AuthResponse response = authService.login(new LoginRequest("officer@example.com", "secret"));
+
+        // Assert
+        assertThat(response.getUser()).isSameAs(user);
+        assertThat(transactionDuringCheck).isFalse();
+        assertThat(connectionDuringCheck).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+package com.lender.mortgage.security;
+
+import com.lender.mortgage.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void matches_ShouldShedImmediately_WhenTheQueueIsFull() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        }, 1, 1, meterRegistry);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.matches("c", "c")).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void login_ShouldRehashTransparently_WhenTheWorkFactorIsRaised() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 2, 4, meterRegistry);
+        String oldHash = new BCryptPasswordEncoder(4).encode("s3cret!");
+        UserDetails stored = User.withUsername("officer@example.com").password(oldHash).roles("LOAN_OFFICER").build();
+        AtomicReference<String> rehashed = new AtomicReference<>();
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(username -> stored);
+        provider.setUserDetailsPasswordService((user, newPassword) -> {
+            rehashed.set(newPassword);
+            return user;
+        });
+        provider.setPasswordEncoder(encoder);
+
+        // Act
+        provider.authenticate(new UsernamePasswordAuthenticationToken("officer@example.com", "s3cret!"));
+
+        // Assert
+        assertThat(encoder.upgradeEncoding(oldHash)).isTrue();
+        assertThat(rehashed.get()).startsWith("$2a$05$");
+        assertThat(encoder.matches("s3cret!", rehashed.get())).isTrue();
+        assertThat(encoder.upgradeEncoding(rehashed.get())).isFalse();
+    }
+}
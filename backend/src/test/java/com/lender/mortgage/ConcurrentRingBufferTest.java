@@ -0,0 +1,90 @@
+package com.lender.mortgage.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrentRingBufferTest {
+
+    @Test
+    void latest_ShouldReturnNewestFirst_AfterWrapAround() {
+        // Arrange
+        ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(4);
+        for (int i = 1; i <= 6; i++) {
+            buffer.publish(i);
+        }
+
+        // Act
+        List<Integer> latest = buffer.latest(10);
+
+        // Assert
+        assertThat(latest).containsExactly(6, 5, 4, 3);
+        assertThat(buffer.latest(2)).containsExactly(6, 5);
+    }
+
+    @Test
+    void latest_ShouldApplyFilter_WithinRetainedItems() {
+        // Arrange
+        ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(8);
+        for (int i = 1; i <= 10; i++) {
+            buffer.publish(i);
+        }
+
+        // Act
+        List<Integer> even = buffer.latest(3, i -> i % 2 == 0);
+
+        // Assert
+        assertThat(even).containsExactly(10, 8, 6);
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPowerOfTwoCapacity() {
+        assertThatThrownBy(() -> new ConcurrentRingBuffer<>(100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void publish_ShouldKeepEveryItem_FromConcurrentProducers() throws Exception {
+        // Arrange
+        int producers = 4;
+        int perProducer = 250;
+        ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.publish(base + i);
+                    if (i % 50 == 0) {
+                        buffer.latest(20);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Assert
+        Set<Integer> items = new HashSet<>(buffer.latest(2048));
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < producers * perProducer; i++) {
+            expected.add(i);
+        }
+        assertThat(items).containsExactlyInAnyOrderElementsOf(expected);
+    }
+}
@@ -0,0 +1,126 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.DashboardAlertResponse;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.enums.AlertType;
+import com.lender.mortgage.entity.enums.ConditionStatus;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.entity.enums.Priority;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
+import com.lender.mortgage.repository.LoanConditionRepository;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.service.impl.DashboardAlertServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardAlertServiceTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Mock
+    private LoanConditionRepository conditionRepository;
+
+    @InjectMocks
+    private DashboardAlertServiceImpl dashboardAlertService;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.of(2024, 9, 15, 9, 0);
+        setClock(now);
+        ReflectionTestUtils.setField(dashboardAlertService, "closingSoonDays", 7);
+        ReflectionTestUtils.setField(dashboardAlertService, "conditionDueSoonDays", 2);
+    }
+
+    @Test
+    void rebuild_ShouldRaiseAlertsForPastDeadlines_AndQueueFutureOnes() {
+        // Arrange
+        List<Object[]> loans = new ArrayList<>();
+        loans.add(new Object[]{1L, "LN2409150001", LoanStatus.CLEAR_TO_CLOSE, now.minusDays(1)});
+        loans.add(new Object[]{2L, "LN2409150002", LoanStatus.PRE_APPROVED, now.plusDays(3)});
+        loans.add(new Object[]{3L, "LN2409150003", LoanStatus.PRE_APPROVED, now.plusDays(30)});
+        List<Object[]> conditions = new ArrayList<>();
+        conditions.add(new Object[]{10L, 3L, "LN2409150003", "Pay stubs", ConditionStatus.PENDING,
+                Priority.CRITICAL, now.minusHours(2)});
+        when(loanRepository.findActiveClosingDeadlines()).thenReturn(loans);
+        when(conditionRepository.findActiveConditionDeadlines()).thenReturn(conditions);
+
+        // Act
+        dashboardAlertService.rebuild();
+        List<DashboardAlertResponse> alerts = dashboardAlertService.getActiveAlerts();
+
+        // Assert
+        assertThat(alerts).extracting(DashboardAlertResponse::getAlertType)
+                .containsExactly(AlertType.CONDITION_OVERDUE, AlertType.LOAN_OVERDUE, AlertType.LOAN_CLOSING_SOON);
+        assertThat(alerts.get(0).getSeverity()).isEqualTo(Priority.CRITICAL);
+    }
+
+    @Test
+    void tick_ShouldEscalateClosingSoonToOverdue_WhenDeadlinePasses() {
+        // Arrange
+        List<Object[]> loans = new ArrayList<>();
+        loans.add(new Object[]{2L, "LN2409150002", LoanStatus.PRE_APPROVED, now.plusDays(3)});
+        when(loanRepository.findActiveClosingDeadlines()).thenReturn(loans);
+        when(conditionRepository.findActiveConditionDeadlines()).thenReturn(Collections.emptyList());
+        dashboardAlertService.rebuild();
+
+        // Act
+        setClock(now.plusDays(3).plusMinutes(1));
+        dashboardAlertService.tick();
+
+        // Assert
+        assertThat(dashboardAlertService.getActiveAlerts()).singleElement()
+                .extracting(DashboardAlertResponse::getAlertType).isEqualTo(AlertType.LOAN_OVERDUE);
+    }
+
+    @Test
+    void onLoanChanged_ShouldClearAlert_WhenLoanCloses() {
+        // Arrange
+        List<Object[]> loans = new ArrayList<>();
+        loans.add(new Object[]{1L, "LN2409150001", LoanStatus.CLOSING, now.minusDays(1)});
+        when(loanRepository.findActiveClosingDeadlines()).thenReturn(loans);
+        when(conditionRepository.findActiveConditionDeadlines()).thenReturn(Collections.emptyList());
+        dashboardAlertService.rebuild();
+
+        Loan loan = new Loan();
+        loan.setId(1L);
+        loan.setLoanNumber("LN2409150001");
+        loan.setLoanType(LoanType.CONVENTIONAL);
+        loan.setStatus(LoanStatus.CLOSED);
+        loan.setExpectedClosingDate(now.minusDays(1));
+
+        // Act
+        dashboardAlertService.onLoanChanged(new LoanChangedEvent(
+                LoanChangedEvent.ChangeType.STATUS_CHANGED, null, new LoanSnapshot(loan), "uw@example.com"));
+
+        // Assert
+        assertThat(dashboardAlertService.getActiveAlerts()).isEmpty();
+    }
+
+    private void setClock(LocalDateTime time) {
+        ZoneId zone = ZoneId.systemDefault();
+        Instant instant = time.atZone(zone).toInstant();
+        ReflectionTestUtils.setField(dashboardAlertService, "clock", Clock.fixed(instant, zone));
+    }
+}
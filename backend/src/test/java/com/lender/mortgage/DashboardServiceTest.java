@@ -0,0 +1,160 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.DashboardStatsResponse;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.ConditionStatus;
+import com.lender.mortgage.entity.enums.ConditionType;
+import com.lender.mortgage.entity.enums.DashboardScope;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.entity.enums.Priority;
+import com.lender.mortgage.repository.DocumentRepository;
+import com.lender.mortgage.repository.LoanDailyStatRepository;
+import com.lender.mortgage.repository.LoanConditionRepository;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.service.impl.DashboardServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Mock
+    private LoanConditionRepository conditionRepository;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private LoanDailyStatRepository dailyStatRepository;
+
+    @Mock
+    private PipelineCounterService pipelineCounterService;
+    
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private DashboardServiceImpl dashboardService;
+
+    @Test
+    void getDashboardStats_ShouldFoldGroupedRows_IntoResponse() {
+        // Arrange
+        List<Object[]> loanRows = Arrays.asList(
+                new Object[]{LoanStatus.APPLICATION_STARTED, LoanType.CONVENTIONAL, 3L, new BigDecimal("900000")},
+                new Object[]{LoanStatus.CLOSED, LoanType.FHA, 2L, new BigDecimal("400000")},
+                new Object[]{LoanStatus.DENIED, LoanType.CONVENTIONAL, 1L, new BigDecimal("100000")},
+                new Object[]{LoanStatus.WITHDRAWN, LoanType.VA, 1L, new BigDecimal("200000")},
+                new Object[]{LoanStatus.FUNDED, LoanType.VA, 1L, new BigDecimal("150000")});
+        List<Object[]> periodRows = Collections.singletonList(
+                new Object[]{1L, 0L, new BigDecimal("200000"), 2L, 65L, 2L});
+        List<Object[]> alertRows = Collections.singletonList(new Object[]{1L, 2L, 0L});
+        List<Object[]> conditionRows = Arrays.asList(
+                new Object[]{ConditionStatus.PENDING, ConditionType.INCOME_VERIFICATION, Priority.HIGH, 4L, 1L},
+                new Object[]{ConditionStatus.COMPLETED, ConditionType.INCOME_VERIFICATION, Priority.CRITICAL, 5L, 5L});
+        List<Object[]> documentRows = Collections.singletonList(new Object[]{10L, 3L});
+
+        when(loanRepository.summarizeLoansByStatusAndType()).thenReturn(loanRows);
+        when(dailyStatRepository.summarizeClosings(any(), any())).thenReturn(periodRows);
+        when(loanRepository.summarizeLoanAlerts(any(), any())).thenReturn(alertRows);
+        when(conditionRepository.summarizeConditions(any())).thenReturn(conditionRows);
+        when(documentRepository.summarizeActiveDocuments(any())).thenReturn(documentRows);
+
+        // Act
+        DashboardStatsResponse result = dashboardService.getDashboardStats();
+
+        // Assert
+        assertThat(result.getTotalLoans()).isEqualTo(8L);
+        // FUNDED is terminal, so it is neither active nor part of the pipeline value
+        assertThat(result.getActiveLoans()).isEqualTo(3L);
+        assertThat(result.getClosedLoans()).isEqualTo(2L);
+        assertThat(result.getDeniedLoans()).isEqualTo(1L);
+        assertThat(result.getPipelineValue()).isEqualByComparingTo("900000");
+        assertThat(result.getTotalClosedAmount()).isEqualByComparingTo("400000");
+        assertThat(result.getClosingRatePercent()).isEqualTo(50.0);
+        assertThat(result.getApplicationStarted()).isEqualTo(3L);
+        assertThat(result.getLoansByStatus()).containsEntry("CLOSED", 2L).containsEntry("CLOSING", 0L);
+        assertThat(result.getLoansByType()).containsEntry("CONVENTIONAL", 4L);
+        assertThat(result.getLoansClosedThisMonth()).isEqualTo(1L);
+        assertThat(result.getAvgDaysToClose()).isEqualTo(32.5);
+        assertThat(result.getLoansClosingSoon()).isEqualTo(2L);
+        assertThat(result.getTotalActiveConditions()).isEqualTo(4L);
+        assertThat(result.getOverdueConditions()).isEqualTo(1L);
+        assertThat(result.getHighPriorityConditions()).isEqualTo(4L);
+        assertThat(result.getConditionsByStatus()).containsEntry("COMPLETED", 5L);
+        assertThat(result.getTotalDocuments()).isEqualTo(10L);
+        assertThat(result.getDocumentsUploadedToday()).isEqualTo(3L);
+        assertThat(LoanStatus.values()).allMatch(status -> status.isActive() != status.isTerminal());
+    }
+
+    @Test
+    void getDashboardStats_ShouldReturnZeros_WhenTablesAreEmpty() {
+        // Arrange
+        when(loanRepository.summarizeLoansByStatusAndType()).thenReturn(Collections.emptyList());
+        when(dailyStatRepository.summarizeClosings(any(), any())).thenReturn(Collections.emptyList());
+        when(loanRepository.summarizeLoanAlerts(any(), any())).thenReturn(Collections.emptyList());
+        when(conditionRepository.summarizeConditions(any())).thenReturn(Collections.emptyList());
+        when(documentRepository.summarizeActiveDocuments(any())).thenReturn(Collections.emptyList());
+
+        // Act
+        DashboardStatsResponse result = dashboardService.getDashboardStats();
+
+        // Assert
+        assertThat(result.getTotalLoans()).isZero();
+        assertThat(result.getAvgLoanAmount()).isEqualByComparingTo("0");
+        assertThat(result.getClosingRatePercent()).isZero();
+        assertThat(result.getOverdueLoans()).isZero();
+        assertThat(result.getTotalDocuments()).isZero();
+    }
+
+    @Test
+    void getDashboardStats_ShouldUseTeamPartitions_WhenScopeIsTeam() {
+        // Arrange
+        User lead = staff(10L, null);
+        when(userService.getUserEntityByEmail("lead@example.com")).thenReturn(lead);
+        when(userRepository.findByManagerIdAndActiveTrue(10L)).thenReturn(Arrays.asList(staff(11L, 10L), staff(12L, 10L)));
+        when(pipelineCounterService.isInitialized()).thenReturn(true);
+        when(pipelineCounterService.summarizeByStatusAndType(Set.of(10L, 11L, 12L))).thenReturn(Collections.singletonList(
+                new Object[]{LoanStatus.PRE_APPROVED, LoanType.CONVENTIONAL, 4L, new BigDecimal("1000000")}));
+
+        // Act
+        DashboardStatsResponse result = dashboardService.getDashboardStats(DashboardScope.TEAM, "lead@example.com");
+
+        // Assert
+        assertThat(result.getTotalLoans()).isEqualTo(4L);
+        assertThat(result.getPreApproved()).isEqualTo(4L);
+        assertThat(result.getPipelineValue()).isEqualByComparingTo("1000000");
+        assertThat(result.getTotalDocuments()).isNull();
+        verifyNoInteractions(loanRepository, conditionRepository, documentRepository);
+    }
+
+    private static User staff(Long id, Long managerId) {
+        User user = new User();
+        user.setId(id);
+        user.setManagerId(managerId);
+        return user;
+    }
+}
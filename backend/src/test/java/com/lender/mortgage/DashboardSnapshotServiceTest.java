@@ -0,0 +1,80 @@
+package com.lender.mortgage.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lender.mortgage.dto.response.ApiResponse;
+import com.lender.mortgage.dto.response.DashboardStatsResponse;
+import com.lender.mortgage.entity.enums.DashboardScope;
+import com.lender.mortgage.service.impl.DashboardSnapshotServiceImpl;
+import com.lender.mortgage.utils.VersionedSnapshotCache.Snapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardSnapshotServiceTest {
+
+    private final DashboardService dashboardService = mock(DashboardService.class);
+    private final DashboardSnapshotServiceImpl snapshotService = new DashboardSnapshotServiceImpl();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(snapshotService, "dashboardService", dashboardService);
+        ReflectionTestUtils.setField(snapshotService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(snapshotService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(snapshotService, "maxAgeMs", 60000L);
+        snapshotService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotService.shutdown();
+    }
+
+    @Test
+    void eTag_ShouldStayTheSame_WhenARecomputeFindsUnchangedStats() throws Exception {
+        // Arrange
+        when(dashboardService.getDashboardStats(DashboardScope.ALL, null)).thenAnswer(invocation -> stats(10L));
+        Snapshot<ApiResponse<DashboardStatsResponse>> first =
+                snapshotService.getDashboardStats(DashboardScope.ALL, null);
+        Thread.sleep(5);
+
+        // Act
+        snapshotService.invalidate();
+        Snapshot<ApiResponse<DashboardStatsResponse>> recomputed = awaitRecompute(first.getVersion());
+
+        // Assert
+        assertThat(recomputed.getValue().getTimestamp()).isNotEqualTo(first.getValue().getTimestamp());
+        assertThat(recomputed.getETag()).isEqualTo(first.getETag());
+        assertThat(recomputed.matches(first.getETag())).isTrue();
+
+        when(dashboardService.getDashboardStats(DashboardScope.ALL, null)).thenAnswer(invocation -> stats(11L));
+        snapshotService.invalidate();
+        assertThat(awaitRecompute(recomputed.getVersion()).getETag()).isNotEqualTo(first.getETag());
+    }
+
+    private Snapshot<ApiResponse<DashboardStatsResponse>> awaitRecompute(long previousVersion) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Snapshot<ApiResponse<DashboardStatsResponse>> current =
+                    snapshotService.getDashboardStats(DashboardScope.ALL, null);
+            if (current.getVersion() > previousVersion) {
+                return current;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Dashboard snapshot was not recomputed");
+    }
+
+    private DashboardStatsResponse stats(Long totalLoans) {
+        DashboardStatsResponse stats = new DashboardStatsResponse();
+        stats.setTotalLoans(totalLoans);
+        stats.setLoansByStatus(Map.of("SUBMITTED", totalLoans, "CLOSED", 2L, "DENIED", 1L));
+        return stats;
+    }
+}
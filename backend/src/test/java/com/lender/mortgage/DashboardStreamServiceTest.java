@@ -0,0 +1,190 @@
+package com.lender.mortgage.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lender.mortgage.dto.response.DashboardStatsResponse;
+import com.lender.mortgage.service.impl.DashboardStreamServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardStreamServiceTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private DashboardStreamServiceImpl dashboardStreamService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dashboardStreamService, "heartbeatMs", 60000L);
+        ReflectionTestUtils.setField(dashboardStreamService, "sendThreads", 2);
+        ReflectionTestUtils.setField(dashboardStreamService, "maxPendingFrames", 8);
+        dashboardStreamService.init();
+        when(dashboardService.getDashboardStats()).thenReturn(stats(10L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardStreamService.shutdown();
+    }
+
+    @Test
+    void subscribe_ShouldRegisterSubscriber_AndBuildSnapshotOnce() {
+        // Act
+        SseEmitter first = dashboardStreamService.subscribe();
+        SseEmitter second = dashboardStreamService.subscribe();
+
+        // Assert
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(dashboardStreamService.getSubscriberCount()).isEqualTo(2);
+        verify(dashboardService, times(1)).getDashboardStats();
+    }
+
+    @Test
+    void publishChanges_ShouldNotRecompute_WhenNothingChanged() {
+        // Arrange
+        dashboardStreamService.subscribe();
+
+        // Act
+        dashboardStreamService.publishChanges();
+        dashboardStreamService.publishChanges();
+
+        // Assert
+        verify(dashboardService, times(1)).getDashboardStats();
+    }
+
+    @Test
+    void publishChanges_ShouldCoalesceBurstOfWrites_IntoOneRecompute() {
+        // Arrange
+        dashboardStreamService.subscribe();
+        when(dashboardService.getDashboardStats()).thenReturn(stats(11L));
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            dashboardStreamService.onDashboardDataChanged();
+        }
+        dashboardStreamService.publishChanges();
+
+        // Assert
+        verify(dashboardService, times(2)).getDashboardStats();
+        assertThat(dashboardStreamService.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publishChanges_ShouldNotWaitForASlowClient() throws Exception {
+        // Arrange
+        BlockingEmitter slowClient = new BlockingEmitter(1);
+        BlockingEmitter fastClient = new BlockingEmitter(Integer.MAX_VALUE);
+        register(slowClient);
+        register(fastClient);
+        when(dashboardService.getDashboardStats()).thenReturn(stats(11L));
+        dashboardStreamService.onDashboardDataChanged();
+
+        // Act
+        CompletableFuture.runAsync(dashboardStreamService::publishChanges).get(5, TimeUnit.SECONDS);
+        SseEmitter joined = CompletableFuture.supplyAsync(dashboardStreamService::subscribe)
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(slowClient.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fastClient.awaitSends(2)).isTrue();
+        assertThat(joined).isNotNull();
+        assertThat(dashboardStreamService.getSubscriberCount()).isEqualTo(3);
+        slowClient.release.countDown();
+    }
+
+    @Test
+    void publishChanges_ShouldDisconnectAClient_ThatFallsBehind() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(dashboardStreamService, "maxPendingFrames", 1);
+        BlockingEmitter slowClient = new BlockingEmitter(1);
+        BlockingEmitter fastClient = new BlockingEmitter(Integer.MAX_VALUE);
+        register(slowClient);
+        register(fastClient);
+        assertThat(slowClient.awaitSends(1) && fastClient.awaitSends(1)).isTrue();
+
+        // Act
+        publishStats(11L);
+        assertThat(slowClient.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fastClient.awaitSends(2)).isTrue();
+        publishStats(12L);
+        assertThat(fastClient.awaitSends(3)).isTrue();
+        publishStats(13L);
+
+        // Assert
+        assertThat(dashboardStreamService.getSubscriberCount()).isEqualTo(1);
+        slowClient.release.countDown();
+    }
+
+    private void publishStats(Long totalLoans) {
+        when(dashboardService.getDashboardStats()).thenReturn(stats(totalLoans));
+        dashboardStreamService.onDashboardDataChanged();
+        dashboardStreamService.publishChanges();
+    }
+
+    private void register(SseEmitter emitter) {
+        ReflectionTestUtils.invokeMethod(dashboardStreamService, "register", emitter);
+    }
+
+    private DashboardStatsResponse stats(Long totalLoans) {
+        DashboardStatsResponse stats = new DashboardStatsResponse();
+        stats.setTotalLoans(totalLoans);
+        return stats;
+    }
+
+    /**
+     * Emitter whose sends after the first {@code freeSends} block until released
+     */
+    private static class BlockingEmitter extends SseEmitter {
+        private final int freeSends;
+        private final AtomicInteger sends = new AtomicInteger();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingEmitter(int freeSends) {
+            this.freeSends = freeSends;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (sends.incrementAndGet() > freeSends) {
+                blocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        boolean awaitSends(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sends.get() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return sends.get() >= count;
+        }
+    }
+}
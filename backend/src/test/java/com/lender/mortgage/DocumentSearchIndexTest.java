@@ -0,0 +1,182 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.DocumentResponse;
+import com.lender.mortgage.entity.Document;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.DocumentType;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.event.DocumentChangedEvent;
+import com.lender.mortgage.event.DocumentSnapshot;
+import com.lender.mortgage.repository.DocumentRepository;
+import com.lender.mortgage.service.impl.DocumentSearchIndexServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DocumentSearchIndexServiceImpl.class)
+class DocumentSearchIndexTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentSearchIndexServiceImpl searchIndex;
+
+    private User uploader;
+    private Loan firstLoan;
+    private Loan secondLoan;
+
+    @BeforeEach
+    void setUp() {
+        uploader = persistUser(entityManager, "processor@example.com", UserRole.PROCESSOR);
+        firstLoan = persistLoan(entityManager, "LN0001", uploader);
+        secondLoan = persistLoan(entityManager, "LN0002", uploader);
+    }
+
+    @Test
+    void search_ShouldRankWordMatches_AndHonourLoanAndTypeScope() {
+        // Arrange
+        Document w2 = persistDocument(firstLoan, DocumentType.INCOME_DOCS, "smith_w2_2023.pdf", null);
+        Document other = persistDocument(firstLoan, DocumentType.BANK_STATEMENTS, "bank-statement.pdf", "W2 2023 copy");
+        Document elsewhere = persistDocument(secondLoan, DocumentType.INCOME_DOCS, "jones_w2_2023.pdf", null);
+        entityManager.flush();
+        searchIndex.rebuild();
+
+        // Act
+        Page<Long> all = searchIndex.search("w2_2023", null, null, PageRequest.of(0, 10));
+        Page<Long> byLoan = searchIndex.search("2023", firstLoan.getId(), null, PageRequest.of(0, 10));
+        Page<Long> byLoanAndType = searchIndex.search("2023", firstLoan.getId(), DocumentType.INCOME_DOCS,
+                PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(all.getContent()).containsExactlyInAnyOrder(w2.getId(), other.getId(), elsewhere.getId());
+        assertThat(byLoan.getContent()).containsExactlyInAnyOrder(w2.getId(), other.getId());
+        assertThat(byLoanAndType.getContent()).containsExactly(w2.getId());
+        assertThat(byLoanAndType.getTotalElements()).isEqualTo(1);
+        assertThat(searchIndex.search("w2", null, null, PageRequest.of(0, 10))).isNull();
+    }
+
+    @Test
+    void search_ShouldTokenizeDescriptions_LikeFileNames() {
+        // Arrange
+        Document described = persistDocument(firstLoan, DocumentType.INCOME_DOCS, "scan.pdf",
+                "Borrower w2_2023 signed copy");
+        entityManager.flush();
+        searchIndex.rebuild();
+
+        // Act
+        Page<Long> indexed = searchIndex.search("w2_2023", null, null, PageRequest.of(0, 10));
+        Page<DocumentResponse> fallback = documentRepository.searchResponses("w2_2023", null, null,
+                PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(indexed.getContent()).containsExactly(described.getId());
+        assertThat(fallback.getContent()).extracting(DocumentResponse::getId).containsExactly(described.getId());
+    }
+
+    @Test
+    void committedChanges_ShouldKeepTheIndexCurrent() {
+        // Arrange
+        Document document = persistDocument(firstLoan, DocumentType.INCOME_DOCS, "appraisal.pdf", null);
+        entityManager.flush();
+        searchIndex.rebuild();
+        DocumentSnapshot before = new DocumentSnapshot(document);
+
+        // Act
+        document.setDescription("Final appraisal report");
+        DocumentSnapshot described = new DocumentSnapshot(document);
+        searchIndex.onDocumentChanged(new DocumentChangedEvent(DocumentChangedEvent.ChangeType.UPDATED,
+                before, described, "processor@example.com"));
+        List<Long> afterUpdate = searchIndex.search("report", null, null, PageRequest.of(0, 10)).getContent();
+        document.setActive(false);
+        searchIndex.onDocumentChanged(new DocumentChangedEvent(DocumentChangedEvent.ChangeType.DELETED,
+                described, new DocumentSnapshot(document), "processor@example.com"));
+
+        // Assert
+        assertThat(afterUpdate).containsExactly(document.getId());
+        assertThat(searchIndex.search("appraisal", null, null, PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    void rebuild_ShouldWaitForAnOverlappingRebuild() throws Exception {
+        // Arrange
+        DocumentRepository repository = mock(DocumentRepository.class);
+        DocumentSearchIndexServiceImpl overlapping = new DocumentSearchIndexServiceImpl();
+        ReflectionTestUtils.setField(overlapping, "documentRepository", repository);
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.streamSearchFields())
+                .thenAnswer(invocation -> {
+                    scanning.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Stream.<Object[]>of(new Object[]{1L, 10L, DocumentType.INCOME_DOCS, "w2.pdf", null});
+                })
+                .thenAnswer(invocation -> Stream.<Object[]>of(
+                        new Object[]{2L, 10L, DocumentType.INCOME_DOCS, "paystub.pdf", null}));
+
+        // Act
+        CompletableFuture<Void> first = CompletableFuture.runAsync(overlapping::rebuild);
+        assertThat(scanning.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(overlapping::rebuild);
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(overlapping.search("paystub", null, null, PageRequest.of(0, 10)).getContent())
+                .containsExactly(2L);
+    }
+
+    @Test
+    void projections_ShouldMatchEntityMapping() {
+        // Arrange
+        Document document = persistDocument(firstLoan, DocumentType.INCOME_DOCS, "paystub.PDF", "June");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<DocumentResponse> hydrated = documentRepository.findResponsesByIdIn(List.of(document.getId()));
+        Page<DocumentResponse> fallback = documentRepository.searchResponses("jun", firstLoan.getId(), null,
+                PageRequest.of(0, 10));
+
+        // Assert
+        DocumentResponse expected = new DocumentResponse(entityManager.find(Document.class, document.getId()));
+        assertThat(hydrated).singleElement().usingRecursiveComparison().isEqualTo(expected);
+        assertThat(fallback.getContent()).singleElement().usingRecursiveComparison().isEqualTo(expected);
+        assertThat(documentRepository.searchResponses("jun", secondLoan.getId(), null, PageRequest.of(0, 10))
+                .getTotalElements()).isZero();
+    }
+
+    private Document persistDocument(Loan loan, DocumentType type, String originalFileName, String description) {
+        Document document = new Document(loan, type, "stored-" + originalFileName, originalFileName,
+                "/tmp/" + originalFileName, "application/pdf", 2048L, uploader);
+        document.setDescription(description);
+        document.setUploadedAt(LocalDateTime.now());
+        return entityManager.persist(document);
+    }
+}
@@ -0,0 +1,82 @@
+package com.lender.mortgage.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ExpiringCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_ShouldServeHitsUntilExpiry() {
+        // Arrange
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, 100, clock::get);
+
+        // Act
+        String first = cache.get("a@example.com", this::load);
+        clock.set(99);
+        String cached = cache.get("a@example.com", this::load);
+        clock.set(100);
+        String reloaded = cache.get("a@example.com", this::load);
+
+        // Assert
+        assertThat(first).isEqualTo("a@example.com#1");
+        assertThat(cached).isEqualTo("a@example.com#1");
+        assertThat(reloaded).isEqualTo("a@example.com#2");
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+        assertThat(cache.getMissCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void invalidate_ShouldWin_OverALoadThatReadTheOldState() {
+        // Arrange
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, 100, clock::get);
+
+        // Act
+        String stale = cache.get("a@example.com", key -> {
+            String value = load(key);
+            cache.invalidate(key);
+            return value;
+        });
+        String fresh = cache.get("a@example.com", this::load);
+
+        // Assert
+        assertThat(stale).isEqualTo("a@example.com#1");
+        assertThat(fresh).isEqualTo("a@example.com#2");
+        assertThat(cache.get("missing", key -> null)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldStayBounded_PreferringToDropExpiredEntries() {
+        // Arrange
+        ExpiringCache<Integer, String> cache = new ExpiringCache<>(10, 100, clock::get);
+        for (int i = 0; i < 5; i++) {
+            cache.get(i, String::valueOf);
+        }
+        clock.set(50);
+        for (int i = 5; i < 10; i++) {
+            cache.get(i, String::valueOf);
+        }
+
+        // Act
+        clock.set(120);
+        cache.get(10, String::valueOf);
+        for (int i = 11; i < 30; i++) {
+            cache.get(i, String::valueOf);
+        }
+
+        // Assert
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.getEvictionCount()).isPositive();
+    }
+
+    private String load(String key) {
+        return key + "#" + loads.incrementAndGet();
+    }
+}
@@ -0,0 +1,88 @@
+package com.lender.mortgage.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1_000L;
+    private static final long START = 1_000_000L;
+
+    private HierarchicalTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(TICK, new int[]{10, 10, 10}, START);
+    }
+
+    @Test
+    void advanceTo_ShouldFireDeadlinesOnEachLevel_InOrder() {
+        // Arrange
+        wheel.schedule("a", START + 5 * TICK, "level0");
+        wheel.schedule("b", START + 55 * TICK, "level1");
+        wheel.schedule("c", START + 555 * TICK, "level2");
+
+        // Act & Assert
+        assertThat(wheel.advanceTo(START + 4 * TICK)).isEmpty();
+        assertThat(wheel.advanceTo(START + 5 * TICK)).containsExactly("level0");
+        assertThat(wheel.advanceTo(START + 54 * TICK)).isEmpty();
+        assertThat(wheel.advanceTo(START + 55 * TICK)).containsExactly("level1");
+        assertThat(wheel.advanceTo(START + 554 * TICK)).isEmpty();
+        assertThat(wheel.advanceTo(START + 555 * TICK)).containsExactly("level2");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advanceTo_ShouldFireDeadlinesBeyondTopLevelSpan() {
+        // Arrange
+        wheel.schedule("far", START + 2_345 * TICK, "far");
+
+        // Act
+        List<String> early = wheel.advanceTo(START + 2_344 * TICK);
+        List<String> due = wheel.advanceTo(START + 2_345 * TICK);
+
+        // Assert
+        assertThat(early).isEmpty();
+        assertThat(due).containsExactly("far");
+    }
+
+    @Test
+    void schedule_ShouldRoundDeadlineUpToNextTick() {
+        // Arrange
+        wheel.schedule("a", START + 2 * TICK + 1, "rounded");
+
+        // Act & Assert
+        assertThat(wheel.advanceTo(START + 2 * TICK + 500)).isEmpty();
+        assertThat(wheel.advanceTo(START + 3 * TICK)).containsExactly("rounded");
+    }
+
+    @Test
+    void schedule_ShouldReturnFalse_WhenDeadlineAlreadyPassed() {
+        // Act
+        boolean scheduled = wheel.schedule("late", START - TICK, "late");
+
+        // Assert
+        assertThat(scheduled).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void schedule_ShouldReplaceExistingKey_AndCancelShouldRemoveIt() {
+        // Arrange
+        wheel.schedule("a", START + 5 * TICK, "first");
+        wheel.schedule("a", START + 8 * TICK, "second");
+        wheel.schedule("b", START + 6 * TICK, "cancelled");
+
+        // Act
+        boolean cancelled = wheel.cancel("b");
+        List<String> fired = wheel.advanceTo(START + 10 * TICK);
+
+        // Assert
+        assertThat(cancelled).isTrue();
+        assertThat(fired).containsExactly("second");
+    }
+}
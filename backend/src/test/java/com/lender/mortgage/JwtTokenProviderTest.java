@@ -0,0 +1,115 @@
+package com.lender.mortgage.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    @TempDir
+    Path dir;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = newProvider("a-test-secret-that-is-at-least-32-bytes-long", meterRegistry);
+    }
+
+    @Test
+    void verify_ShouldReturnClaims_AndServeRepeatsFromTheCache() {
+        // Arrange
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken("officer@example.com",
+                null, List.of(new SimpleGrantedAuthority("ROLE_LOAN_OFFICER"))));
+
+        // Act
+        Optional<VerifiedToken> first = tokenProvider.verify(token);
+        Optional<VerifiedToken> second = tokenProvider.verify(token);
+
+        // Assert
+        assertThat(first).isPresent();
+        assertThat(first.get().getSubject()).isEqualTo("officer@example.com");
+        assertThat(first.get().getRoles()).containsExactly("ROLE_LOAN_OFFICER");
+        assertThat(first.get().getTokenId()).isNotBlank();
+        assertThat(first.get().getExpiresAt()).isAfter(Instant.now());
+        assertThat(second).containsSame(first.get());
+        assertThat(meterRegistry.get("auth.token.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void verify_ShouldRejectForgedExpiredAndRevokedTokens() {
+        // Arrange
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("officer@example.com", null, List.of());
+        JwtTokenProvider otherIssuer = newProvider("another-secret-that-is-at-least-32-bytes-long",
+                new SimpleMeterRegistry());
+        String forged = otherIssuer.generateToken(authentication);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", -1000L);
+        String expired = tokenProvider.generateToken(authentication);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 60000L);
+        String revoked = tokenProvider.generateToken(authentication);
+        assertThat(tokenProvider.verify(revoked)).isPresent();
+
+        // Act
+        tokenProvider.invalidateToken(revoked);
+
+        // Assert
+        assertThat(tokenProvider.verify(forged)).isEmpty();
+        assertThat(tokenProvider.verify(expired)).isEmpty();
+        assertThat(tokenProvider.verify("not.a.token")).isEmpty();
+        assertThat(tokenProvider.verify(revoked)).isEmpty();
+        assertThat(tokenProvider.validateToken(revoked)).isFalse();
+    }
+
+    @Test
+    void refreshTokens_ShouldCarryTheRefreshType() {
+        // Arrange
+        String refreshToken = tokenProvider.generateRefreshToken(
+                new UsernamePasswordAuthenticationToken("officer@example.com", null));
+
+        // Act & Assert
+        assertThat(tokenProvider.validateRefreshToken(refreshToken)).isTrue();
+        assertThat(tokenProvider.getEmailFromRefreshToken(refreshToken)).isEqualTo("officer@example.com");
+        assertThat(tokenProvider.validateRefreshToken(tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken("officer@example.com", null, List.of())))).isFalse();
+    }
+
+    @Test
+    void init_ShouldRejectSecretsTooShortForHs256() {
+        // Act & Assert
+        assertThatThrownBy(() -> newProvider("mySecretKey", new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.jwt.secret");
+    }
+
+    private JwtTokenProvider newProvider(String secret, MeterRegistry registry) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 60000L);
+        ReflectionTestUtils.setField(provider, "refreshExpiration", 120000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", 100);
+        ReflectionTestUtils.setField(provider, "verifiedCacheTtlSeconds", 300L);
+        ReflectionTestUtils.setField(provider, "meterRegistry", registry);
+        TokenRevocationStore revocationStore = new TokenRevocationStore();
+        ReflectionTestUtils.setField(revocationStore, "storeFile", dir.resolve(secret + ".log").toString());
+        ReflectionTestUtils.setField(revocationStore, "expectedEntries", 100);
+        revocationStore.init();
+        ReflectionTestUtils.setField(provider, "revocationStore", revocationStore);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,106 @@
+package com.lender.mortgage.utils;
+
+import com.lender.mortgage.dto.response.CursorPageResponse;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.exception.BadRequestException;
+import com.lender.mortgage.repository.LoanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class KeysetCursorTest {
+
+    private static final String SCOPE = "loans";
+    private static final String SORT_KEY = "createdAt";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    private User officer;
+
+    @BeforeEach
+    void setUp() {
+        officer = persistUser(entityManager, "officer@example.com", UserRole.LOAN_OFFICER);
+    }
+
+    @Test
+    void seek_ShouldVisitEveryLoanOnce_WithTiedSortKeys_AndConcurrentInserts() {
+        // Arrange
+        for (int i = 1; i <= 7; i++) {
+            persistLoan(entityManager, "LN000" + i, officer);
+        }
+        entityManager.flush();
+        // Identical timestamps force the id tie-breaker to carry the ordering
+        entityManager.getEntityManager().createQuery("UPDATE Loan l SET l.createdAt = :at")
+                .setParameter("at", LocalDateTime.of(2024, 1, 15, 9, 30))
+                .executeUpdate();
+        entityManager.clear();
+        List<Long> expected = loanRepository.findAll().stream()
+                .map(Loan::getId)
+                .sorted((a, b) -> Long.compare(b, a))
+                .toList();
+
+        // Act
+        List<Long> visited = new ArrayList<>();
+        CursorPageResponse<Long> page = fetch(null, 3);
+        visited.addAll(page.getContent());
+        // A loan created between pages sorts before the cursor and must not shift later pages
+        persistLoan(entityManager, "LN0100", officer);
+        entityManager.flush();
+        while (page.isHasNext()) {
+            page = fetch(page.getNextCursor(), 3);
+            visited.addAll(page.getContent());
+        }
+
+        // Assert
+        assertThat(visited).containsExactlyElementsOf(expected);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void decode_ShouldRejectTamperedOrForeignCursors() {
+        // Arrange
+        persistLoan(entityManager, "LN0001", officer);
+        persistLoan(entityManager, "LN0002", officer);
+        entityManager.flush();
+        String cursor = fetch(null, 1).getNextCursor();
+
+        // Act & Assert
+        assertThat(KeysetCursor.decode(cursor, SCOPE, SORT_KEY)).isNotNull();
+        assertThat(KeysetCursor.decode("", SCOPE, SORT_KEY)).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, SCOPE, "uploadedAt"))
+                .isInstanceOf(BadRequestException.class);
+        // Conditions are also ordered by createdAt, but a loans cursor is not a position in them
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, "conditions", SORT_KEY))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cursor does not belong to this list");
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor", SCOPE, SORT_KEY))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private CursorPageResponse<Long> fetch(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor, SCOPE, SORT_KEY);
+        Specification<Loan> all = Specification.where(null);
+        List<Loan> rows = loanRepository.findBy(all.and(KeysetCursor.after(position)),
+                query -> query.sortBy(KeysetCursor.sort(SORT_KEY)).limit(size + 1).all());
+        return KeysetCursor.page(rows, size, SCOPE, SORT_KEY, Loan::getCreatedAt, Loan::getId, Loan::getId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.service.impl.LastLoginServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(LastLoginServiceImpl.class)
+class LastLoginServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LastLoginService lastLoginService;
+
+    @Test
+    void flush_ShouldWriteOneRowPerUser_WithTheLatestLogin() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        User frequent = persistUser("frequent@example.com", null);
+        User once = persistUser("once@example.com", null);
+        User dormant = persistUser("dormant@example.com", now.minusDays(90));
+        entityManager.flush();
+
+        lastLoginService.recordLogin(frequent.getId(), now.minusMinutes(2));
+        lastLoginService.recordLogin(frequent.getId(), now);
+        lastLoginService.recordLogin(frequent.getId(), now.minusMinutes(1));
+        lastLoginService.recordLogin(once.getId(), now.minusMinutes(5));
+
+        // Act
+        int written = lastLoginService.flush();
+        entityManager.clear();
+
+        // Assert
+        assertThat(written).isEqualTo(2);
+        assertThat(lastLoginService.getPendingCount()).isZero();
+        assertThat(userRepository.findById(frequent.getId()).orElseThrow().getLastLoginAt()).isEqualTo(now);
+        assertThat(userRepository.findById(once.getId()).orElseThrow().getLastLoginAt())
+                .isEqualTo(now.minusMinutes(5));
+        assertThat(userRepository.findUsersNotLoggedInSince(now.minusDays(30)))
+                .extracting(User::getEmail).containsExactly("dormant@example.com");
+    }
+
+    @Test
+    void flush_ShouldNeverMoveALoginTimeBackwards() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        User user = persistUser("officer@example.com", now);
+        entityManager.flush();
+        lastLoginService.recordLogin(user.getId(), now.minusHours(1));
+
+        // Act
+        lastLoginService.flush();
+        entityManager.clear();
+
+        // Assert
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getLastLoginAt()).isEqualTo(now);
+        assertThat(lastLoginService.flush()).isZero();
+    }
+
+    private User persistUser(String email, LocalDateTime lastLoginAt) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setRole(UserRole.LOAN_OFFICER);
+        user.setLastLoginAt(lastLoginAt);
+        return entityManager.persist(user);
+    }
+}
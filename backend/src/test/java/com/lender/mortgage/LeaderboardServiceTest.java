@@ -0,0 +1,124 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.UserStatsResponse;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.LoanCondition;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.ConditionStatus;
+import com.lender.mortgage.entity.enums.ConditionType;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.Priority;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.service.impl.LeaderboardServiceImpl;
+import com.lender.mortgage.utils.TopK;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(LeaderboardServiceImpl.class)
+class LeaderboardServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    private User topOfficer;
+    private User otherOfficer;
+    private User processor;
+
+    @BeforeEach
+    void setUp() {
+        topOfficer = persistUser(entityManager, "top.officer@example.com", UserRole.LOAN_OFFICER);
+        otherOfficer = persistUser(entityManager, "other.officer@example.com", UserRole.LOAN_OFFICER);
+        processor = persistUser(entityManager, "processor@example.com", UserRole.PROCESSOR);
+        persistUser(entityManager, "idle.underwriter@example.com", UserRole.UNDERWRITER);
+    }
+
+    @Test
+    void refresh_ShouldFillStatsForAllStaff_AndRankTopPerformers() {
+        // Arrange
+        LocalDateTime applied = LocalDateTime.now().minusDays(40);
+        Loan closed = persistLoan("LN0001", topOfficer, LoanStatus.CLOSED, "400000.00", applied);
+        closed.setClosingDate(applied.plusDays(30));
+        persistLoan("LN0002", topOfficer, LoanStatus.DENIED, "100000.00", applied);
+        persistLoan("LN0003", otherOfficer, LoanStatus.PRE_UNDERWRITING, "250000.00", applied);
+        persistCondition(closed, processor, ConditionStatus.PENDING, LocalDateTime.now().minusDays(1));
+        persistCondition(closed, processor, ConditionStatus.COMPLETED, null);
+        entityManager.flush();
+
+        // Act
+        leaderboardService.refresh();
+
+        // Assert
+        List<UserStatsResponse> officers = leaderboardService.getTopPerformers(UserRole.LOAN_OFFICER);
+        assertThat(officers).extracting(stats -> stats.getUser().getEmail())
+                .containsExactly("top.officer@example.com", "other.officer@example.com");
+
+        UserStatsResponse top = officers.get(0);
+        assertThat(top.getTotalLoans()).isEqualTo(2L);
+        assertThat(top.getClosedLoans()).isEqualTo(1L);
+        assertThat(top.getClosedLoanAmount()).isEqualByComparingTo("400000.00");
+        assertThat(top.getTotalLoanAmount()).isEqualByComparingTo("500000.00");
+        assertThat(top.getAvgDaysToClose()).isEqualTo(30.0);
+        assertThat(top.getClosingRatePercent()).isEqualTo(50.0);
+
+        UserStatsResponse processorStats = leaderboardService.getUserStats(processor.getId());
+        assertThat(processorStats.getTotalLoans()).isEqualTo(3L);
+        assertThat(processorStats.getOpenConditions()).isEqualTo(1L);
+        assertThat(processorStats.getOverdueConditions()).isEqualTo(1L);
+        assertThat(processorStats.getResolvedConditions()).isEqualTo(1L);
+
+        assertThat(leaderboardService.getTopPerformers(UserRole.UNDERWRITER)).singleElement()
+                .satisfies(stats -> assertThat(stats.getTotalLoans()).isZero());
+    }
+
+    @Test
+    void topK_ShouldKeepOnlyTheGreatestElements_BestFirst() {
+        // Act
+        List<Integer> top = TopK.select(List.of(5, 1, 9, 3, 7, 9, 2), 3, Integer::compare);
+
+        // Assert
+        assertThat(top).containsExactly(9, 9, 7);
+        assertThat(TopK.select(List.of(1, 2), 5, Integer::compare)).containsExactly(2, 1);
+    }
+
+    private Loan persistLoan(String loanNumber, User officer, LoanStatus status, String amount,
+                             LocalDateTime applicationDate) {
+        Loan loan = newLoan(loanNumber, officer);
+        loan.setStatus(status);
+        loan.setLoanAmount(new BigDecimal(amount));
+        loan.setProcessor(processor);
+        loan.setApplicationDate(applicationDate);
+        return entityManager.persist(loan);
+    }
+
+    private void persistCondition(Loan loan, User assignee, ConditionStatus status, LocalDateTime dueDate) {
+        LoanCondition condition = new LoanCondition();
+        condition.setLoan(loan);
+        condition.setType(ConditionType.INCOME_VERIFICATION);
+        condition.setTitle("Verify income");
+        condition.setStatus(status);
+        condition.setPriority(Priority.MEDIUM);
+        condition.setAssignedTo(assignee);
+        condition.setDueDate(dueDate);
+        condition.setCreatedAt(LocalDateTime.now());
+        condition.setUpdatedAt(LocalDateTime.now());
+        condition.setCreatedBy("test@example.com");
+        entityManager.persist(condition);
+    }
+}
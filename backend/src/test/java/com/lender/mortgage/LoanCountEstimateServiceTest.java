@@ -0,0 +1,85 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.service.impl.LoanCountEstimateServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoanCountEstimateServiceTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Mock
+    private PipelineCounterService pipelineCounterService;
+
+    @InjectMocks
+    private LoanCountEstimateServiceImpl estimateService;
+
+    @Test
+    void estimate_ShouldAnswerStatusAndTypeFilters_FromPipelineCounters() {
+        // Arrange
+        when(pipelineCounterService.isInitialized()).thenReturn(true);
+        when(pipelineCounterService.getCount(LoanStatus.SUBMITTED)).thenReturn(7L);
+        when(pipelineCounterService.getCount(LoanStatus.UNDER_REVIEW)).thenReturn(5L);
+        when(pipelineCounterService.summarizeByStatusAndType()).thenReturn(List.of(
+                new Object[] {LoanStatus.SUBMITTED, LoanType.FHA, 4L, new BigDecimal("1")},
+                new Object[] {LoanStatus.SUBMITTED, LoanType.CONVENTIONAL, 3L, new BigDecimal("1")},
+                new Object[] {LoanStatus.CLOSED, LoanType.FHA, 9L, new BigDecimal("1")}));
+
+        LoanFilterRequest byStatus = new LoanFilterRequest();
+        byStatus.setStatuses(List.of(LoanStatus.SUBMITTED, LoanStatus.UNDER_REVIEW, LoanStatus.SUBMITTED));
+        LoanFilterRequest byStatusAndType = new LoanFilterRequest();
+        byStatusAndType.setStatuses(List.of(LoanStatus.SUBMITTED));
+        byStatusAndType.setTypes(List.of(LoanType.FHA));
+        LoanFilterRequest byOfficer = new LoanFilterRequest();
+        byOfficer.setStatuses(List.of(LoanStatus.SUBMITTED));
+        byOfficer.setLoanOfficerId(1L);
+
+        // Act & Assert
+        assertThat(estimateService.estimate(byStatus)).isEqualTo(12L);
+        assertThat(estimateService.estimate(byStatusAndType)).isEqualTo(4L);
+        assertThat(estimateService.estimate(byOfficer)).isNull();
+    }
+
+    @Test
+    void estimate_ShouldProrateCreationHistogram_AcrossPartialDays() {
+        // Arrange
+        when(loanRepository.countCreatedByDay()).thenReturn(List.of(
+                new Object[] {2024, 6, 1, 100L},
+                new Object[] {2024, 6, 2, 40L},
+                new Object[] {2024, 6, 3, 80L}));
+        estimateService.refresh();
+
+        LoanFilterRequest range = new LoanFilterRequest();
+        // Second half of June 1st through the first quarter of June 3rd
+        range.setStartDate(LocalDateTime.of(2024, 6, 1, 12, 0));
+        range.setEndDate(LocalDateTime.of(2024, 6, 3, 5, 59, 59));
+        LoanFilterRequest openEnded = new LoanFilterRequest();
+        openEnded.setStartDate(LocalDate.of(2024, 6, 2).atStartOfDay());
+
+        // Act
+        Long estimate = estimateService.estimate(range);
+        estimateService.onLoanChanged(new LoanChangedEvent(LoanChangedEvent.ChangeType.CREATED, null, null, "a@b.c"));
+
+        // Assert
+        assertThat(estimate).isEqualTo(50L + 40L + 20L);
+        assertThat(estimateService.estimate(openEnded)).isEqualTo(40L + 80L + 1L);
+    }
+}
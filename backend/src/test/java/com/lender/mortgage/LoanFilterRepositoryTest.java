@@ -0,0 +1,99 @@
+package com.lender.mortgage.repository;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.CreditScoreBand;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class LoanFilterRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    private User officer;
+    private User otherOfficer;
+
+    @BeforeEach
+    void setUp() {
+        officer = persistUser(entityManager, "officer@example.com", UserRole.LOAN_OFFICER);
+        otherOfficer = persistUser(entityManager, "other.officer@example.com", UserRole.LOAN_OFFICER);
+    }
+
+    @Test
+    void filter_ShouldApplyEveryCriterion_InOneQuery() {
+        // Arrange
+        persistLoan("LN0001", officer, LoanStatus.SUBMITTED, "300000.00", "TX", 720);
+        persistLoan("LN0002", officer, LoanStatus.SUBMITTED, "900000.00", "TX", 720);
+        persistLoan("LN0003", officer, LoanStatus.CLOSED, "300000.00", "TX", 720);
+        persistLoan("LN0004", otherOfficer, LoanStatus.SUBMITTED, "300000.00", "TX", 720);
+        persistLoan("LN0005", officer, LoanStatus.SUBMITTED, "300000.00", "CA", 720);
+        persistLoan("LN0006", officer, LoanStatus.SUBMITTED, "300000.00", "TX", 610);
+        persistLoan("LN0007", officer, LoanStatus.SUBMITTED, "250000.00", "TX", 810);
+        entityManager.flush();
+
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setStatuses(List.of(LoanStatus.SUBMITTED, LoanStatus.UNDER_REVIEW));
+        filter.setMinAmount(new BigDecimal("200000"));
+        filter.setMaxAmount(new BigDecimal("500000"));
+        filter.setLoanOfficerId(officer.getId());
+        filter.setState("tx");
+        filter.setCreditBands(List.of(CreditScoreBand.GOOD, CreditScoreBand.EXCEPTIONAL, CreditScoreBand.VERY_GOOD));
+
+        // Act
+        Page<Loan> result = loanRepository.filter(filter, PageRequest.of(0, 1, Sort.by("loanNumber")));
+
+        // Assert
+        assertThat(result.getContent()).extracting(Loan::getLoanNumber).containsExactly("LN0001");
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(loanRepository.filter(filter, PageRequest.of(1, 1, Sort.by("loanNumber"))).getContent())
+                .extracting(Loan::getLoanNumber).containsExactly("LN0007");
+    }
+
+    @Test
+    void filter_ShouldRejectInvertedRanges_AndUnsortableProperties() {
+        // Arrange
+        LoanFilterRequest inverted = new LoanFilterRequest();
+        inverted.setMinAmount(new BigDecimal("500000"));
+        inverted.setMaxAmount(new BigDecimal("100000"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> loanRepository.filter(inverted, PageRequest.of(0, 20)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> loanRepository.filter(new LoanFilterRequest(),
+                PageRequest.of(0, 20, Sort.by("loanOfficer"))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private void persistLoan(String loanNumber, User loanOfficer, LoanStatus status, String amount,
+                             String state, int creditScore) {
+        Loan loan = newLoan(loanNumber, loanOfficer);
+        loan.setStatus(status);
+        loan.setLoanAmount(new BigDecimal(amount));
+        loan.setPropertyState(state);
+        loan.setCreditScore(creditScore);
+        entityManager.persist(loan);
+    }
+}
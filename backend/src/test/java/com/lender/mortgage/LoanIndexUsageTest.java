@@ -0,0 +1,116 @@
+package com.lender.mortgage.repository;
+
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Matcher;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs each LoanRepository query, captures the SQL Hibernate actually sent, and asks
+ * H2 to EXPLAIN it with the same values bound as literals.
+ */
+@DataJpaTest(properties = SqlCapture.PROPERTY)
+@ActiveProfiles("test")
+class LoanIndexUsageTest {
+
+    private static final String NOW = "TIMESTAMP '2024-06-01 12:00:00'";
+    private static final String SOON = "TIMESTAMP '2024-06-08 12:00:00'";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User staff;
+
+    @BeforeEach
+    void setUp() {
+        staff = persistUser(entityManager, "staff@example.com", UserRole.LOAN_OFFICER);
+        entityManager.flush();
+    }
+
+    @Test
+    void statusQueries_ShouldSeekOnStatusClosingIndex() {
+        // Act & Assert
+        assertThat(plan(() -> loanRepository.findByStatus(LoanStatus.SUBMITTED, PageRequest.of(0, 20)),
+                "'SUBMITTED'", "0", "20")).contains("IDX_LOAN_STATUS_CLOSING");
+        assertThat(plan(() -> loanRepository.countByStatus(LoanStatus.SUBMITTED), "'SUBMITTED'"))
+                .contains("IDX_LOAN_STATUS_CLOSING");
+        assertThat(plan(() -> loanRepository.findLoansReadyToClearToClose()))
+                .contains("IDX_LOAN_STATUS_CLOSING");
+    }
+
+    @Test
+    void deadlineQueries_ShouldRangeScanClosingStatusIndex() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+        // Act & Assert
+        assertThat(plan(() -> loanRepository.findOverdueLoans(now), NOW))
+                .contains("IDX_LOAN_CLOSING_STATUS");
+        assertThat(plan(() -> loanRepository.findLoansClosingSoon(now, now.plusDays(7)), NOW, SOON))
+                .contains("IDX_LOAN_CLOSING_STATUS");
+    }
+
+    @Test
+    void staffBorrowerAndDateQueries_ShouldUseTheirIndexes() {
+        // Arrange
+        String staffId = String.valueOf(staff.getId());
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+        // Act & Assert
+        // H2 also indexes every foreign key on its own and may seek on that instead of the composite
+        assertThat(plan(() -> loanRepository.findByLoanOfficer(staff, PageRequest.of(0, 20)), staffId, "0", "20"))
+                .containsPattern(seekOn("LOAN_OFFICER_ID"));
+        assertThat(plan(() -> loanRepository.findByProcessor(staff, PageRequest.of(0, 20)), staffId, "0", "20"))
+                .containsPattern(seekOn("PROCESSOR_ID"));
+        assertThat(plan(() -> loanRepository.findByUnderwriter(staff, PageRequest.of(0, 20)), staffId, "0", "20"))
+                .containsPattern(seekOn("UNDERWRITER_ID"));
+        assertThat(plan(() -> loanRepository.findByBorrowerEmail("jane@example.com"), "'jane@example.com'"))
+                .contains("IDX_LOAN_BORROWER_EMAIL");
+        assertThat(plan(() -> loanRepository.findByCreatedAtBetween(now, now.plusDays(7), PageRequest.of(0, 20)),
+                NOW, SOON, "0", "20")).contains("IDX_LOAN_CREATED");
+    }
+
+    /**
+     * EXPLAIN output for the first statement the call sends, with its parameters
+     * replaced in order by the given SQL literals.
+     */
+    private String plan(Runnable call, String... literals) {
+        SqlCapture.STATEMENTS.clear();
+        call.run();
+        assertThat(SqlCapture.STATEMENTS).isNotEmpty();
+        String sql = SqlCapture.STATEMENTS.get(0);
+        for (String literal : literals) {
+            sql = sql.replaceFirst("\\?", Matcher.quoteReplacement(literal));
+        }
+        assertThat(sql).as("every parameter bound").doesNotContain("?");
+        List<String> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        String plan = String.join("\n", rows);
+        assertThat(plan).doesNotContain("tableScan");
+        return plan;
+    }
+
+    // H2 prints an index seek as "/* PUBLIC.<index>: <column> = <value> */"
+    private static String seekOn(String column) {
+        return "/\\* PUBLIC\\.\\w+: " + column + " = ";
+    }
+}
@@ -0,0 +1,144 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.LoanResponse;
+import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.repository.SqlCapture;
+import com.lender.mortgage.service.impl.LoanServiceImpl;
+import com.lender.mortgage.service.impl.StaffDirectoryServiceImpl;
+import com.lender.mortgage.service.impl.UserServiceImpl;
+import com.lender.mortgage.utils.LoanNumberGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Fixed statement counts for the loan read paths, so lazy staff loads cannot creep back
+ * in. Every loan gets its own officer and processor, which is the worst case for N+1.
+ */
+@DataJpaTest(properties = SqlCapture.PROPERTY)
+@ActiveProfiles("test")
+@Import({LoanServiceImpl.class, UserServiceImpl.class, StaffDirectoryServiceImpl.class, LoanNumberGenerator.class})
+class LoanQueryCountTest {
+
+    private static final int LOANS = 6;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private StaffDirectoryService staffDirectory;
+
+    @MockBean
+    private LoanSearchIndexService loanSearchIndexService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private LoanCountEstimateService loanCountEstimateService;
+
+    @MockBean
+    private LastLoginService lastLoginService;
+
+    private final List<Loan> loans = new ArrayList<>();
+    private User firstOfficer;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < LOANS; i++) {
+            User officer = persistUser("Officer" + i, "officer" + i + "@example.com", UserRole.LOAN_OFFICER);
+            User processor = persistUser("Processor" + i, "processor" + i + "@example.com", UserRole.PROCESSOR);
+            User underwriter = persistUser("Underwriter" + i, "underwriter" + i + "@example.com",
+                    UserRole.UNDERWRITER);
+            loans.add(persistLoan("LN000" + i, officer, processor, underwriter));
+            if (firstOfficer == null) {
+                firstOfficer = officer;
+            }
+        }
+        entityManager.flush();
+        staffDirectory.rebuild();
+        entityManager.clear();
+    }
+
+    @Test
+    void summaryLists_ShouldRunOneStatement_RegardlessOfStaffCount() {
+        // Act & Assert
+        assertThat(statements(() -> loanService.getAllLoans(PageRequest.of(0, 20)))).isEqualTo(1);
+        assertThat(statements(() -> loanService.getLoansByStatus(LoanStatus.SUBMITTED, PageRequest.of(0, 20))))
+                .isEqualTo(1);
+        assertThat(statements(() -> loanService.getAllLoans("", 20))).isEqualTo(1);
+        assertThat(statements(() -> loanService.getOverdueLoans())).isEqualTo(1);
+        // Staff lists also confirm the staff member exists
+        assertThat(statements(() -> loanService.getLoansByOfficer(firstOfficer.getId(), PageRequest.of(0, 20))))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void loanDetail_ShouldFetchStaffWithTheLoan() {
+        // Arrange
+        AtomicReference<LoanResponse> response = new AtomicReference<>();
+
+        // Act
+        int count = statements(() -> response.set(loanService.getLoanById(loans.get(0).getId())));
+
+        // Assert
+        assertThat(count).isEqualTo(1);
+        assertThat(response.get().getLoanOfficer().getFirstName()).isEqualTo("Officer0");
+        assertThat(response.get().getUnderwriter().getFirstName()).isEqualTo("Underwriter0");
+    }
+
+    @Test
+    void entityBackedSummaries_ShouldNameStaffFromTheDirectory() {
+        // Act
+        List<LoanSummaryResponse> overdue = loanService.getOverdueLoans();
+
+        // Assert
+        assertThat(overdue).hasSize(LOANS);
+        assertThat(overdue).extracting(LoanSummaryResponse::getProcessorName)
+                .allMatch(name -> name.startsWith("Processor") && name.endsWith(" Staff"));
+    }
+
+    private int statements(Runnable call) {
+        int count = SqlCapture.during(call).size();
+        entityManager.clear();
+        return count;
+    }
+
+    private User persistUser(String firstName, String email, UserRole role) {
+        User user = newUser(email, role);
+        user.setFirstName(firstName);
+        user.setLastName("Staff");
+        return entityManager.persist(user);
+    }
+
+    private Loan persistLoan(String loanNumber, User officer, User processor, User underwriter) {
+        Loan loan = newLoan(loanNumber, officer);
+        loan.setProcessor(processor);
+        loan.setUnderwriter(underwriter);
+        loan.setApplicationDate(LocalDateTime.now().minusDays(30));
+        loan.setExpectedClosingDate(LocalDateTime.now().minusDays(1));
+        return entityManager.persist(loan);
+    }
+}
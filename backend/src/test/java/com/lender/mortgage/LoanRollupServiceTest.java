@@ -0,0 +1,119 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.LoanDailyStat;
+import com.lender.mortgage.entity.LoanStatusHistory;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.repository.LoanDailyStatRepository;
+import com.lender.mortgage.service.impl.LoanRollupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(LoanRollupServiceImpl.class)
+class LoanRollupServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanRollupService loanRollupService;
+
+    @Autowired
+    private LoanDailyStatRepository dailyStatRepository;
+
+    private User officer;
+    private Loan loan;
+
+    @BeforeEach
+    void setUp() {
+        officer = persistUser(entityManager, "john.doe@example.com", UserRole.LOAN_OFFICER);
+        loan = newLoan("LN2409150001", officer);
+        loan.setStatus(LoanStatus.CLOSED);
+        loan.setLoanAmount(new BigDecimal("350000.00"));
+        loan.setApplicationDate(LocalDateTime.now().minusDays(40));
+        entityManager.persist(loan);
+    }
+
+    @Test
+    void rollUpStatusHistory_ShouldFoldHistoryIntoDailyRows_AndAdvanceWatermark() {
+        // Arrange
+        LocalDateTime closedAt = LocalDateTime.now().minusDays(10);
+        recordTransition(LoanStatus.CLOSING, closedAt.minusDays(1));
+        recordTransition(LoanStatus.CLOSED, closedAt);
+        entityManager.flush();
+
+        // Act
+        long first = loanRollupService.rollUpStatusHistory();
+        long second = loanRollupService.rollUpStatusHistory();
+
+        // Assert
+        assertThat(first).isEqualTo(2L);
+        assertThat(second).isZero();
+
+        List<LoanDailyStat> stats = dailyStatRepository.findByStatDateIn(List.of(closedAt.toLocalDate()));
+        assertThat(stats).hasSize(1);
+        LoanDailyStat closed = stats.get(0);
+        assertThat(closed.getStatus()).isEqualTo(LoanStatus.CLOSED);
+        assertThat(closed.getLoanOfficerId()).isEqualTo(officer.getId());
+        assertThat(closed.getTransitionCount()).isEqualTo(1L);
+        assertThat(closed.getTotalAmount()).isEqualByComparingTo("350000");
+        assertThat(closed.getTotalDaysFromApplication()).isEqualTo(30L);
+    }
+
+    @Test
+    void rollUpStatusHistory_ShouldAddOntoExistingRow_ForSameDayAndKey() {
+        // Arrange
+        LocalDateTime day = LocalDateTime.now().minusDays(5);
+        recordTransition(LoanStatus.PRE_UNDERWRITING, day);
+        entityManager.flush();
+        loanRollupService.rollUpStatusHistory();
+
+        recordTransition(LoanStatus.PRE_UNDERWRITING, day.plusMinutes(1));
+        entityManager.flush();
+
+        // Act
+        loanRollupService.rollUpStatusHistory();
+
+        // Assert
+        List<LoanDailyStat> stats = dailyStatRepository.findByStatDateIn(List.of(day.toLocalDate()));
+        assertThat(stats).hasSize(1);
+        assertThat(stats.get(0).getTransitionCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void rollUpStatusHistory_ShouldLeaveRecentHistory_ForNextRun() {
+        // Arrange
+        recordTransition(LoanStatus.PRE_APPROVED, LocalDateTime.now());
+        entityManager.flush();
+
+        // Act
+        long processed = loanRollupService.rollUpStatusHistory();
+
+        // Assert
+        assertThat(processed).isZero();
+        assertThat(dailyStatRepository.findByStatDateIn(List.of(LocalDate.now()))).isEmpty();
+    }
+
+    private void recordTransition(LoanStatus toStatus, LocalDateTime changedAt) {
+        LoanStatusHistory history = new LoanStatusHistory(loan, null, toStatus, officer, null);
+        history.setChangedAt(changedAt);
+        entityManager.persist(history);
+    }
+}
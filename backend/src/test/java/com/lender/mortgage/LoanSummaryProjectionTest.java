@@ -0,0 +1,150 @@
+package com.lender.mortgage.repository;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = SqlCapture.PROPERTY)
+@ActiveProfiles("test")
+class LoanSummaryProjectionTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    private User officer;
+    private User processor;
+
+    @BeforeEach
+    void setUp() {
+        officer = persistUser("Olivia", "Officer", "officer@example.com", UserRole.LOAN_OFFICER);
+        processor = persistUser("Paul", "Processor", "processor@example.com", UserRole.PROCESSOR);
+    }
+
+    @Test
+    void summaryQueries_ShouldMatchEntityMapping_InOneNarrowStatement() {
+        // Arrange
+        Loan assigned = persistLoan("LN0001", officer, processor, LoanStatus.SUBMITTED);
+        Loan unassigned = persistLoan("LN0002", null, null, LoanStatus.SUBMITTED);
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.STATEMENTS.clear();
+
+        // Act
+        Page<LoanSummaryResponse> page = loanRepository.findSummariesByStatus(LoanStatus.SUBMITTED,
+                PageRequest.of(0, 20, Sort.by("loanNumber")));
+
+        // Assert
+        List<String> statements = List.copyOf(SqlCapture.STATEMENTS);
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0).toLowerCase(Locale.ROOT)).doesNotContain("notes");
+        assertThat(page.getContent()).extracting(LoanSummaryResponse::getLoanNumber)
+                .containsExactly("LN0001", "LN0002");
+        assertThat(page.getContent().get(0)).usingRecursiveComparison()
+                .isEqualTo(new LoanSummaryResponse(entityManager.find(Loan.class, assigned.getId())));
+        assertThat(page.getContent().get(1)).usingRecursiveComparison()
+                .isEqualTo(new LoanSummaryResponse(entityManager.find(Loan.class, unassigned.getId())));
+        assertThat(page.getContent().get(0).getLoanOfficerName()).isEqualTo("Olivia Officer");
+        assertThat(page.getContent().get(1).getLoanOfficerName()).isNull();
+    }
+
+    @Test
+    void summaryQueries_ShouldPageAndFilter_LikeTheEntityQueries() {
+        // Arrange
+        persistLoan("LN0001", officer, null, LoanStatus.SUBMITTED);
+        persistLoan("LN0002", officer, processor, LoanStatus.UNDER_REVIEW);
+        persistLoan("LN0003", null, processor, LoanStatus.SUBMITTED);
+        entityManager.flush();
+
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setLoanOfficerId(officer.getId());
+
+        // Act
+        Page<LoanSummaryResponse> byOfficer = loanRepository.findSummariesByLoanOfficerId(officer.getId(),
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "loanNumber")));
+        Page<LoanSummaryResponse> filtered = loanRepository.filterSummaries(filter,
+                PageRequest.of(0, 20, Sort.by("loanNumber")));
+
+        // Assert
+        assertThat(byOfficer.getContent()).extracting(LoanSummaryResponse::getLoanNumber).containsExactly("LN0002");
+        assertThat(byOfficer.getTotalElements()).isEqualTo(2);
+        assertThat(filtered.getContent()).extracting(LoanSummaryResponse::getLoanNumber)
+                .containsExactly("LN0001", "LN0002");
+        assertThat(loanRepository.findSummariesByProcessorId(processor.getId(), PageRequest.of(0, 20))
+                .getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void summarySlice_ShouldFetchOneExtraRow_WithoutCounting() {
+        // Arrange
+        persistLoan("LN0001", officer, null, LoanStatus.SUBMITTED);
+        persistLoan("LN0002", officer, null, LoanStatus.SUBMITTED);
+        persistLoan("LN0003", officer, null, LoanStatus.SUBMITTED);
+        entityManager.flush();
+
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setStatuses(List.of(LoanStatus.SUBMITTED));
+
+        // Act
+        List<String> statements = SqlCapture.during(() -> {
+            Slice<LoanSummaryResponse> first = loanRepository.filterSummarySlice(filter,
+                    PageRequest.of(0, 2, Sort.by("loanNumber")));
+            Slice<LoanSummaryResponse> last = loanRepository.filterSummarySlice(filter,
+                    PageRequest.of(1, 2, Sort.by("loanNumber")));
+
+            // Assert
+            assertThat(first.getContent()).extracting(LoanSummaryResponse::getLoanNumber)
+                    .containsExactly("LN0001", "LN0002");
+            assertThat(first.hasNext()).isTrue();
+            assertThat(last.getContent()).extracting(LoanSummaryResponse::getLoanNumber).containsExactly("LN0003");
+            assertThat(last.hasNext()).isFalse();
+        });
+        assertThat(statements).hasSize(2).noneMatch(sql -> sql.toLowerCase(Locale.ROOT).contains("count("));
+    }
+
+    private User persistUser(String firstName, String lastName, String email, UserRole role) {
+        User user = newUser(email, role);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        return entityManager.persist(user);
+    }
+
+    private Loan persistLoan(String loanNumber, User loanOfficer, User loanProcessor, LoanStatus status) {
+        Loan loan = newLoan(loanNumber, loanOfficer);
+        loan.setStatus(status);
+        loan.setLoanAmount(new BigDecimal("320000.00"));
+        loan.setPropertyValue(new BigDecimal("400000.00"));
+        loan.setPurchasePrice(new BigDecimal("400000.00"));
+        loan.setBorrowerAnnualIncome(new BigDecimal("120000.00"));
+        loan.setPropertyCity("Austin");
+        loan.setPropertyState("TX");
+        loan.setNotes("Borrower notes that list endpoints never need");
+        loan.setProcessor(loanProcessor);
+        loan.setCreatedBy(officer);
+        loan.setApplicationDate(LocalDateTime.now().minusDays(3));
+        return entityManager.persist(loan);
+    }
+}
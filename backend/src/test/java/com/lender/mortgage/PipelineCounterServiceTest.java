@@ -0,0 +1,168 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
+import com.lender.mortgage.repository.LoanRepository;
+import com.lender.mortgage.service.impl.PipelineCounterServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineCounterServiceTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @InjectMocks
+    private PipelineCounterServiceImpl pipelineCounterService;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{LoanStatus.APPLICATION_STARTED, LoanType.CONVENTIONAL, 2L, new BigDecimal("500000.00")});
+        rows.add(new Object[]{LoanStatus.CLOSED, LoanType.FHA, 1L, new BigDecimal("150000.00")});
+        when(loanRepository.summarizeLoansByStatusAndType()).thenReturn(rows);
+        List<Object[]> assignments = new ArrayList<>();
+        assignments.add(new Object[]{LoanStatus.APPLICATION_STARTED, LoanType.CONVENTIONAL, 1L, 2L, null,
+                2L, new BigDecimal("500000.00")});
+        assignments.add(new Object[]{LoanStatus.CLOSED, LoanType.FHA, 3L, null, null, 1L, new BigDecimal("150000.00")});
+        when(loanRepository.summarizeLoansByAssignment()).thenReturn(assignments);
+        pipelineCounterService.initialize();
+    }
+
+    @Test
+    void initialize_ShouldLoadCountsFromDatabase() {
+        // Assert
+        assertThat(pipelineCounterService.isInitialized()).isTrue();
+        assertThat(pipelineCounterService.getTotalCount()).isEqualTo(3L);
+        assertThat(pipelineCounterService.getCount(LoanStatus.APPLICATION_STARTED)).isEqualTo(2L);
+        assertThat(pipelineCounterService.getCount(LoanType.FHA)).isEqualTo(1L);
+    }
+
+    @Test
+    void onLoanChanged_ShouldMoveLoanBetweenCells_WhenStatusChanges() {
+        // Arrange
+        LoanSnapshot before = snapshot(LoanStatus.APPLICATION_STARTED, "250000.00");
+        LoanSnapshot after = snapshot(LoanStatus.PRE_UNDERWRITING, "250000.00");
+
+        // Act
+        pipelineCounterService.onLoanChanged(
+                new LoanChangedEvent(LoanChangedEvent.ChangeType.STATUS_CHANGED, before, after, "lo@example.com"));
+
+        // Assert
+        assertThat(pipelineCounterService.getCount(LoanStatus.APPLICATION_STARTED)).isEqualTo(1L);
+        assertThat(pipelineCounterService.getCount(LoanStatus.PRE_UNDERWRITING)).isEqualTo(1L);
+        assertThat(pipelineCounterService.getTotalCount()).isEqualTo(3L);
+        assertThat(pipelineCounterService.summarizeByStatusAndType())
+                .anySatisfy(row -> {
+                    assertThat(row[0]).isEqualTo(LoanStatus.PRE_UNDERWRITING);
+                    assertThat((BigDecimal) row[3]).isEqualByComparingTo("250000");
+                });
+    }
+
+    @Test
+    void onLoanChanged_ShouldAddCell_WhenLoanCreated() {
+        // Act
+        pipelineCounterService.onLoanChanged(new LoanChangedEvent(LoanChangedEvent.ChangeType.CREATED,
+                null, snapshot(LoanStatus.APPLICATION_STARTED, "100000.00"), "lo@example.com"));
+
+        // Assert
+        assertThat(pipelineCounterService.getCount(LoanStatus.APPLICATION_STARTED)).isEqualTo(3L);
+        assertThat(pipelineCounterService.getCount(LoanType.CONVENTIONAL)).isEqualTo(3L);
+    }
+
+    @Test
+    void reconcile_ShouldCorrectDrift_FromDatabase() {
+        // Arrange
+        pipelineCounterService.onLoanChanged(new LoanChangedEvent(LoanChangedEvent.ChangeType.CREATED,
+                null, snapshot(LoanStatus.APPLICATION_STARTED, "100000.00"), "lo@example.com"));
+        when(loanRepository.summarizeLoansByStatusAndType()).thenReturn(Collections.singletonList(
+                new Object[]{LoanStatus.CLOSED, LoanType.FHA, 1L, new BigDecimal("150000.00")}));
+
+        // Act
+        pipelineCounterService.reconcile();
+
+        // Assert
+        assertThat(pipelineCounterService.getTotalCount()).isEqualTo(1L);
+        assertThat(pipelineCounterService.getCount(LoanStatus.APPLICATION_STARTED)).isZero();
+        assertThat(pipelineCounterService.getCount(LoanStatus.CLOSED)).isEqualTo(1L);
+    }
+
+    @Test
+    void summarizeByStatusAndType_ShouldCountSharedLoansOnce_ForStaffPartitions() {
+        // Arrange
+        LoanSnapshot created = assignedSnapshot(LoanStatus.PRE_UNDERWRITING, "300000.00", 3L, 2L);
+
+        // Act
+        pipelineCounterService.onLoanChanged(
+                new LoanChangedEvent(LoanChangedEvent.ChangeType.CREATED, null, created, "lo@example.com"));
+
+        // Assert
+        assertThat(countOf(pipelineCounterService.summarizeByStatusAndType(List.of(1L)))).isEqualTo(2L);
+        assertThat(countOf(pipelineCounterService.summarizeByStatusAndType(List.of(1L, 2L)))).isEqualTo(3L);
+        assertThat(countOf(pipelineCounterService.summarizeByStatusAndType(List.of(2L, 3L)))).isEqualTo(4L);
+        assertThat(pipelineCounterService.summarizeByStatusAndType(List.of(99L))).isEmpty();
+    }
+
+    @Test
+    void onLoanChanged_ShouldMoveLoanBetweenPartitions_WhenReassigned() {
+        // Arrange
+        LoanSnapshot before = assignedSnapshot(LoanStatus.APPLICATION_STARTED, "250000.00", 1L, 2L);
+        LoanSnapshot after = assignedSnapshot(LoanStatus.APPLICATION_STARTED, "250000.00", 3L, 2L);
+
+        // Act
+        pipelineCounterService.onLoanChanged(
+                new LoanChangedEvent(LoanChangedEvent.ChangeType.ASSIGNED, before, after, "mgr@example.com"));
+
+        // Assert
+        assertThat(countOf(pipelineCounterService.summarizeByStatusAndType(List.of(1L)))).isEqualTo(1L);
+        assertThat(countOf(pipelineCounterService.summarizeByStatusAndType(List.of(3L)))).isEqualTo(2L);
+        assertThat(countOf(pipelineCounterService.summarizeByStatusAndType(List.of(2L)))).isEqualTo(2L);
+    }
+
+    private static long countOf(List<Object[]> rows) {
+        return rows.stream().mapToLong(row -> (Long) row[2]).sum();
+    }
+
+    private LoanSnapshot assignedSnapshot(LoanStatus status, String amount, Long officerId, Long processorId) {
+        Loan loan = new Loan();
+        loan.setId(7L);
+        loan.setStatus(status);
+        loan.setLoanType(LoanType.CONVENTIONAL);
+        loan.setLoanAmount(new BigDecimal(amount));
+        loan.setLoanOfficer(staff(officerId));
+        loan.setProcessor(staff(processorId));
+        return new LoanSnapshot(loan);
+    }
+
+    private static User staff(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private LoanSnapshot snapshot(LoanStatus status, String amount) {
+        Loan loan = new Loan();
+        loan.setId(42L);
+        loan.setStatus(status);
+        loan.setLoanType(LoanType.CONVENTIONAL);
+        loan.setLoanAmount(new BigDecimal(amount));
+        return new LoanSnapshot(loan);
+    }
+}
@@ -0,0 +1,147 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.request.LoanFilterRequest;
+import com.lender.mortgage.dto.request.SavedLoanFilterRequest;
+import com.lender.mortgage.dto.response.LoanSummaryResponse;
+import com.lender.mortgage.dto.response.SavedLoanFilterResponse;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.event.LoanChangedEvent;
+import com.lender.mortgage.event.LoanSnapshot;
+import com.lender.mortgage.service.impl.SavedLoanFilterServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SavedLoanFilterServiceImpl.class, JacksonAutoConfiguration.class})
+class SavedLoanFilterServiceTest {
+
+    private static final String OWNER_EMAIL = "processor@example.com";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SavedLoanFilterServiceImpl savedFilterService;
+
+    @MockBean
+    private UserService userService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser(entityManager, OWNER_EMAIL, UserRole.PROCESSOR);
+        when(userService.getUserEntityByEmail(OWNER_EMAIL)).thenReturn(owner);
+    }
+
+    @Test
+    void savedFilter_ShouldServeMaterializedIds_AndPatchThemFromLoanWrites() {
+        // Arrange
+        persistLoan("LN0001", LoanType.FHA, "650000.00", 5);
+        Loan tooSmall = persistLoan("LN0002", LoanType.FHA, "350000.00", 5);
+        persistLoan("LN0003", LoanType.FHA, "700000.00", 40);
+        persistLoan("LN0004", LoanType.CONVENTIONAL, "800000.00", 5);
+        entityManager.flush();
+
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setTypes(List.of(LoanType.FHA));
+        filter.setMinAmount(new BigDecimal("500000"));
+        filter.setClosingWithinDays(14);
+        SavedLoanFilterRequest request = new SavedLoanFilterRequest();
+        request.setName("FHA over 500k closing soon");
+        request.setFilter(filter);
+        SavedLoanFilterResponse saved = savedFilterService.createFilter(request, OWNER_EMAIL);
+
+        // Act
+        List<String> opened = loanNumbers(saved.getId());
+        Loan unannounced = persistLoan("LN0005", LoanType.FHA, "900000.00", 3);
+        entityManager.flush();
+        List<String> beforeWrite = loanNumbers(saved.getId());
+        LoanSnapshot before = new LoanSnapshot(tooSmall);
+        tooSmall.setLoanAmount(new BigDecimal("550000.00"));
+        savedFilterService.onLoanChanged(new LoanChangedEvent(LoanChangedEvent.ChangeType.UPDATED,
+                before, new LoanSnapshot(tooSmall), OWNER_EMAIL));
+        savedFilterService.onLoanChanged(new LoanChangedEvent(LoanChangedEvent.ChangeType.CREATED,
+                null, new LoanSnapshot(unannounced), OWNER_EMAIL));
+        List<String> afterWrites = loanNumbers(saved.getId());
+
+        // Assert
+        assertThat(opened).containsExactly("LN0001");
+        // Opening again reads the materialized set, not the loans table
+        assertThat(beforeWrite).containsExactly("LN0001");
+        assertThat(afterWrites).containsExactly("LN0005", "LN0002", "LN0001");
+        assertThat(savedFilterService.getFilters(OWNER_EMAIL)).singleElement()
+                .satisfies(response -> assertThat(response.getFilter().getClosingWithinDays()).isEqualTo(14));
+    }
+
+    @Test
+    void materializedSets_ShouldBeBounded_AndReloadAfterEviction() {
+        // Arrange
+        ReflectionTestUtils.setField(savedFilterService, "maxMaterialized", 1);
+        persistLoan("LN0001", LoanType.FHA, "650000.00", 5);
+        persistLoan("LN0002", LoanType.CONVENTIONAL, "450000.00", 5);
+        entityManager.flush();
+        SavedLoanFilterResponse fha = saveFilter("FHA", LoanType.FHA);
+        SavedLoanFilterResponse conventional = saveFilter("Conventional", LoanType.CONVENTIONAL);
+
+        // Act
+        List<String> fhaOpened = loanNumbers(fha.getId());
+        List<String> conventionalOpened = loanNumbers(conventional.getId());
+        // Not announced, so only a reload of the evicted FHA set can see it
+        persistLoan("LN0003", LoanType.FHA, "700000.00", 5);
+        entityManager.flush();
+        List<String> fhaReopened = loanNumbers(fha.getId());
+
+        // Assert
+        assertThat(fhaOpened).containsExactly("LN0001");
+        assertThat(conventionalOpened).containsExactly("LN0002");
+        assertThat(fhaReopened).containsExactly("LN0003", "LN0001");
+        assertThat((Map<Long, ?>) ReflectionTestUtils.getField(savedFilterService, "materialized"))
+                .containsOnlyKeys(fha.getId());
+    }
+
+    private SavedLoanFilterResponse saveFilter(String name, LoanType type) {
+        LoanFilterRequest filter = new LoanFilterRequest();
+        filter.setTypes(List.of(type));
+        SavedLoanFilterRequest request = new SavedLoanFilterRequest();
+        request.setName(name);
+        request.setFilter(filter);
+        return savedFilterService.createFilter(request, OWNER_EMAIL);
+    }
+
+    private List<String> loanNumbers(Long filterId) {
+        return savedFilterService.getFilterLoans(filterId, OWNER_EMAIL, PageRequest.of(0, 20)).getContent().stream()
+                .map(LoanSummaryResponse::getLoanNumber)
+                .toList();
+    }
+
+    private Loan persistLoan(String loanNumber, LoanType type, String amount, int closingInDays) {
+        Loan loan = newLoan(loanNumber, owner);
+        loan.setLoanType(type);
+        loan.setLoanAmount(new BigDecimal(amount));
+        loan.setExpectedClosingDate(LocalDateTime.now().plusDays(closingInDays));
+        return entityManager.persist(loan);
+    }
+}
@@ -0,0 +1,33 @@
+package com.lender.mortgage.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records every SQL statement Hibernate prepares. Enable it on a test slice with
+ * {@link #PROPERTY}, then count or inspect what a call actually sent.
+ */
+public class SqlCapture implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.lender.mortgage.repository.SqlCapture";
+
+    public static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /**
+     * Statements prepared while running the action
+     */
+    public static List<String> during(Runnable action) {
+        STATEMENTS.clear();
+        action.run();
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,115 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.DurationStatsResponse;
+import com.lender.mortgage.dto.response.StageDurationsResponse;
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.LoanStatusHistory;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.service.impl.StageDurationServiceImpl;
+import com.lender.mortgage.utils.LogHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static com.lender.mortgage.TestFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(StageDurationServiceImpl.class)
+class StageDurationServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StageDurationService stageDurationService;
+
+    private User officer;
+
+    @BeforeEach
+    void setUp() {
+        officer = persistUser(entityManager, "john.doe@example.com", UserRole.LOAN_OFFICER);
+    }
+
+    @Test
+    void refresh_ShouldPairConsecutiveTransitions_PerLoan() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().minusDays(60);
+        Loan fha = persistLoan("LN0001", LoanType.FHA);
+        recordTransition(fha, null, LoanStatus.APPLICATION_STARTED, start);
+        recordTransition(fha, LoanStatus.APPLICATION_STARTED, LoanStatus.PRE_UNDERWRITING, start.plusDays(2));
+        recordTransition(fha, LoanStatus.PRE_UNDERWRITING, LoanStatus.CLOSED, start.plusDays(12));
+
+        Loan conventional = persistLoan("LN0002", LoanType.CONVENTIONAL);
+        recordTransition(conventional, null, LoanStatus.APPLICATION_STARTED, start.plusDays(1));
+        recordTransition(conventional, LoanStatus.APPLICATION_STARTED, LoanStatus.PRE_UNDERWRITING, start.plusDays(5));
+        entityManager.flush();
+
+        // Act
+        stageDurationService.refresh();
+        StageDurationsResponse result = stageDurationService.getStageDurations();
+
+        // Assert
+        assertThat(result.getTransitionsScanned()).isEqualTo(5L);
+        DurationStatsResponse started = result.getByStatus().stream()
+                .filter(stats -> stats.getStatus() == LoanStatus.APPLICATION_STARTED)
+                .findFirst().orElseThrow();
+        assertThat(started.getSampleCount()).isEqualTo(2L);
+        assertThat(started.getMeanDays()).isEqualTo(3.0);
+        assertThat(started.getMaxDays()).isEqualTo(4.0);
+
+        // The still-open PRE_UNDERWRITING stage of the second loan is not counted
+        assertThat(result.getByStatus()).filteredOn(stats -> stats.getStatus() == LoanStatus.PRE_UNDERWRITING)
+                .singleElement().satisfies(stats -> assertThat(stats.getSampleCount()).isEqualTo(1L));
+        assertThat(result.getByStatusAndLoanType())
+                .anySatisfy(stats -> {
+                    assertThat(stats.getStatus()).isEqualTo(LoanStatus.APPLICATION_STARTED);
+                    assertThat(stats.getLoanType()).isEqualTo(LoanType.CONVENTIONAL);
+                    assertThat(stats.getMeanDays()).isEqualTo(4.0);
+                });
+        assertThat(result.getDaysToClose()).extracting(DurationStatsResponse::getLoanType, DurationStatsResponse::getMeanDays)
+                .containsExactly(tuple(null, 12.0), tuple(LoanType.FHA, 12.0));
+    }
+
+    @Test
+    void logHistogram_ShouldEstimateQuantiles_WithinRelativeError() {
+        // Arrange
+        LogHistogram histogram = new LogHistogram(0.001, 10_000, 0.02);
+
+        // Act
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        // Assert
+        assertThat(histogram.getCount()).isEqualTo(1000L);
+        assertThat(histogram.getMean()).isEqualTo(500.5);
+        assertThat(histogram.quantile(0.50)).isCloseTo(500, withinPercentage(3));
+        assertThat(histogram.quantile(0.99)).isCloseTo(990, withinPercentage(3));
+        assertThat(histogram.quantile(1.0)).isEqualTo(1000.0);
+    }
+
+    private Loan persistLoan(String loanNumber, LoanType loanType) {
+        Loan loan = newLoan(loanNumber, officer);
+        loan.setStatus(LoanStatus.APPLICATION_STARTED);
+        loan.setLoanType(loanType);
+        loan.setApplicationDate(LocalDateTime.now().minusDays(90));
+        return entityManager.persist(loan);
+    }
+
+    private void recordTransition(Loan loan, LoanStatus from, LoanStatus to, LocalDateTime changedAt) {
+        LoanStatusHistory history = new LoanStatusHistory(loan, from, to, officer, null);
+        history.setChangedAt(changedAt);
+        entityManager.persist(history);
+    }
+}
@@ -0,0 +1,60 @@
+package com.lender.mortgage;
+
+import com.lender.mortgage.entity.Loan;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.LoanStatus;
+import com.lender.mortgage.entity.enums.LoanType;
+import com.lender.mortgage.entity.enums.UserRole;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Smallest valid users and loans for JPA tests. Tests adjust the fields they are about
+ * on the unsaved entity and persist it, or persist the defaults directly.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * A user named First Last with a placeholder password hash
+     */
+    public static User newUser(String email, UserRole role) {
+        User user = new User();
+        user.setFirstName("First");
+        user.setLastName("Last");
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setRole(role);
+        return user;
+    }
+
+    /**
+     * A submitted conventional loan for Jane Smith, originated and created by the officer
+     */
+    public static Loan newLoan(String loanNumber, User officer) {
+        Loan loan = new Loan();
+        loan.setLoanNumber(loanNumber);
+        loan.setStatus(LoanStatus.SUBMITTED);
+        loan.setLoanType(LoanType.CONVENTIONAL);
+        loan.setLoanAmount(new BigDecimal("300000.00"));
+        loan.setBorrowerFirstName("Jane");
+        loan.setBorrowerLastName("Smith");
+        loan.setBorrowerEmail("jane.smith@example.com");
+        loan.setLoanOfficer(officer);
+        loan.setCreatedBy(officer);
+        loan.setApplicationDate(LocalDateTime.now());
+        return loan;
+    }
+
+    public static User persistUser(TestEntityManager entityManager, String email, UserRole role) {
+        return entityManager.persist(newUser(email, role));
+    }
+
+    public static Loan persistLoan(TestEntityManager entityManager, String loanNumber, User officer) {
+        return entityManager.persist(newLoan(loanNumber, officer));
+    }
+}
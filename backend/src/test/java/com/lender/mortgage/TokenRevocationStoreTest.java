@@ -0,0 +1,96 @@
+package com.lender.mortgage.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenRevocationStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<TokenRevocationStore> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(TokenRevocationStore::close);
+    }
+
+    @Test
+    void revocations_ShouldSurviveARestart_UntilTheTokensExpire() throws Exception {
+        // Arrange
+        TokenRevocationStore store = open();
+        Instant soon = Instant.now().plusSeconds(60);
+        store.revoke("jti-1", soon);
+        store.revoke("jti-2", Instant.now().plusSeconds(3600));
+        store.revoke("jti-expired", Instant.now().minusSeconds(1));
+
+        // Act
+        TokenRevocationStore restarted = open();
+
+        // Assert
+        assertThat(store.isRevoked("jti-1")).isTrue();
+        assertThat(store.isRevoked("jti-3")).isFalse();
+        assertThat(store.isRevoked("jti-expired")).isFalse();
+        assertThat(restarted.isRevoked("jti-1")).isTrue();
+        assertThat(restarted.isRevoked("jti-2")).isTrue();
+        assertThat(restarted.size()).isEqualTo(2);
+
+        restarted.removeExpired(soon.toEpochMilli());
+        assertThat(restarted.isRevoked("jti-1")).isFalse();
+        assertThat(restarted.isRevoked("jti-2")).isTrue();
+        assertThat(Files.readAllLines(dir.resolve("revoked.log"))).hasSize(1);
+    }
+
+    @Test
+    void revoke_ShouldBeSafe_UnderConcurrentLogoutsAndLookups() throws Exception {
+        // Arrange
+        TokenRevocationStore store = open();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        // Act
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread * 500;
+            tasks.add(pool.submit(() -> {
+                for (int i = offset; i < offset + 500; i++) {
+                    store.revoke("jti-" + i, expiresAt);
+                    assertThat(store.isRevoked("jti-" + i)).isTrue();
+                    store.isRevoked("other-" + i);
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Assert
+        assertThat(store.size()).isEqualTo(4000);
+        assertThat(Files.readAllLines(dir.resolve("revoked.log"))).hasSize(4000);
+        assertThat(open().size()).isEqualTo(4000);
+    }
+
+    private TokenRevocationStore open() {
+        TokenRevocationStore store = new TokenRevocationStore();
+        ReflectionTestUtils.setField(store, "storeFile", dir.resolve("revoked.log").toString());
+        ReflectionTestUtils.setField(store, "expectedEntries", 1000);
+        store.init();
+        opened.add(store);
+        return store;
+    }
+}
@@ -0,0 +1,110 @@
+package com.lender.mortgage.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Loan number, last name, first name, address
+        index = new TrigramIndex(4, 3, 2, 1);
+    }
+
+    @Test
+    void search_ShouldRankExactAndPrefixMatches_AboveSubstrings() {
+        // Arrange
+        index.put(1, "LN0001", "Smithson", "Anna", "12 Oak Street");
+        index.put(2, "LN0002", "Smith", "John", "4 Elm Road");
+        index.put(3, "LN0003", "Goldsmith", "Mary", "9 Smith Lane");
+        index.put(4, "LN0004", "Brown", "Eve", "1 Pine Way");
+
+        // Act
+        int[] result = index.search("SMITH", 10).getIds();
+
+        // Assert
+        assertThat(result).containsExactly(2, 1, 3);
+        assertThat(index.search("oak st", 10).getIds()).containsExactly(1);
+        assertThat(index.search("zzz", 10).getTotal()).isZero();
+        assertThat(index.search("sm", 10)).isNull();
+        assertThat(index.search("smith", 1).getIds()).containsExactly(2);
+        assertThat(index.search("smith", 1).getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void put_ShouldReplaceOldTerms_AndRemoveShouldDropDocument() {
+        // Arrange
+        index.put(7, "LN0007", "Taylor", "Sam", "5 Birch Court");
+
+        // Act
+        index.put(7, "LN0007", "Walker", "Sam", "5 Birch Court");
+
+        // Assert
+        assertThat(index.search("taylor", 10).getTotal()).isZero();
+        assertThat(index.search("walker", 10).getIds()).containsExactly(7);
+
+        index.remove(7);
+        assertThat(index.search("birch", 10).getTotal()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void search_ShouldNotConfuseNonAsciiCharacters_InThreeCharacterQueries() {
+        // Arrange
+        TrigramIndex index = new TrigramIndex(1);
+        // U+0461 and 'a' share their low ten bits
+        index.put(1, "\u0461bc");
+        index.put(2, "xabc");
+        index.put(3, "caf\u00e9");
+
+        // Act
+        TrigramIndex.Result ascii = index.search("abc", 10);
+        TrigramIndex.Result cyrillic = index.search("\u0461bc", 10);
+        TrigramIndex.Result accented = index.search("af\u00c9", 10);
+
+        // Assert
+        assertThat(ascii.getIds()).containsExactly(2);
+        assertThat(cyrillic.getIds()).containsExactly(1);
+        assertThat(accented.getIds()).containsExactly(3);
+    }
+
+    @Test
+    void search_ShouldMatchBruteForce_OnRandomDocuments() {
+        // Arrange
+        Random random = new Random(42);
+        String[] names = {"smith", "johnson", "garcia", "miller", "davis", "martinez", "lopez", "wilson"};
+        List<String> lastNames = new ArrayList<>();
+        // Shuffled ids exercise out-of-order inserts into the posting lists
+        for (int i = 0; i < 2000; i++) {
+            int id = (i * 7919) % 2000;
+            String lastName = names[random.nextInt(names.length)] + random.nextInt(50);
+            while (lastNames.size() <= id) {
+                lastNames.add(null);
+            }
+            lastNames.set(id, lastName);
+            index.put(id, "LN" + id, lastName, "First", "Main Street");
+        }
+
+        // Act
+        int[] result = index.search("son1", Integer.MAX_VALUE).getIds();
+
+        // Assert
+        List<Integer> expected = new ArrayList<>();
+        for (int id = 0; id < lastNames.size(); id++) {
+            if (lastNames.get(id).toLowerCase(Locale.ROOT).contains("son1")) {
+                expected.add(id);
+            }
+        }
+        assertThat(result).hasSize(expected.size());
+        assertThat(result).containsExactlyInAnyOrder(expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+}
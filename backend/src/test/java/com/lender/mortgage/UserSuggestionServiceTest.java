@@ -0,0 +1,93 @@
+package com.lender.mortgage.service;
+
+import com.lender.mortgage.dto.response.UserResponse;
+import com.lender.mortgage.entity.User;
+import com.lender.mortgage.entity.enums.UserRole;
+import com.lender.mortgage.event.UserChangedEvent;
+import com.lender.mortgage.event.UserSnapshot;
+import com.lender.mortgage.repository.UserRepository;
+import com.lender.mortgage.service.impl.UserSuggestionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSuggestionServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserSuggestionServiceImpl suggestionService;
+
+    private User olivia;
+    private User oscar;
+    private User paula;
+
+    @BeforeEach
+    void setUp() {
+        olivia = user(1L, "Olivia", "Owens", "olivia.owens@example.com", UserRole.LOAN_OFFICER);
+        oscar = user(2L, "Oscar", "Diaz", "odiaz@example.com", UserRole.LOAN_OFFICER);
+        paula = user(3L, "Paula", "Olsen", "paula@example.com", UserRole.PROCESSOR);
+        when(userRepository.findByActiveTrue()).thenReturn(List.of(olivia, oscar, paula));
+        suggestionService.rebuild();
+    }
+
+    @Test
+    void suggest_ShouldMatchAnyNamePrefixOrEmail_WithinTheRole() {
+        // Act & Assert
+        assertThat(names(suggestionService.suggest("O", null, 10)))
+                .containsExactly("Oscar Diaz", "Olivia Owens", "Paula Olsen");
+        assertThat(names(suggestionService.suggest("o", UserRole.LOAN_OFFICER, 10)))
+                .containsExactly("Oscar Diaz", "Olivia Owens");
+        assertThat(names(suggestionService.suggest("olivia o", null, 10))).containsExactly("Olivia Owens");
+        assertThat(names(suggestionService.suggest("paula@", UserRole.PROCESSOR, 10))).containsExactly("Paula Olsen");
+        assertThat(suggestionService.suggest("o", UserRole.UNDERWRITER, 10)).isEmpty();
+        assertThat(suggestionService.suggest("o", null, 1)).hasSize(1);
+        verify(userRepository, never()).findActiveUsersBySearch(any(), any());
+    }
+
+    @Test
+    void userChanges_ShouldMoveOrDropUsers() {
+        // Arrange
+        UserSnapshot before = new UserSnapshot(oscar);
+        oscar.setRole(UserRole.UNDERWRITER);
+        oscar.setLastName("Ortiz");
+        UserSnapshot promoted = new UserSnapshot(oscar);
+        paula.setActive(false);
+
+        // Act
+        suggestionService.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.UPDATED, before, promoted));
+        suggestionService.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.DEACTIVATED,
+                null, new UserSnapshot(paula)));
+
+        // Assert
+        assertThat(names(suggestionService.suggest("o", UserRole.LOAN_OFFICER, 10))).containsExactly("Olivia Owens");
+        assertThat(names(suggestionService.suggest("ortiz", UserRole.UNDERWRITER, 10))).containsExactly("Oscar Ortiz");
+        assertThat(suggestionService.suggest("diaz", null, 10)).isEmpty();
+        assertThat(suggestionService.suggest("paula", null, 10)).isEmpty();
+    }
+
+    private static List<String> names(List<UserResponse> users) {
+        return users.stream().map(UserResponse::getFullName).toList();
+    }
+
+    private static User user(Long id, String firstName, String lastName, String email, UserRole role) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setRole(role);
+        user.setActive(true);
+        return user;
+    }
+}
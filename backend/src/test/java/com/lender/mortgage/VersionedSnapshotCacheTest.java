@@ -0,0 +1,78 @@
+package com.lender.mortgage.utils;
+
+import com.lender.mortgage.utils.VersionedSnapshotCache.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VersionedSnapshotCacheTest {
+
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final AtomicInteger computations = new AtomicInteger();
+    private VersionedSnapshotCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VersionedSnapshotCache<>(pendingRefreshes::add, value -> "\"" + value + "\"", nanos -> { }, 60_000);
+    }
+
+    @Test
+    void get_ShouldComputeOnce_AndServeHitsAfterwards() {
+        // Act
+        Snapshot<String> first = cache.get("all", this::load);
+        Snapshot<String> second = cache.get("all", this::load);
+
+        // Assert
+        assertThat(first.getValue()).isEqualTo("v1");
+        assertThat(second).isSameAs(first);
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void get_ShouldServeStaleValue_WhileSingleRefreshRuns() {
+        // Arrange
+        cache.get("all", this::load);
+        cache.invalidate();
+
+        // Act
+        Snapshot<String> stale1 = cache.get("all", this::load);
+        Snapshot<String> stale2 = cache.get("all", this::load);
+
+        // Assert
+        assertThat(stale1.getValue()).isEqualTo("v1");
+        assertThat(stale2.getValue()).isEqualTo("v1");
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.remove(0).run();
+        Snapshot<String> refreshed = cache.get("all", this::load);
+        assertThat(refreshed.getValue()).isEqualTo("v2");
+        assertThat(refreshed.getVersion()).isEqualTo(1L);
+        assertThat(cache.getStaleHitCount()).isEqualTo(2L);
+        assertThat(cache.getHitRatio()).isEqualTo(0.75);
+    }
+
+    @Test
+    void matches_ShouldHonourIfNoneMatchForms() {
+        // Arrange
+        Snapshot<String> snapshot = cache.get("all", this::load);
+
+        // Assert
+        assertThat(snapshot.getETag()).isEqualTo("\"v1\"");
+        assertThat(snapshot.matches("\"v1\"")).isTrue();
+        assertThat(snapshot.matches("\"other\", W/\"v1\"")).isTrue();
+        assertThat(snapshot.matches("*")).isTrue();
+        assertThat(snapshot.matches("\"v0\"")).isFalse();
+        assertThat(snapshot.matches(null)).isFalse();
+    }
+
+    private String load() {
+        return "v" + computations.incrementAndGet();
+    }
+}
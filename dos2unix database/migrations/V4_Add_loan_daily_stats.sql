@@ -0,0 +1,53 @@
+-- =============================================================================
+-- Migration V4: Add Loan Daily Stats Rollup
+-- Description: Daily rollup of loan status transitions for dashboard period
+--              metrics, plus the watermark table used by incremental jobs
+-- =============================================================================
+
+-- =============================================================================
+-- CREATE SEQUENCE FOR DAILY STATS
+-- =============================================================================
+
+CREATE SEQUENCE daily_stats_sequence 
+    START WITH 1 
+    INCREMENT BY 50 
+    NOCACHE 
+    NOCYCLE;
+
+-- =============================================================================
+-- LOAN DAILY STATS TABLE
+-- =============================================================================
+
+CREATE TABLE loan_daily_stats (
+    id                          NUMBER PRIMARY KEY,
+    stat_date                   DATE NOT NULL,
+    status                      VARCHAR2(50) NOT NULL,
+    loan_type                   VARCHAR2(50) NOT NULL,
+    loan_officer_id             NUMBER,
+    transition_count            NUMBER DEFAULT 0 NOT NULL,
+    total_amount                NUMBER(15,2) DEFAULT 0 NOT NULL,
+    total_days_from_application NUMBER DEFAULT 0 NOT NULL,
+    
+    -- Foreign Keys
+    CONSTRAINT fk_daily_stats_officer FOREIGN KEY (loan_officer_id) REFERENCES users(id)
+);
+
+-- =============================================================================
+-- ROLLUP WATERMARKS TABLE
+-- =============================================================================
+
+CREATE TABLE rollup_watermarks (
+    job_name                    VARCHAR2(50) PRIMARY KEY,
+    last_processed_id           NUMBER DEFAULT 0 NOT NULL,
+    updated_at                  TIMESTAMP
+);
+
+-- =============================================================================
+-- INDEXES FOR DAILY STATS
+-- =============================================================================
+
+CREATE INDEX idx_daily_stats_key ON loan_daily_stats(stat_date, status, loan_type, loan_officer_id);
+CREATE INDEX idx_daily_stats_status_date ON loan_daily_stats(status, stat_date);
+
+-- Commit the migration
+COMMIT;
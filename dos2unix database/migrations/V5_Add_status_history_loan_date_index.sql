@@ -0,0 +1,10 @@
+-- =============================================================================
+-- Migration V5: Add Status History (loan, date) Index
+-- Description: Lets the stage-duration job read loan_status_history in
+--              (loan_id, changed_at) order straight off the index
+-- =============================================================================
+
+CREATE INDEX idx_status_history_loan_date ON loan_status_history(loan_id, changed_at);
+
+-- Commit the migration
+COMMIT;
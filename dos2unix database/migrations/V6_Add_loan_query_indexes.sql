@@ -0,0 +1,55 @@
+-- =============================================================================
+-- Migration V6: Add Loan Query Indexes
+-- Description: Composite indexes matched to LoanRepository query shapes.
+--              Replaces single-column indexes that are now leading prefixes
+--              of a composite index. Mirrors the @Index list on Loan, which
+--              is what builds the H2 schema in dev and test.
+-- =============================================================================
+
+-- =============================================================================
+-- DROP INDEXES SUPERSEDED BY COMPOSITES
+-- =============================================================================
+
+DROP INDEX idx_loans_status;
+DROP INDEX idx_loans_expected_closing;
+DROP INDEX idx_loans_loan_officer_id;
+DROP INDEX idx_loans_processor_id;
+DROP INDEX idx_loans_underwriter_id;
+
+-- =============================================================================
+-- STATUS AND DEADLINE
+-- =============================================================================
+
+-- findByStatus, findByStatusIn, countByStatus, findLoansReadyToClearToClose
+CREATE INDEX idx_loan_status_closing ON loans(status, expected_closing_date);
+
+-- findOverdueLoans, findLoansClosingSoon, findActiveClosingDeadlines:
+-- status is filtered with NOT IN, so the deadline range has to lead
+CREATE INDEX idx_loan_closing_status ON loans(expected_closing_date, status);
+
+-- =============================================================================
+-- STAFF ASSIGNMENT (also keyset pagination on created_at, id)
+-- =============================================================================
+
+CREATE INDEX idx_loan_officer_created ON loans(loan_officer_id, created_at);
+CREATE INDEX idx_loan_processor_created ON loans(processor_id, created_at);
+CREATE INDEX idx_loan_underwriter_created ON loans(underwriter_id, created_at);
+
+-- =============================================================================
+-- BORROWER AND CREATION DATE
+-- =============================================================================
+
+-- findByBorrowerEmail
+CREATE INDEX idx_loan_borrower_email ON loans(borrower_email);
+
+-- findByCreatedAtBetween and the newest-first loan list
+CREATE INDEX idx_loan_created ON loans(created_at);
+
+-- Refresh optimizer statistics for the new indexes
+BEGIN
+    DBMS_STATS.GATHER_TABLE_STATS(USER, 'LOANS', cascade => TRUE);
+END;
+/
+
+-- Commit the migration
+COMMIT;
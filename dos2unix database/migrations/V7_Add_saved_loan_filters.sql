@@ -0,0 +1,37 @@
+-- =============================================================================
+-- Migration V7: Add Saved Loan Filters
+-- Description: Named loan filters per user; criteria are stored as JSON and the
+--              matching loan ids are materialized in memory by the application
+-- =============================================================================
+
+-- =============================================================================
+-- CREATE SEQUENCE FOR SAVED FILTERS
+-- =============================================================================
+
+CREATE SEQUENCE saved_filter_sequence 
+    START WITH 1 
+    INCREMENT BY 1 
+    NOCACHE 
+    NOCYCLE;
+
+-- =============================================================================
+-- SAVED LOAN FILTERS TABLE
+-- =============================================================================
+
+CREATE TABLE saved_loan_filters (
+    id                          NUMBER PRIMARY KEY,
+    owner_id                    NUMBER NOT NULL,
+    name                        VARCHAR2(100) NOT NULL,
+    criteria                    VARCHAR2(4000) NOT NULL,
+    created_at                  TIMESTAMP NOT NULL,
+    updated_at                  TIMESTAMP,
+    
+    -- Foreign Keys
+    CONSTRAINT fk_saved_filter_owner FOREIGN KEY (owner_id) REFERENCES users(id),
+    
+    -- Constraints
+    CONSTRAINT uk_saved_filter_owner_name UNIQUE (owner_id, name)
+);
+
+-- Commit the migration
+COMMIT;